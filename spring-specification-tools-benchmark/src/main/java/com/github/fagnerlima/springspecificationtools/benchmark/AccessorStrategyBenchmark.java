@@ -0,0 +1,123 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.fagnerlima.springspecificationtools.benchmark.filter.FlatTaskFilter;
+import com.github.fagnerlima.springspecificationtools.util.AccessorStrategy;
+import com.github.fagnerlima.springspecificationtools.util.FieldUtils;
+
+/**
+ * Reading the fields of a filter with each {@link AccessorStrategy}, compared with calling the getter directly and
+ * with the path of the version 0.3: a {@code PropertyDescriptor} introspected on each read and
+ * {@code Method.invoke}, with the fields without a getter (e.g. {@code serialVersionUID}) skipped by the
+ * {@code IntrospectionException}. The {@code *AllFields} benchmarks read all of the fields of the filter, with the
+ * accessors of the readable fields decided once, like the plans.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccessorStrategyBenchmark {
+
+    private FlatTaskFilter filter;
+    private List<Field> fields;
+
+    @Setup
+    public void setup() {
+        filter = (FlatTaskFilter) BenchmarkFilter.FLAT.create();
+        fields = FieldUtils.getAllFields(FlatTaskFilter.class);
+    }
+
+    @Benchmark
+    public Object accessor(Accessors accessors) {
+        return accessors.accessor.apply(filter);
+    }
+
+    @Benchmark
+    public void accessorAllFields(Accessors accessors, Blackhole blackhole) {
+        for (Function<Object, Object> accessor : accessors.allFields) {
+            blackhole.consume(accessor.apply(filter));
+        }
+    }
+
+    @Benchmark
+    public Object getter() {
+        return filter.getDescription();
+    }
+
+    @Benchmark
+    public Object introspection() throws Exception {
+        return FieldUtils.findGetterMethod("description", FlatTaskFilter.class).invoke(filter);
+    }
+
+    @Benchmark
+    public void introspectionAllFields(Blackhole blackhole) {
+        for (Field field : fields) {
+            try {
+                Method getterMethod = FieldUtils.findGetterMethod(field.getName(), FlatTaskFilter.class);
+                blackhole.consume(getterMethod.invoke(filter));
+            } catch (Exception exception) {
+                continue;
+            }
+        }
+    }
+
+    /**
+     * The accessors of the fields created with the strategy.
+     */
+    @State(Scope.Thread)
+    public static class Accessors {
+
+        @Param
+        public AccessorStrategy strategy;
+
+        private Function<Object, Object> accessor;
+        private List<Function<Object, Object>> allFields;
+
+        @Setup
+        public void setup() throws NoSuchFieldException {
+            AccessorStrategy previousStrategy = FieldUtils.getAccessorStrategy();
+            FieldUtils.setAccessorStrategy(strategy);
+
+            try {
+                accessor = FieldUtils.getAccessor(FlatTaskFilter.class.getDeclaredField("description"),
+                        FlatTaskFilter.class);
+                allFields = new ArrayList<>();
+
+                for (Field field : FieldUtils.getAllFields(FlatTaskFilter.class)) {
+                    Function<Object, Object> fieldAccessor = FieldUtils.getAccessor(field, FlatTaskFilter.class);
+
+                    if (fieldAccessor != null) {
+                        allFields.add(fieldAccessor);
+                    }
+                }
+            } finally {
+                FieldUtils.setAccessorStrategy(previousStrategy);
+            }
+        }
+
+    }
+
+}
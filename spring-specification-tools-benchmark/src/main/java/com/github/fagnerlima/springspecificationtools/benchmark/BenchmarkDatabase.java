@@ -0,0 +1,125 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.github.fagnerlima.springspecificationtools.SpecFactory;
+import com.github.fagnerlima.springspecificationtools.StringNormalizationDialect;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Period;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Tag;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * The in-memory H2 database of the benchmarks, created and populated once per JVM (i.e. per fork).
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public final class BenchmarkDatabase {
+
+    public static final int TASKS = 10_000;
+    public static final int TAGS = 50;
+    public static final LocalDate START_DATE = LocalDate.of(2020, 1, 1);
+
+    private static final int FLUSH_SIZE = 1000;
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * Get the EntityManagerFactory of the database, creating and populating it on the first call. The default
+     * dialect of the operations that ignore case is defined as {@link StringNormalizationDialect#h2()}.
+     *
+     * @return the EntityManagerFactory
+     */
+    public static synchronized EntityManagerFactory getEntityManagerFactory() {
+        if (entityManagerFactory == null) {
+            SpecFactory.setDefaultDialect(StringNormalizationDialect.h2());
+            entityManagerFactory = Persistence.createEntityManagerFactory("benchmark");
+            populate(entityManagerFactory);
+        }
+
+        return entityManagerFactory;
+    }
+
+    /**
+     * Find a page of tasks with a Criteria query, without the count query of the repositories.
+     *
+     * @param entityManager the EntityManager
+     * @param spec the Specification, or {@code null}
+     * @param sort the order of the tasks
+     * @param offset the index of the first task
+     * @param size the maximum number of tasks
+     * @return the tasks
+     */
+    public static List<Task> find(EntityManager entityManager, Specification<Task> spec, Sort sort, int offset,
+            int size) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, criteriaBuilder) : null;
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    private static void populate(EntityManagerFactory entityManagerFactory) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+
+        try {
+            entityManager.getTransaction().begin();
+
+            List<Tag> tags = new ArrayList<>(TAGS);
+
+            for (int i = 0; i < TAGS; i++) {
+                Tag tag = new Tag("Tag " + i);
+                entityManager.persist(tag);
+                tags.add(tag);
+            }
+
+            for (int i = 0; i < TASKS; i++) {
+                LocalDate startDate = START_DATE.plusDays(i % 365);
+                Set<Tag> taskTags = new HashSet<>(Arrays.asList(tags.get(i % TAGS), tags.get((i * 7 + 1) % TAGS)));
+
+                entityManager.persist(new Task(new Period(startDate, startDate.plusDays(i % 30)), "Task " + i,
+                        Task.Status.values()[i % Task.Status.values().length], (long) (i % 1000),
+                        startDate.atTime(i % 24, i % 60), taskTags));
+
+                if (i % FLUSH_SIZE == FLUSH_SIZE - 1) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.util.Arrays;
+
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+import com.github.fagnerlima.springspecificationtools.benchmark.filter.DescriptionOrTagFilter;
+import com.github.fagnerlima.springspecificationtools.benchmark.filter.FlatTaskFilter;
+import com.github.fagnerlima.springspecificationtools.benchmark.filter.GroupTaskFilter;
+import com.github.fagnerlima.springspecificationtools.benchmark.filter.JoinTaskFilter;
+import com.github.fagnerlima.springspecificationtools.benchmark.filter.PeriodFilter;
+import com.github.fagnerlima.springspecificationtools.benchmark.filter.PeriodTaskFilter;
+
+/**
+ * The kinds of filters used as parameter of the benchmarks.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public enum BenchmarkFilter {
+
+    FLAT {
+        @Override
+        public Object create() {
+            FlatTaskFilter filter = new FlatTaskFilter();
+            filter.setDescription("task 1");
+            filter.setStatus(Task.Status.OPEN);
+            filter.setMinAmount(100L);
+            filter.setMaxAmount(900L);
+
+            return filter;
+        }
+    },
+
+    GROUP {
+        @Override
+        public Object create() {
+            DescriptionOrTagFilter descriptionOrTag = new DescriptionOrTagFilter();
+            descriptionOrTag.setDescription("task 1");
+            descriptionOrTag.setTagDescription("tag 1");
+
+            GroupTaskFilter filter = new GroupTaskFilter();
+            filter.setStatus(Task.Status.OPEN);
+            filter.setDescriptionOrTag(descriptionOrTag);
+
+            return filter;
+        }
+    },
+
+    JOIN {
+        @Override
+        public Object create() {
+            JoinTaskFilter filter = new JoinTaskFilter();
+            filter.setTagId(Arrays.asList(1L, 2L, 3L));
+            filter.setTagDescription("tag");
+
+            return filter;
+        }
+    },
+
+    PERIOD {
+        @Override
+        public Object create() {
+            PeriodFilter period = new PeriodFilter();
+            period.setStartDate(BenchmarkDatabase.START_DATE.plusDays(30));
+            period.setEndDate(BenchmarkDatabase.START_DATE.plusDays(60));
+
+            PeriodTaskFilter filter = new PeriodTaskFilter();
+            filter.setPeriod(period);
+
+            return filter;
+        }
+    };
+
+    /**
+     * @return A new filter of this kind, with all of the fields filled.
+     */
+    public abstract Object create();
+
+}
@@ -0,0 +1,77 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import com.github.fagnerlima.springspecificationtools.SpecBuilder;
+import com.github.fagnerlima.springspecificationtools.SpecCounter;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * The count query of the repositories compared with the lean and the capped counts of {@link SpecCounter}.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CountBenchmark {
+
+    private static final int LIMIT = 1000;
+
+    @Param
+    public BenchmarkFilter filter;
+
+    private EntityManager entityManager;
+    private SimpleJpaRepository<Task, Long> repository;
+    private SpecCounter<Task> counter;
+    private Specification<Task> spec;
+
+    @Setup
+    public void setup() {
+        entityManager = BenchmarkDatabase.getEntityManagerFactory().createEntityManager();
+        repository = new SimpleJpaRepository<>(Task.class, entityManager);
+        counter = new SpecCounter<>(entityManager, Task.class);
+        spec = new SpecBuilder<Task>().add(filter.create()).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    @Benchmark
+    public long repositoryCount() {
+        return repository.count(spec);
+    }
+
+    @Benchmark
+    public long count() {
+        return counter.count(spec);
+    }
+
+    @Benchmark
+    public long cappedCount() {
+        return counter.count(spec, LIMIT);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import com.github.fagnerlima.springspecificationtools.SpecBuilder;
+import com.github.fagnerlima.springspecificationtools.SpecFetchExecutor;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * Pages of entities that read their tags, loaded lazily (one query per entity) against the fetch plan of
+ * {@link SpecFetchExecutor} (a query of the ids and a query of the entities with the tags).
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FetchBenchmark {
+
+    @Param
+    public BenchmarkFilter filter;
+
+    private EntityManager entityManager;
+    private SimpleJpaRepository<Task, Long> repository;
+    private SpecFetchExecutor<Task> fetchExecutor;
+    private Object value;
+    private Pageable pageable;
+
+    @Setup
+    public void setup() {
+        entityManager = BenchmarkDatabase.getEntityManagerFactory().createEntityManager();
+        repository = new SimpleJpaRepository<>(Task.class, entityManager);
+        fetchExecutor = new SpecFetchExecutor<>(entityManager, Task.class);
+        value = filter.create();
+        pageable = PageRequest.of(0, 20, Sort.by("id"));
+    }
+
+    @TearDown(Level.Invocation)
+    public void clear() {
+        // the tags loaded by an invocation must not be in the persistence context of the next one
+        entityManager.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    @Benchmark
+    public void lazy(Blackhole blackhole) {
+        Page<Task> page = repository.findAll(new SpecBuilder<Task>().add(value).build(), pageable);
+        page.forEach(task -> blackhole.consume(task.getTags().size()));
+    }
+
+    @Benchmark
+    public void fetchPlan(Blackhole blackhole) {
+        SpecBuilder<Task> builder = new SpecBuilder<Task>().add(value).fetch("tags");
+        Page<Task> page = fetchExecutor.findAll(builder.build(), builder.getFetchPlan(), pageable);
+        page.forEach(task -> blackhole.consume(task.getTags().size()));
+    }
+
+}
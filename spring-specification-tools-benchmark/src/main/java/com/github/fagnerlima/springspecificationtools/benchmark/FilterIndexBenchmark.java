@@ -0,0 +1,172 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.fagnerlima.springspecificationtools.SpecFetchExecutor;
+import com.github.fagnerlima.springspecificationtools.SpecFetchPlan;
+import com.github.fagnerlima.springspecificationtools.SpecFilterIndex;
+import com.github.fagnerlima.springspecificationtools.SpecPredicates;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Tag;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+import com.github.fagnerlima.springspecificationtools.benchmark.filter.FlatTaskFilter;
+import com.github.fagnerlima.springspecificationtools.benchmark.filter.JoinTaskFilter;
+import com.github.fagnerlima.springspecificationtools.benchmark.filter.PeriodFilter;
+import com.github.fagnerlima.springspecificationtools.benchmark.filter.PeriodTaskFilter;
+
+/**
+ * Filters matched by a task, with the {@link SpecFilterIndex} against the predicates of all of the filters. The
+ * filters are amount ranges, tag ids, periods and, one in a hundred, descriptions (not indexed). The setup fails
+ * if the index and the predicates disagree on the matches of the first tasks.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterIndexBenchmark {
+
+    private static final int CHECKED_TASKS = 200;
+
+    @Param({ "1000", "10000", "100000" })
+    public int filters;
+
+    private SpecFilterIndex<Integer, Task> index;
+    private List<Predicate<Task>> predicates;
+    private List<Task> tasks;
+    private int next;
+
+    @Setup
+    public void setup() {
+        EntityManager entityManager = BenchmarkDatabase.getEntityManagerFactory().createEntityManager();
+
+        try {
+            tasks = new SpecFetchExecutor<>(entityManager, Task.class).findAll(null, SpecFetchPlan.of("tags"));
+        } finally {
+            entityManager.close();
+        }
+
+        List<Long> tagIds = tagIds(tasks);
+        Random random = new Random(filters);
+        index = new SpecFilterIndex<>();
+        predicates = new ArrayList<>(filters);
+
+        for (int id = 0; id < filters; id++) {
+            Object filter = createFilter(id, random, tagIds);
+            index.add(id, filter);
+            predicates.add(SpecPredicates.compile(filter));
+        }
+
+        for (Task task : tasks.subList(0, CHECKED_TASKS)) {
+            Set<Integer> matched = index.match(task);
+            Set<Integer> scanned = scan(task);
+
+            if (!matched.equals(scanned)) {
+                throw new IllegalStateException("The index matched " + matched.size() + " filters of the task "
+                        + task.getId() + " and the predicates " + scanned.size());
+            }
+        }
+    }
+
+    @Benchmark
+    public Set<Integer> index() {
+        return index.match(nextTask());
+    }
+
+    @Benchmark
+    public Set<Integer> scan() {
+        return scan(nextTask());
+    }
+
+    private Task nextTask() {
+        next = (next + 1) % tasks.size();
+
+        return tasks.get(next);
+    }
+
+    private Set<Integer> scan(Task task) {
+        Set<Integer> matches = new HashSet<>();
+
+        for (int id = 0; id < predicates.size(); id++) {
+            if (predicates.get(id).test(task)) {
+                matches.add(id);
+            }
+        }
+
+        return matches;
+    }
+
+    private static Object createFilter(int id, Random random, List<Long> tagIds) {
+        if (id % 100 == 0) {
+            FlatTaskFilter filter = new FlatTaskFilter();
+            filter.setDescription("task " + random.nextInt(BenchmarkDatabase.TASKS));
+
+            return filter;
+        }
+
+        switch (id % 3) {
+            case 0:
+                FlatTaskFilter flat = new FlatTaskFilter();
+                flat.setMinAmount((long) random.nextInt(1000));
+                flat.setMaxAmount(flat.getMinAmount() + random.nextInt(50));
+
+                return flat;
+            case 1:
+                List<Long> tagId = new ArrayList<>();
+                int tags = 1 + random.nextInt(3);
+
+                for (int i = 0; i < tags; i++) {
+                    tagId.add(tagIds.get(random.nextInt(tagIds.size())));
+                }
+
+                JoinTaskFilter join = new JoinTaskFilter();
+                join.setTagId(tagId);
+
+                return join;
+            default:
+                PeriodFilter period = new PeriodFilter();
+                period.setStartDate(BenchmarkDatabase.START_DATE.plusDays(random.nextInt(365)));
+                period.setEndDate(period.getStartDate().plusDays(random.nextInt(7)));
+
+                PeriodTaskFilter filter = new PeriodTaskFilter();
+                filter.setPeriod(period);
+
+                return filter;
+        }
+    }
+
+    private static List<Long> tagIds(List<Task> tasks) {
+        Set<Long> tagIds = new HashSet<>();
+
+        for (Task task : tasks) {
+            for (Tag tag : task.getTags()) {
+                tagIds.add(tag.getId());
+            }
+        }
+
+        return new ArrayList<>(tagIds);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import com.github.fagnerlima.springspecificationtools.SpecBuilder;
+import com.github.fagnerlima.springspecificationtools.SpecExecutor;
+import com.github.fagnerlima.springspecificationtools.SpecResultCache;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * End-to-end {@code findAll(spec, pageable)} of the filters, from the filter object to the page of entities,
+ * without and with a {@link SpecResultCache}.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FindAllBenchmark {
+
+    @Param
+    public BenchmarkFilter filter;
+
+    private EntityManager entityManager;
+    private SimpleJpaRepository<Task, Long> repository;
+    private SpecExecutor<Task> cachedExecutor;
+    private Object value;
+    private Pageable pageable;
+
+    @Setup
+    public void setup() {
+        entityManager = BenchmarkDatabase.getEntityManagerFactory().createEntityManager();
+        repository = new SimpleJpaRepository<>(Task.class, entityManager);
+        cachedExecutor = new SpecExecutor<>(repository, Task.class, new SpecResultCache(100, Duration.ofMinutes(1)));
+        value = filter.create();
+        pageable = PageRequest.of(0, 20, Sort.by("id"));
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        entityManager.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    @Benchmark
+    public Page<Task> findAll() {
+        return repository.findAll(new SpecBuilder<Task>().add(value).build(), pageable);
+    }
+
+    @Benchmark
+    public Page<Task> findAllCached() {
+        return cachedExecutor.findAll(new SpecBuilder<Task>().add(value).build(), pageable);
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import com.github.fagnerlima.springspecificationtools.SpecFactory;
+import com.github.fagnerlima.springspecificationtools.SpecInStrategy;
+import com.github.fagnerlima.springspecificationtools.SpecOperation;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * The {@link SpecInStrategy} implementations, with collections of varying sizes between {@code size / 2 + 1} and
+ * {@code size}, so the strategies that share the SQL between sizes hit the query plan cache of Hibernate. The ids
+ * of the larger collections go beyond the tasks of the database, as the lists of ids of other sources.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InStrategyBenchmark {
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Param({ "EXPAND", "PADDING", "CHUNKING", "ARRAY" })
+    public String strategy;
+
+    @Param({ "10", "100", "1000", "10000", "50000" })
+    public int size;
+
+    private EntityManager entityManager;
+    private SimpleJpaRepository<Task, Long> repository;
+    private SpecFactory<Task> specFactory;
+    private List<Long> ids;
+    private int invocation;
+
+    @Setup
+    public void setup() {
+        switch (strategy) {
+            case "PADDING":
+                SpecFactory.setInStrategy(SpecInStrategy.padding());
+                break;
+            case "CHUNKING":
+                SpecFactory.setInStrategy(SpecInStrategy.chunking(CHUNK_SIZE));
+                break;
+            case "ARRAY":
+                SpecFactory.setInStrategy(SpecInStrategy.array());
+                break;
+            default:
+                SpecFactory.setInStrategy(SpecInStrategy.expand());
+        }
+
+        entityManager = BenchmarkDatabase.getEntityManagerFactory().createEntityManager();
+        repository = new SimpleJpaRepository<>(Task.class, entityManager);
+        specFactory = new SpecFactory<>();
+        ids = new ArrayList<>(size);
+
+        for (long id = 1; id <= size; id++) {
+            ids.add(id);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        SpecFactory.setInStrategy(SpecInStrategy.expand());
+        entityManager.close();
+    }
+
+    @Benchmark
+    public long count() {
+        int half = size / 2;
+        List<Long> values = ids.subList(0, half + 1 + invocation++ % (size - half));
+
+        return repository.count(specFactory.create("id", SpecOperation.EQUAL, values));
+    }
+
+}
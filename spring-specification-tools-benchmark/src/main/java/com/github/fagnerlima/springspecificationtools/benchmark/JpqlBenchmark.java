@@ -0,0 +1,97 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import com.github.fagnerlima.springspecificationtools.SpecBuilder;
+import com.github.fagnerlima.springspecificationtools.SpecJpqlExecutor;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * The filters run as Criteria queries built from the Specifications, against the JPQL queries compiled by shape
+ * of {@link SpecJpqlExecutor}.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JpqlBenchmark {
+
+    @Param
+    public BenchmarkFilter filter;
+
+    private EntityManager entityManager;
+    private SimpleJpaRepository<Task, Long> repository;
+    private SpecJpqlExecutor<Task> jpqlExecutor;
+    private Object value;
+    private Pageable pageable;
+
+    @Setup
+    public void setup() {
+        entityManager = BenchmarkDatabase.getEntityManagerFactory().createEntityManager();
+        repository = new SimpleJpaRepository<>(Task.class, entityManager);
+        jpqlExecutor = new SpecJpqlExecutor<>(entityManager, Task.class);
+        value = filter.create();
+        pageable = PageRequest.of(0, 20, Sort.by("id"));
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        entityManager.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    @Benchmark
+    public Page<Task> criteriaFindAll() {
+        return repository.findAll(new SpecBuilder<Task>().add(value).build(), pageable);
+    }
+
+    @Benchmark
+    public Page<Task> jpqlFindAll() {
+        return jpqlExecutor.findAll(value, pageable);
+    }
+
+    @Benchmark
+    public long criteriaCount() {
+        return repository.count(new SpecBuilder<Task>().add(value).build());
+    }
+
+    @Benchmark
+    public long jpqlCount() {
+        return jpqlExecutor.count(value);
+    }
+
+    @Benchmark
+    public String jpqlShape() {
+        return jpqlExecutor.toJpql(value);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import com.github.fagnerlima.springspecificationtools.SpecBuilder;
+import com.github.fagnerlima.springspecificationtools.SpecFetchExecutor;
+import com.github.fagnerlima.springspecificationtools.SpecFetchPlan;
+import com.github.fagnerlima.springspecificationtools.SpecPredicates;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * Check if a task matches a filter with a query of the task (a database round trip) against the predicate of
+ * {@link SpecPredicates}. The conformance of the predicates with the queries is checked by the tests of the library.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatchBenchmark {
+
+    @Param
+    public BenchmarkFilter filter;
+
+    private EntityManager entityManager;
+    private SimpleJpaRepository<Task, Long> repository;
+    private Specification<Task> spec;
+    private Predicate<Task> predicate;
+    private Task task;
+
+    @Setup
+    public void setup() {
+        entityManager = BenchmarkDatabase.getEntityManagerFactory().createEntityManager();
+        repository = new SimpleJpaRepository<>(Task.class, entityManager);
+
+        Object value = filter.create();
+        spec = new SpecBuilder<Task>().add(value).build();
+        predicate = SpecPredicates.compile(value);
+
+        List<Task> tasks = new SpecFetchExecutor<>(entityManager, Task.class).findAll(null, SpecFetchPlan.of("tags"));
+        task = tasks.stream().filter(predicate).findFirst().orElse(tasks.get(0));
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    @Benchmark
+    public boolean query() {
+        Long id = task.getId();
+
+        return repository.count(spec.and((root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("id"), id)))
+                > 0;
+    }
+
+    @Benchmark
+    public boolean predicate() {
+        return predicate.test(task);
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.github.fagnerlima.springspecificationtools.SpecKeyset;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * Offset pagination compared with the keyset pagination of {@link SpecKeyset}, from the first page to the page
+ * 10,000, on an in-memory H2 database with the tasks of all of the pages.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PaginationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int LAST_PAGE = 10_000;
+    private static final int ROWS = (LAST_PAGE + 1) * PAGE_SIZE;
+
+    /** The index of the page, 0 for the first page */
+    @Param({ "0", "10", "100", "1000", "10000" })
+    public int page;
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private Sort sort;
+    private Specification<Task> keysetSpec;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("javax.persistence.jdbc.url", "jdbc:h2:mem:pagination;DB_CLOSE_DELAY=-1");
+
+        entityManagerFactory = Persistence.createEntityManagerFactory("benchmark", properties);
+        entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        entityManager.createNativeQuery("insert into task (description, status, amount, createdAt, startDate, endDate)"
+                + " select 'Task ' || x, case mod(x, 3) when 0 then 'OPEN' when 1 then 'DONE' else 'CANCELED' end,"
+                + " mod(x, 1000), dateadd('MINUTE', x, timestamp '2020-01-01 00:00:00'),"
+                + " dateadd('DAY', mod(x, 365), date '2020-01-01'),"
+                + " dateadd('DAY', mod(x, 365) + mod(x, 30), date '2020-01-01')"
+                + " from system_range(1, " + ROWS + ")")
+                .executeUpdate();
+        entityManager.getTransaction().commit();
+
+        sort = newKeyset(null).getSort();
+        String cursor = null;
+
+        if (page > 0) {
+            // the cursor of the last task of the previous page
+            List<Task> tasks = BenchmarkDatabase.find(entityManager, null, sort, page * PAGE_SIZE - 1, 1);
+            cursor = newKeyset(null).cursor(tasks);
+        }
+
+        keysetSpec = newKeyset(cursor).build();
+        entityManager.clear();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        entityManager.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public List<Task> offset() {
+        return BenchmarkDatabase.find(entityManager, null, sort, page * PAGE_SIZE, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Task> keyset() {
+        return BenchmarkDatabase.find(entityManager, keysetSpec, sort, 0, PAGE_SIZE);
+    }
+
+    private static SpecKeyset<Task> newKeyset(String cursor) {
+        return new SpecKeyset<Task>()
+                .desc("createdAt")
+                .tieBreaker("id")
+                .after(cursor);
+    }
+
+}
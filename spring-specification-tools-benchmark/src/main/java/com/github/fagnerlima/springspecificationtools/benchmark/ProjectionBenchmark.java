@@ -0,0 +1,90 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import com.github.fagnerlima.springspecificationtools.SpecBuilder;
+import com.github.fagnerlima.springspecificationtools.SpecProjectionExecutor;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.TaskRow;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.TaskSummary;
+
+/**
+ * Pages of entities against pages of the interface and DTO projections of {@link SpecProjectionExecutor}, with
+ * the same Specifications.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProjectionBenchmark {
+
+    @Param
+    public BenchmarkFilter filter;
+
+    private EntityManager entityManager;
+    private SimpleJpaRepository<Task, Long> repository;
+    private SpecProjectionExecutor<Task> projectionExecutor;
+    private Object value;
+    private Pageable pageable;
+
+    @Setup
+    public void setup() {
+        entityManager = BenchmarkDatabase.getEntityManagerFactory().createEntityManager();
+        repository = new SimpleJpaRepository<>(Task.class, entityManager);
+        projectionExecutor = new SpecProjectionExecutor<>(entityManager, Task.class);
+        value = filter.create();
+        pageable = PageRequest.of(0, 20, Sort.by("id"));
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        entityManager.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    @Benchmark
+    public Page<Task> entities() {
+        return repository.findAll(new SpecBuilder<Task>().add(value).build(), pageable);
+    }
+
+    @Benchmark
+    public Page<TaskSummary> interfaceProjection() {
+        return projectionExecutor.findAll(new SpecBuilder<Task>().add(value).build(), TaskSummary.class, pageable);
+    }
+
+    @Benchmark
+    public Page<TaskRow> dtoProjection() {
+        return projectionExecutor.findAll(new SpecBuilder<Task>().add(value).build(), TaskRow.class, pageable,
+                "id", "description", "status");
+    }
+
+}
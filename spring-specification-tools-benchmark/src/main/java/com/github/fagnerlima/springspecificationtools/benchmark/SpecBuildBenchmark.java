@@ -0,0 +1,76 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.github.fagnerlima.springspecificationtools.SpecBuilder;
+import com.github.fagnerlima.springspecificationtools.SpecFactory;
+import com.github.fagnerlima.springspecificationtools.SpecOperation;
+import com.github.fagnerlima.springspecificationtools.SpecOperator;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * {@link SpecBuilder#build()} with many conditions, including the simplification: the bounds combined with AND
+ * are merged and the values combined with OR are folded into a single IN.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpecBuildBenchmark {
+
+    @Param({ "1", "10", "100", "1000" })
+    public int conditions;
+
+    private List<Specification<Task>> andSpecs;
+    private List<Specification<Task>> orSpecs;
+
+    @Setup
+    public void setup() {
+        SpecFactory<Task> specFactory = new SpecFactory<>();
+        andSpecs = new ArrayList<>(conditions);
+        orSpecs = new ArrayList<>(conditions);
+
+        for (int i = 0; i < conditions; i++) {
+            andSpecs.add(i % 2 == 0
+                    ? specFactory.create("description", SpecOperation.LIKE, "task " + i)
+                    : specFactory.create("amount", SpecOperation.GREATER_THAN_OR_EQUAL, (long) i));
+            orSpecs.add(specFactory.create("id", SpecOperation.EQUAL, (long) i));
+        }
+    }
+
+    @Benchmark
+    public Specification<Task> buildAnd() {
+        SpecBuilder<Task> builder = new SpecBuilder<>();
+        andSpecs.forEach(builder::add);
+
+        return builder.build();
+    }
+
+    @Benchmark
+    public Specification<Task> buildOr() {
+        SpecBuilder<Task> builder = new SpecBuilder<>();
+        orSpecs.forEach(builder::add);
+
+        return builder.build(SpecOperator.OR);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.github.fagnerlima.springspecificationtools.SpecBuilder;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * {@link SpecBuilder#add(Object)} and {@link SpecBuilder#build()} of the filters, without a database.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpecBuilderBenchmark {
+
+    @Param
+    public BenchmarkFilter filter;
+
+    private Object value;
+
+    @Setup
+    public void setup() {
+        value = filter.create();
+    }
+
+    @Benchmark
+    public SpecBuilder<Task> add() {
+        return new SpecBuilder<Task>().add(value);
+    }
+
+    @Benchmark
+    public Specification<Task> addAndBuild() {
+        return new SpecBuilder<Task>().add(value).build();
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.github.fagnerlima.springspecificationtools.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import com.github.fagnerlima.springspecificationtools.SpecKeyset;
+import com.github.fagnerlima.springspecificationtools.SpecStreamExecutor;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * Heap retained while reading all of the tasks of a H2 file database: a list of {@code findAll}, against the
+ * stream and the chunks of {@link SpecStreamExecutor}. The retained heap, measured after a full GC every
+ * {@link #SAMPLE_INTERVAL} rows, is reported by the counter {@code retainedHeapMb}. With 5M rows, the list is
+ * expected to run out of the 1 GB of heap of the fork.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class StreamBenchmark {
+
+    private static final int SAMPLE_INTERVAL = 500_000;
+    private static final int CHUNK_SIZE = 1000;
+
+    @Param({ "100000", "5000000" })
+    public int rows;
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+
+    /**
+     * The heap retained by an invocation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Memory {
+
+        private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+        public double retainedHeapMb;
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            retainedHeapMb = 0;
+        }
+
+        void sample(long row) {
+            if (row % SAMPLE_INTERVAL == 0) {
+                sample();
+            }
+        }
+
+        void sample() {
+            System.gc();
+            retainedHeapMb = Math.max(retainedHeapMb, MEMORY.getHeapMemoryUsage().getUsed() / (1024.0 * 1024.0));
+        }
+
+    }
+
+    @Setup
+    public void setup() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("javax.persistence.jdbc.url", "jdbc:h2:file:./target/stream-benchmark");
+
+        entityManagerFactory = Persistence.createEntityManagerFactory("benchmark", properties);
+        entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        entityManager.createNativeQuery("insert into task (description, status, amount, createdAt, startDate, endDate)"
+                + " select 'Task ' || x, case mod(x, 3) when 0 then 'OPEN' when 1 then 'DONE' else 'CANCELED' end,"
+                + " mod(x, 1000), dateadd('MINUTE', x, timestamp '2020-01-01 00:00:00'),"
+                + " dateadd('DAY', mod(x, 365), date '2020-01-01'),"
+                + " dateadd('DAY', mod(x, 365) + mod(x, 30), date '2020-01-01')"
+                + " from system_range(1, " + rows + ")")
+                .executeUpdate();
+        entityManager.getTransaction().commit();
+    }
+
+    @Setup(Level.Invocation)
+    public void begin() {
+        entityManager.clear();
+        entityManager.getTransaction().begin();
+    }
+
+    @TearDown(Level.Invocation)
+    public void rollback() {
+        entityManager.getTransaction().rollback();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public void list(Memory memory, Blackhole blackhole) {
+        List<Task> tasks = new SimpleJpaRepository<>(Task.class, entityManager).findAll(Sort.by("id"));
+        memory.sample();
+        blackhole.consume(tasks.size());
+    }
+
+    @Benchmark
+    public void stream(Memory memory, Blackhole blackhole) {
+        long row = 0;
+
+        try (Stream<Task> tasks = new SpecStreamExecutor<>(entityManager, Task.class).stream(null, Sort.by("id"))) {
+            for (Task task : (Iterable<Task>) tasks::iterator) {
+                blackhole.consume(task.getDescription());
+                memory.sample(++row);
+            }
+        }
+    }
+
+    @Benchmark
+    public long chunks(Memory memory, Blackhole blackhole) {
+        long[] row = { 0 };
+
+        return new SpecStreamExecutor<>(entityManager, Task.class)
+                .forEachChunk(null, new SpecKeyset<Task>().tieBreaker("id"), CHUNK_SIZE, chunk -> {
+                    for (Task task : chunk) {
+                        blackhole.consume(task.getDescription());
+                        memory.sample(++row[0]);
+                    }
+                });
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.github.fagnerlima.springspecificationtools.benchmark.domain;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import javax.persistence.Embeddable;
+
+@Embeddable
+public class Period implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    public Period() {
+    }
+
+    public Period(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.github.fagnerlima.springspecificationtools.benchmark.domain;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.JoinTable;
+import javax.persistence.ManyToMany;
+import javax.persistence.Table;
+
+@Entity
+@Table(name = "task", indexes = {
+        @Index(columnList = "createdAt, id"),
+        @Index(columnList = "startDate, endDate")
+})
+public class Task implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Status {
+        OPEN, DONE, CANCELED;
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Embedded
+    private Period period;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private Long amount;
+
+    private LocalDateTime createdAt;
+
+    @ManyToMany
+    @JoinTable(name = "tag_task",
+            joinColumns = @JoinColumn(name = "id_task"),
+            inverseJoinColumns = @JoinColumn(name = "id_tag"))
+    private Set<Tag> tags;
+
+    public Task() {
+    }
+
+    public Task(Period period, String description, Status status, Long amount, LocalDateTime createdAt,
+            Set<Tag> tags) {
+        this.period = period;
+        this.description = description;
+        this.status = status;
+        this.amount = amount;
+        this.createdAt = createdAt;
+        this.tags = tags;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Period getPeriod() {
+        return period;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getAmount() {
+        return amount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Set<Tag> getTags() {
+        return tags;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.github.fagnerlima.springspecificationtools.benchmark.domain;
+
+/**
+ * DTO projection of {@link Task}.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public class TaskRow {
+
+    private final Long id;
+    private final String description;
+    private final Task.Status status;
+
+    public TaskRow(Long id, String description, Task.Status status) {
+        this.id = id;
+        this.description = description;
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Task.Status getStatus() {
+        return status;
+    }
+
+}
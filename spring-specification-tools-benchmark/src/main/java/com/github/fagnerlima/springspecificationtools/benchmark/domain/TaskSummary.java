@@ -0,0 +1,16 @@
+package com.github.fagnerlima.springspecificationtools.benchmark.domain;
+
+/**
+ * Interface projection of {@link Task}.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public interface TaskSummary {
+
+    Long getId();
+
+    String getDescription();
+
+    Task.Status getStatus();
+
+}
@@ -0,0 +1,36 @@
+package com.github.fagnerlima.springspecificationtools.benchmark.filter;
+
+import java.io.Serializable;
+
+import com.github.fagnerlima.springspecificationtools.SpecOperation;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecField;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecJoin;
+
+public class DescriptionOrTagFilter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @SpecField(operation = SpecOperation.LIKE_IGNORE_CASE)
+    private String description;
+
+    @SpecJoin
+    @SpecField(value = "tags.description", operation = SpecOperation.LIKE_IGNORE_CASE)
+    private String tagDescription;
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getTagDescription() {
+        return tagDescription;
+    }
+
+    public void setTagDescription(String tagDescription) {
+        this.tagDescription = tagDescription;
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.github.fagnerlima.springspecificationtools.benchmark.filter;
+
+import java.io.Serializable;
+
+import com.github.fagnerlima.springspecificationtools.SpecOperation;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecField;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * Filter with single conditions on the properties of the root.
+ */
+@SpecEntity(Task.class)
+public class FlatTaskFilter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @SpecField(operation = SpecOperation.LIKE_IGNORE_CASE)
+    private String description;
+
+    private Task.Status status;
+
+    @SpecField(value = "amount", operation = SpecOperation.GREATER_THAN_OR_EQUAL)
+    private Long minAmount;
+
+    @SpecField(value = "amount", operation = SpecOperation.LESS_THAN_OR_EQUAL)
+    private Long maxAmount;
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Task.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Task.Status status) {
+        this.status = status;
+    }
+
+    public Long getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(Long minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public Long getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(Long maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.github.fagnerlima.springspecificationtools.benchmark.filter;
+
+import java.io.Serializable;
+
+import com.github.fagnerlima.springspecificationtools.SpecOperator;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecGroup;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * Filter with a nested group of conditions, combined with OR.
+ */
+@SpecEntity(Task.class)
+public class GroupTaskFilter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Task.Status status;
+
+    @SpecGroup(operator = SpecOperator.OR)
+    private DescriptionOrTagFilter descriptionOrTag;
+
+    public Task.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Task.Status status) {
+        this.status = status;
+    }
+
+    public DescriptionOrTagFilter getDescriptionOrTag() {
+        return descriptionOrTag;
+    }
+
+    public void setDescriptionOrTag(DescriptionOrTagFilter descriptionOrTag) {
+        this.descriptionOrTag = descriptionOrTag;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.github.fagnerlima.springspecificationtools.benchmark.filter;
+
+import java.io.Serializable;
+import java.util.List;
+
+import com.github.fagnerlima.springspecificationtools.SpecOperation;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecField;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecJoin;
+import com.github.fagnerlima.springspecificationtools.benchmark.domain.Task;
+
+/**
+ * Filter with conditions on a to-many association, that share the same join.
+ */
+@SpecEntity(Task.class)
+public class JoinTaskFilter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @SpecJoin
+    @SpecField("tags.id")
+    private List<Long> tagId;
+
+    @SpecJoin
+    @SpecField(value = "tags.description", operation = SpecOperation.LIKE_IGNORE_CASE)
+    private String tagDescription;
+
+    public List<Long> getTagId() {
+        return tagId;
+    }
+
+    public void setTagId(List<Long> tagId) {
+        this.tagId = tagId;
+    }
+
+    public String getTagDescription() {
+        return tagDescription;
+    }
+
+    public void setTagDescription(String tagDescription) {
+        this.tagDescription = tagDescription;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.github.fagnerlima.springspecificationtools.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates, for each class annotated with {@code SpecEntity}, a {@code SpecProvider} named after the filter
+ * with the suffix {@code Specs}, that builds the Specification calling the getters and the {@code SpecFactory}
+ * methods directly.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@SupportedAnnotationTypes(SpecProcessor.SPEC_ENTITY)
+public class SpecProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION_PACKAGE = "com.github.fagnerlima.springspecificationtools.annotation.";
+    static final String SPEC_ENTITY = ANNOTATION_PACKAGE + "SpecEntity";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private void generate(TypeElement filterElement) {
+        SpecSourceGenerator generator = new SpecSourceGenerator(processingEnv, filterElement);
+
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler()
+                    .createSourceFile(generator.getQualifiedName(), filterElement);
+
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(generator.generate());
+            }
+        } catch (IOException | RuntimeException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to generate " + generator.getQualifiedName() + ": " + exception.getMessage(),
+                    filterElement);
+        }
+    }
+
+}
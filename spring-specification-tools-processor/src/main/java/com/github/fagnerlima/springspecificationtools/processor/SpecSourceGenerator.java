@@ -0,0 +1,389 @@
+package com.github.fagnerlima.springspecificationtools.processor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates the source of the {@code SpecProvider} of a filter class, following the same rules used by
+ * {@code SpecBuilder} with reflection.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+class SpecSourceGenerator {
+
+    private static final String SPEC_FIELD = SpecProcessor.ANNOTATION_PACKAGE + "SpecField";
+    private static final String SPEC_BETWEEN = SpecProcessor.ANNOTATION_PACKAGE + "SpecBetween";
+    private static final String SPEC_JOIN = SpecProcessor.ANNOTATION_PACKAGE + "SpecJoin";
+    private static final String SPEC_GROUP = SpecProcessor.ANNOTATION_PACKAGE + "SpecGroup";
+    private static final String SPEC_PERIOD = SpecProcessor.ANNOTATION_PACKAGE + "SpecPeriod";
+    private static final String SPEC_PERIOD_START_DATE = SpecProcessor.ANNOTATION_PACKAGE + "SpecPeriodStartDate";
+    private static final String SPEC_PERIOD_END_DATE = SpecProcessor.ANNOTATION_PACKAGE + "SpecPeriodEndDate";
+    private static final String COMPARABLE = "java.lang.Comparable";
+    private static final String SUFFIX = "Specs";
+
+    private final ProcessingEnvironment processingEnv;
+    private final Elements elements;
+    private final Types types;
+    private final TypeElement filterElement;
+    private final TypeElement entityElement;
+    private final String packageName;
+    private final String simpleName;
+    private final Map<String, String> groupMethods = new LinkedHashMap<>();
+    private final Deque<TypeElement> pendingGroups = new ArrayDeque<>();
+    private int variableCount;
+
+    SpecSourceGenerator(ProcessingEnvironment processingEnv, TypeElement filterElement) {
+        this.processingEnv = processingEnv;
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filterElement = filterElement;
+        this.entityElement = (TypeElement) types.asElement((TypeMirror) getValue(
+                findAnnotation(filterElement, SpecProcessor.SPEC_ENTITY), "value"));
+        this.packageName = elements.getPackageOf(filterElement).getQualifiedName().toString();
+
+        String binaryName = elements.getBinaryName(filterElement).toString();
+        this.simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + SUFFIX;
+    }
+
+    String getQualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    String generate() {
+        String filterName = filterElement.getQualifiedName().toString();
+        String entityName = entityElement.getQualifiedName().toString();
+        StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("import javax.persistence.criteria.JoinType;\n\n")
+                .append("import org.springframework.data.jpa.domain.Specification;\n\n")
+                .append("import com.github.fagnerlima.springspecificationtools.SpecBuilder;\n")
+                .append("import com.github.fagnerlima.springspecificationtools.SpecDistinct;\n")
+                .append("import com.github.fagnerlima.springspecificationtools.SpecFactory;\n")
+                .append("import com.github.fagnerlima.springspecificationtools.SpecOperation;\n")
+                .append("import com.github.fagnerlima.springspecificationtools.SpecOperator;\n")
+                .append("import com.github.fagnerlima.springspecificationtools.SpecPeriodOperation;\n")
+                .append("import com.github.fagnerlima.springspecificationtools.SpecProvider;\n")
+                .append("import com.github.fagnerlima.springspecificationtools.StringNormalizationDialects;\n\n")
+                .append("/**\n")
+                .append(" * Generated by ").append(SpecProcessor.class.getName()).append(" from {@link ")
+                .append(filterName).append("}. Do not edit.\n")
+                .append(" */\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements SpecProvider<").append(filterName).append(", ").append(entityName).append("> {\n\n")
+                .append("    public static Specification<").append(entityName).append("> toSpecification(")
+                .append(filterName).append(" filter) {\n")
+                .append("        return new ").append(simpleName).append("().add(new SpecBuilder<").append(entityName)
+                .append(">(), filter).build();\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public SpecDistinct getDistinct() {\n")
+                .append("        return SpecDistinct.")
+                .append(getValue(findAnnotation(filterElement, SpecProcessor.SPEC_ENTITY), "distinct")).append(";\n")
+                .append("    }\n\n")
+                .append("    @Override\n");
+
+        appendMethod(source, "public", "add", filterElement);
+
+        while (!pendingGroups.isEmpty()) {
+            TypeElement groupElement = pendingGroups.poll();
+
+            appendMethod(source, "private", groupMethods.get(groupElement.getQualifiedName().toString()), groupElement);
+        }
+
+        return source.append("}\n").toString();
+    }
+
+    private void appendMethod(StringBuilder source, String modifier, String name, TypeElement typeElement) {
+        String entityName = entityElement.getQualifiedName().toString();
+
+        source.append("    ").append(modifier).append(" SpecBuilder<").append(entityName).append("> ").append(name)
+                .append("(SpecBuilder<").append(entityName).append("> builder, ")
+                .append(types.erasure(typeElement.asType())).append(" filter) {\n")
+                // a factory per call, so the generated providers follow the default binding and dialect
+                .append("        SpecFactory<").append(entityName).append("> specFactory = new SpecFactory<>();\n\n");
+
+        for (VariableElement field : getAllFields(typeElement.asType())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                appendField(source, typeElement, field);
+            }
+        }
+
+        source.append("        return builder;\n")
+                .append("    }\n\n");
+    }
+
+    private void appendField(StringBuilder source, TypeElement typeElement, VariableElement field) {
+        ExecutableElement getter = findGetter(typeElement, field);
+
+        if (getter == null) {
+            return;
+        }
+
+        variableCount++;
+
+        AnnotationMirror specField = findAnnotation(field, SPEC_FIELD);
+        boolean canBeNull = specField != null && (Boolean) getValue(specField, "canBeNull");
+        String value = "value" + variableCount;
+        String read = "        Object " + value + " = filter." + getter.getSimpleName() + "();\n";
+        String guard = canBeNull ? "        " : "        if (" + value + " != null) ";
+        AnnotationMirror specBetween = findAnnotation(field, SPEC_BETWEEN);
+
+        if (specBetween != null) {
+            source.append(read).append(guard).append("builder.add(specFactory.between(")
+                    .append(literal(getValue(specBetween, "left"))).append(", ")
+                    .append(literal(getValue(specBetween, "right"))).append(", ").append(value).append("));\n\n");
+            return;
+        }
+
+        AnnotationMirror specJoin = findAnnotation(field, SPEC_JOIN);
+
+        String dialect = getDialect(typeElement, specField);
+
+        if (specJoin != null && "EXISTS".equals(getValue(specJoin, "strategy"))) {
+            source.append(read).append(guard).append("builder.exists(")
+                    .append(literal(getPropertyName(field, specField))).append(", ")
+                    .append(getOperation(specField)).append(", ")
+                    .append(dialect != null ? "StringNormalizationDialects.get(" + literal(dialect) + ")" : "null")
+                    .append(", ").append(value).append(");\n\n");
+            return;
+        }
+
+        String specFactory = dialect != null
+                ? "specFactory.dialect(StringNormalizationDialects.get(" + literal(dialect) + "))"
+                : "specFactory";
+
+        if (specJoin != null) {
+            source.append(read).append(guard).append("builder.add(").append(specFactory).append(".join(")
+                    .append(literal(getPropertyName(field, specField))).append(", ")
+                    .append(getOperation(specField)).append(", ")
+                    .append("JoinType.").append(getValue(specJoin, "type")).append(", ").append(value).append("));\n\n");
+            return;
+        }
+
+        AnnotationMirror specGroup = findAnnotation(field, SPEC_GROUP);
+
+        if (specGroup != null) {
+            TypeElement groupElement = (TypeElement) types.asElement(field.asType());
+            String entityName = entityElement.getQualifiedName().toString();
+
+            source.append(read).append("        if (").append(value).append(" != null) builder.add(")
+                    .append(getGroupMethod(groupElement)).append("(new SpecBuilder<").append(entityName)
+                    .append(">().distinct(SpecDistinct.NEVER), (").append(types.erasure(field.asType())).append(") ")
+                    .append(value)
+                    .append(").build(SpecOperator.").append(getValue(specGroup, "operator")).append("));\n\n");
+            return;
+        }
+
+        AnnotationMirror specPeriod = findAnnotation(field, SPEC_PERIOD);
+
+        if (specPeriod != null) {
+            appendPeriod(source, field, specPeriod, read, value);
+            return;
+        }
+
+        String property = getPropertyName(field, specField);
+
+        if (!hasProperty(property, getAllFields(entityElement.asType()))) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Property " + property + " not found in " + entityElement.getQualifiedName() + ", ignored", field);
+            return;
+        }
+
+        source.append(read).append(guard).append("builder.add(").append(specFactory).append(".create(")
+                .append(literal(property)).append(", ")
+                .append(getOperation(specField)).append(", ").append(value).append("));\n\n");
+    }
+
+    private void appendPeriod(StringBuilder source, VariableElement field, AnnotationMirror specPeriod, String read,
+            String value) {
+        TypeElement periodElement = (TypeElement) types.asElement(field.asType());
+        VariableElement startField = findAnnotatedField(periodElement, SPEC_PERIOD_START_DATE);
+        VariableElement endField = findAnnotatedField(periodElement, SPEC_PERIOD_END_DATE);
+        ExecutableElement startGetter = startField != null ? findGetter(periodElement, startField) : null;
+        ExecutableElement endGetter = endField != null ? findGetter(periodElement, endField) : null;
+
+        if (startGetter == null || endGetter == null
+                || !isComparable(startGetter.getReturnType()) || !isComparable(endGetter.getReturnType())) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Invalid period " + periodElement.getQualifiedName() + ", ignored", field);
+            return;
+        }
+
+        String period = "(("  + types.erasure(field.asType()) + ") " + value + ")";
+
+        source.append(read).append("        if (").append(value).append(" != null) builder.add(specFactory.period(")
+                .append(literal(getValue(specPeriod, "start"))).append(", ")
+                .append(literal(getValue(specPeriod, "end"))).append(", ")
+                .append("SpecPeriodOperation.").append(getValue(specPeriod, "operation")).append(", ")
+                .append(getValue(specPeriod, "openEnded")).append(",\n")
+                .append("                ").append(period).append(".").append(startGetter.getSimpleName()).append("(), ")
+                .append(period).append(".").append(endGetter.getSimpleName()).append("()));\n\n");
+    }
+
+    private String getGroupMethod(TypeElement groupElement) {
+        String name = groupElement.getQualifiedName().toString();
+
+        if (!groupMethods.containsKey(name)) {
+            groupMethods.put(name, "addGroup" + groupMethods.size());
+            pendingGroups.add(groupElement);
+        }
+
+        return groupMethods.get(name);
+    }
+
+    private String getPropertyName(VariableElement field, AnnotationMirror specField) {
+        String value = specField != null ? (String) getValue(specField, "value") : "";
+
+        return value.trim().isEmpty() ? field.getSimpleName().toString() : value;
+    }
+
+    /**
+     * Same rules of {@code SpecPlan}: the dialect of the field, or the one of the class.
+     */
+    private String getDialect(TypeElement typeElement, AnnotationMirror specField) {
+        String dialect = specField != null ? (String) getValue(specField, "dialect") : "";
+
+        if (dialect.isEmpty()) {
+            AnnotationMirror specEntity = findAnnotation(typeElement, SpecProcessor.SPEC_ENTITY);
+
+            dialect = specEntity != null ? (String) getValue(specEntity, "dialect") : "";
+        }
+
+        return dialect.isEmpty() ? null : dialect;
+    }
+
+    private String getOperation(AnnotationMirror specField) {
+        return "SpecOperation." + (specField != null ? getValue(specField, "operation") : "EQUAL");
+    }
+
+    /**
+     * Same rules of {@code SpecUtils.hasProperty}.
+     */
+    private boolean hasProperty(String value, List<VariableElement> entityFields) {
+        for (VariableElement entityField : entityFields) {
+            if (value.contains(".") ? hasDeepProperty(value, entityField)
+                    : entityField.getSimpleName().contentEquals(value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean hasDeepProperty(String value, VariableElement entityField) {
+        String[] splittedValue = value.split("\\.");
+
+        if (!entityField.getSimpleName().contentEquals(splittedValue[0])) {
+            return false;
+        }
+
+        List<VariableElement> deepEntityFields = getAllFields(entityField.asType());
+
+        for (int index = 1; index < splittedValue.length; index++) {
+            if (!hasProperty(splittedValue[index], deepEntityFields)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private List<VariableElement> getAllFields(TypeMirror type) {
+        List<VariableElement> fields = new ArrayList<>();
+
+        for (TypeMirror t = type; t.getKind() == TypeKind.DECLARED; t = ((TypeElement) types.asElement(t)).getSuperclass()) {
+            fields.addAll(ElementFilter.fieldsIn(((DeclaredType) t).asElement().getEnclosedElements()));
+        }
+
+        return fields;
+    }
+
+    private VariableElement findAnnotatedField(TypeElement typeElement, String annotationName) {
+        for (VariableElement field : getAllFields(typeElement.asType())) {
+            if (findAnnotation(field, annotationName) != null) {
+                return field;
+            }
+        }
+
+        return null;
+    }
+
+    private ExecutableElement findGetter(TypeElement typeElement, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String capitalizedName = name.substring(0, 1).toUpperCase(Locale.ENGLISH) + name.substring(1);
+        List<ExecutableElement> methods = ElementFilter.methodsIn(elements.getAllMembers(typeElement));
+
+        for (String methodName : new String[] { "is" + capitalizedName, "get" + capitalizedName }) {
+            for (ExecutableElement method : methods) {
+                if (method.getSimpleName().contentEquals(methodName)
+                        && method.getParameters().isEmpty()
+                        && method.getModifiers().contains(Modifier.PUBLIC)
+                        && !method.getModifiers().contains(Modifier.STATIC)
+                        && method.getReturnType().getKind() != TypeKind.VOID) {
+                    return method;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isComparable(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && types.isAssignable(types.erasure(type),
+                types.erasure(elements.getTypeElement(COMPARABLE).asType()));
+    }
+
+    private String literal(Object value) {
+        return elements.getConstantExpression(value);
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+
+        return null;
+    }
+
+    private Object getValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : elements.getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                Object value = entry.getValue().getValue();
+
+                return value instanceof VariableElement ? ((VariableElement) value).getSimpleName().toString() : value;
+            }
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.github.fagnerlima.springspecificationtools;
+
+/**
+ * Define how the values of the conditions are passed to the JPA provider.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public enum SpecBinding {
+
+    /**
+     * The values are bound as parameters of the statement. With Hibernate, also the numeric values, that it inlines
+     * by default, regardless of {@code hibernate.criteria.literal_handling_mode}.
+     */
+    PARAMETER,
+
+    /** The values are wrapped with {@code CriteriaBuilder.literal}, for providers that inline them in the SQL */
+    LITERAL,
+
+}
@@ -1,23 +1,22 @@
 package com.github.fagnerlima.springspecificationtools;
 
 import java.io.Serializable;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.persistence.criteria.JoinType;
 
 import org.springframework.data.jpa.domain.Specification;
 
-import com.github.fagnerlima.springspecificationtools.annotation.SpecBetween;
 import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
-import com.github.fagnerlima.springspecificationtools.annotation.SpecField;
-import com.github.fagnerlima.springspecificationtools.annotation.SpecGroup;
-import com.github.fagnerlima.springspecificationtools.annotation.SpecJoin;
-import com.github.fagnerlima.springspecificationtools.annotation.SpecPeriod;
-import com.github.fagnerlima.springspecificationtools.annotation.SpecPeriodEndDate;
-import com.github.fagnerlima.springspecificationtools.annotation.SpecPeriodStartDate;
-import com.github.fagnerlima.springspecificationtools.util.FieldUtils;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecFetch;
 
 /**
  * Used for build Specification objects.
@@ -29,13 +28,54 @@ import com.github.fagnerlima.springspecificationtools.util.FieldUtils;
 public class SpecBuilder<T extends Serializable> {
 
     private List<Specification<T>> specs = new ArrayList<>();
+    private Map<String, List<SpecCondition>> existsConditions = new LinkedHashMap<>();
     private SpecFactory<T> specFactory = new SpecFactory<>();
+    private SpecDistinct distinct;
+    private SpecDistinct filterDistinct = SpecDistinct.AUTO;
+    private Set<String> fetchPaths = new LinkedHashSet<>();
 
     /**
      * Clear the conditions
      */
     public void clear() {
         specs = new ArrayList<>();
+        existsConditions = new LinkedHashMap<>();
+        filterDistinct = SpecDistinct.AUTO;
+        fetchPaths = new LinkedHashSet<>();
+    }
+
+    /**
+     * Define when the DISTINCT restriction is applied, overriding the value defined in {@link SpecEntity}.
+     *
+     * @param distinct when the DISTINCT restriction is applied
+     * @return SpecBuilder instance
+     */
+    public SpecBuilder<T> distinct(SpecDistinct distinct) {
+        this.distinct = distinct;
+
+        return this;
+    }
+
+    /**
+     * Load the associations of the {@code paths} with the entities, like {@link SpecFetch}. The to-one paths are
+     * fetch joins of the built Specification, and the paths through a collection are in the entity graph of
+     * {@link #getFetchPlan()}, used by {@link SpecFetchExecutor}.
+     *
+     * @param paths the paths of the associations, e.g. {@code owner} or {@code tags}
+     * @return SpecBuilder instance
+     */
+    public SpecBuilder<T> fetch(String... paths) {
+        Collections.addAll(fetchPaths, paths);
+
+        return this;
+    }
+
+    /**
+     * @return The associations loaded with the entities, defined with {@link #fetch(String...)} and
+     *         {@link SpecFetch}.
+     */
+    public SpecFetchPlan getFetchPlan() {
+        return SpecFetchPlan.of(fetchPaths);
     }
 
     /**
@@ -45,22 +85,89 @@ public class SpecBuilder<T extends Serializable> {
      * @return SpecBuilder instance
      */
     public SpecBuilder<T> add(Specification<T> spec) {
-        specs.add(spec);
+        if (spec != null) {
+            specs.add(spec);
+        }
 
         return this;
     }
 
     /**
-     * Accept an object annotated with {@link SpecEntity}.
+     * Accept a condition on an association that is checked with a correlated EXISTS subquery. The conditions with
+     * the same path are merged in a single subquery, combined with the operator of {@link #build(SpecOperator)}.
+     *
+     * @param property the property of the association, e.g. {@code tags.description}
+     * @param operation the operation of the condition
+     * @param value the value of the condition
+     * @return SpecBuilder instance
+     * @see SpecJoinStrategy#EXISTS
+     */
+    public SpecBuilder<T> exists(String property, SpecOperation operation, Object value) {
+        return exists(property, operation, null, value);
+    }
+
+    /**
+     * Same of {@link #exists(String, SpecOperation, Object)}, normalizing the strings with the {@code dialect}.
+     *
+     * @param property the property of the association, e.g. {@code tags.description}
+     * @param operation the operation of the condition
+     * @param dialect the dialect, or {@code null} for the default one
+     * @param value the value of the condition
+     * @return SpecBuilder instance
+     */
+    public SpecBuilder<T> exists(String property, SpecOperation operation, StringNormalizationDialect dialect,
+            Object value) {
+        if (!SpecUtils.isDeepProperty(property)) {
+            return add((dialect != null ? specFactory.dialect(dialect) : specFactory).create(property, operation, value));
+        }
+
+        existsConditions.computeIfAbsent(property.substring(0, property.lastIndexOf('.')), path -> new ArrayList<>())
+                .add(new SpecCondition(property, operation, dialect, value));
+
+        return this;
+    }
+
+    /**
+     * Accept an object annotated with {@link SpecEntity}. Uses the generated {@link SpecProvider} of the filter
+     * class if it's in the classpath, or the {@link SpecPlan} of the filter class otherwise.
      *
      * @param filter object annotated with {@link SpecEntity}
      * @return SpecBuilder instance
      */
-    @SuppressWarnings("unchecked")
     public SpecBuilder<T> add(Object filter) {
-        Class<T> entityClass = (Class<T>) filter.getClass().getAnnotation(SpecEntity.class).value();
+        if (!SpecListeners.isEnabled()) {
+            return addFilter(filter);
+        }
+
+        long start = System.nanoTime();
 
-        return add(filter, entityClass);
+        try {
+            return addFilter(filter);
+        } finally {
+            SpecListeners.onAdd(filter.getClass(), System.nanoTime() - start);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private SpecBuilder<T> addFilter(Object filter) {
+        SpecFetch specFetch = filter.getClass().getAnnotation(SpecFetch.class);
+
+        if (specFetch != null) {
+            fetch(specFetch.value());
+        }
+
+        Optional<SpecProvider<?, ?>> provider = SpecProviders.find(filter.getClass());
+
+        if (provider.isPresent()) {
+            addDistinct(provider.get().getDistinct());
+
+            return ((SpecProvider<Object, T>) provider.get()).add(this, filter);
+        }
+
+        SpecPlan plan = SpecPlan.of(filter.getClass());
+        addDistinct(plan.getDistinct());
+
+        return add(filter, plan);
     }
 
     /**
@@ -73,116 +180,185 @@ public class SpecBuilder<T extends Serializable> {
     }
 
     /**
-     * Build the Specification.
+     * Build the Specification, simplified by {@link SpecSimplifier}.
      *
      * @param operator the operator that will be used in the Specification
-     * @return the Specification
+     * @return the Specification, or {@link SpecSimplifier#none()} if no row satisfies the conditions
      */
     public Specification<T> build(SpecOperator operator) {
-        if (specs.isEmpty()) {
-            return null;
+        if (!SpecListeners.isEnabled()) {
+            return buildSpec(operator);
         }
 
-        Specification<T> result = specs.get(0)
-                .and(specFactory.distinct());
+        long start = System.nanoTime();
+        Specification<T> spec = buildSpec(operator);
+        SpecListeners.onBuild(spec, System.nanoTime() - start);
 
-        if (specs.size() > 1) {
-            for (int i = 1; i < specs.size(); i++) {
-                result = Specification.where(result);
-                result = operator.equals(SpecOperator.AND)
-                        ? result.and(specs.get(i))
-                        : result.or(specs.get(i));
-            }
+        return spec;
+    }
+
+    private Specification<T> buildSpec(SpecOperator operator) {
+        List<Specification<T>> allSpecs = new ArrayList<>(specs);
+        existsConditions.values().forEach(conditions -> allSpecs.add(specFactory.exists(new ArrayList<>(conditions), operator)));
+
+        if (allSpecs.isEmpty()) {
+            return fetchPaths.isEmpty() ? null : specFactory.fetch(fetchPaths, Collections.emptyMap());
         }
 
-        return result;
-    }
+        Specification<T> result = SpecSimplifier.simplify(new SpecComposite<>(operator, allSpecs));
+        SpecDistinct effectiveDistinct = distinct != null ? distinct : filterDistinct;
 
-    private SpecBuilder<T> add(Object filter, Class<T> entityClass) {
-        List<Field> filterFields = FieldUtils.getAllFields(filter.getClass());
-        List<Field> entityFields = FieldUtils.getAllFields(entityClass);
+        if (SpecSimplifier.isUnsatisfiable(result)) {
+            return result;
+        }
 
-        for (Field filterField : filterFields) {
-            try {
-                Method getterMethod = FieldUtils.findGetterMethod(filterField.getName(), filter.getClass());
-                Object value = getterMethod.invoke(filter);
-                SpecField specField = filterField.getAnnotation(SpecField.class);
+        List<Specification<T>> resultSpecs = new ArrayList<>(3);
 
-                if (value == null && (specField == null || !specField.canBeNull())) {
-                    continue;
-                }
+        if (!fetchPaths.isEmpty()) {
+            // evaluated before the conditions, so their joins reuse the fetch joins
+            resultSpecs.add(specFactory.fetch(fetchPaths, getJoinTypes(result, new HashMap<>())));
+        }
 
-                SpecBetween specBetween = filterField.getAnnotation(SpecBetween.class);
+        resultSpecs.add(result);
 
-                if (specBetween != null) {
-                    addBetween(specBetween, value);
-                    continue;
-                }
+        if (effectiveDistinct != SpecDistinct.NEVER) {
+            // evaluated after all of the conditions, so their joins are already in the query
+            resultSpecs.add(specFactory.distinct(effectiveDistinct));
+        }
 
-                SpecJoin specJoin = filterField.getAnnotation(SpecJoin.class);
+        return resultSpecs.size() == 1 ? result : new SpecComposite<>(SpecOperator.AND, resultSpecs);
+    }
 
-                if (specJoin != null) {
-                    addJoin(filterField, value);
-                    continue;
-                }
+    /**
+     * Collect the join types of the paths joined by the leaves of {@code spec}, except RIGHT, that can't be fetched.
+     */
+    private Map<String, JoinType> getJoinTypes(Specification<T> spec, Map<String, JoinType> joinTypes) {
+        if (spec instanceof SpecComposite) {
+            ((SpecComposite<T>) spec).getSpecs().forEach(child -> getJoinTypes(child, joinTypes));
+        } else if (spec instanceof SpecLeaf && ((SpecLeaf<T>) spec).getJoinType() != null
+                && ((SpecLeaf<T>) spec).getJoinType() != JoinType.RIGHT) {
+            String property = ((SpecLeaf<T>) spec).getCondition().getProperty();
+
+            if (SpecUtils.isDeepProperty(property)) {
+                joinTypes.putIfAbsent(property.substring(0, property.lastIndexOf('.')),
+                        ((SpecLeaf<T>) spec).getJoinType());
+            }
+        }
 
-                SpecGroup specGroup = filterField.getAnnotation(SpecGroup.class);
+        return joinTypes;
+    }
 
-                if (specGroup != null) {
-                    addGroup(specGroup, value, entityClass);
-                    continue;
-                }
+    /**
+     * Get the fingerprint of the Specification built with {@link #build()}, independent of the order in which the
+     * conditions were added.
+     *
+     * @return the fingerprint, or {@code null} if one of the Specifications added is opaque
+     * @see SpecFingerprint
+     */
+    public String fingerprint() {
+        return fingerprint(SpecOperator.AND);
+    }
+
+    /**
+     * Get the fingerprint of the Specification built with {@link #build(SpecOperator)}.
+     *
+     * @param operator the operator that will be used in the Specification
+     * @return the fingerprint, or {@code null} if one of the Specifications added is opaque
+     * @see SpecFingerprint
+     */
+    public String fingerprint(SpecOperator operator) {
+        return SpecFingerprint.of(build(operator));
+    }
+
+    private void addDistinct(SpecDistinct distinct) {
+        if (distinct != SpecDistinct.AUTO) {
+            filterDistinct = distinct;
+        }
+    }
+
+    private SpecBuilder<T> add(Object filter, SpecPlan plan) {
+        if (SpecListeners.isEnabled()) {
+            plan.getSkippedFields().forEach((field, reason) -> SpecListeners.onFieldSkipped(field, reason, null));
+        }
 
-                SpecPeriod specPeriod = filterField.getAnnotation(SpecPeriod.class);
+        for (SpecPlanField planField : plan.getFields()) {
+            try {
+                Object value = planField.getValue(filter);
 
-                if (specPeriod != null) {
-                    addPeriod(specPeriod, value);
+                if (value == null && !planField.isCanBeNull()) {
+                    SpecListeners.onFieldSkipped(planField.getField(), SpecSkipReason.NULL_VALUE, null);
                     continue;
                 }
 
-                if (SpecUtils.hasProperty(filterField, entityFields)) {
-                    specs.add(specFactory.create(filterField, value));
+                switch (planField.getKind()) {
+                    case BETWEEN:
+                        addBetween(planField, value);
+                        break;
+                    case JOIN:
+                        addJoin(planField, value);
+                        break;
+                    case GROUP:
+                        addGroup(planField, value);
+                        break;
+                    case PERIOD:
+                        addPeriod(planField, value);
+                        break;
+                    default:
+                        specs.add(getSpecFactory(planField).create(planField.getProperty(), planField.getOperation(), value));
                 }
             } catch (Exception exception) {
-                continue;
+                SpecListeners.onFieldSkipped(planField.getField(), SpecSkipReason.ERROR, exception);
             }
         }
 
         return this;
     }
 
-    private void addBetween(SpecBetween specBetween, Object value) {
-        specs.add(specFactory.between(specBetween.left(), specBetween.right(), value));
+    private void addBetween(SpecPlanField planField, Object value) {
+        specs.add(specFactory.between(planField.getLeftProperty(), planField.getRightProperty(), value));
     }
 
-    private void addJoin(Field filterField, Object value) {
-        specs.add(specFactory.join(filterField, value));
-    }
+    private void addJoin(SpecPlanField planField, Object value) {
+        if (planField.getJoinStrategy() == SpecJoinStrategy.EXISTS) {
+            exists(planField.getProperty(), planField.getOperation(), getDialect(planField), value);
+            return;
+        }
 
-    private void addGroup(SpecGroup specGroup, Object value, Class<T> entityClass) {
-        specs.add(new SpecBuilder<T>()
-                .add(value, entityClass)
-                .build(specGroup.operator()));
+        specs.add(getSpecFactory(planField).join(planField.getProperty(), planField.getOperation(), planField.getJoinType(), value));
     }
 
-    private void addPeriod(SpecPeriod specPeriod, Object value) throws Exception {
-        Field startField = FieldUtils.getField(value.getClass(), SpecPeriodStartDate.class);
-        Field endField = FieldUtils.getField(value.getClass(), SpecPeriodEndDate.class);
+    private void addGroup(SpecPlanField planField, Object value) {
+        Specification<T> spec = new SpecBuilder<T>()
+                .distinct(SpecDistinct.NEVER)
+                .add(value, planField.getPlan(value))
+                .buildSpec(planField.getOperator());
 
-        Method startGetterMethod = FieldUtils.findGetterMethod(startField.getName(), value.getClass());
-        Method endGetterMethod = FieldUtils.findGetterMethod(endField.getName(), value.getClass());
+        addOrSkip(planField, spec);
+    }
 
-        LocalDate startValue = (LocalDate) startGetterMethod.invoke(value);
-        LocalDate endValue = (LocalDate) endGetterMethod.invoke(value);
+    private void addPeriod(SpecPlanField planField, Object value) {
+        SpecPlan periodPlan = planField.getPlan(value);
 
-        if (startValue == null || endValue == null || startValue.isAfter(endValue)) {
+        addOrSkip(planField, !periodPlan.isPeriod() ? null : specFactory.period(planField.getProperty(),
+                planField.getRightProperty(), planField.getPeriodOperation(), planField.isOpenEnded(),
+                periodPlan.getStartDate(value), periodPlan.getEndDate(value)));
+    }
+
+    private void addOrSkip(SpecPlanField planField, Specification<T> spec) {
+        if (spec == null) {
+            SpecListeners.onFieldSkipped(planField.getField(), SpecSkipReason.NO_CONDITION, null);
             return;
         }
 
-        specs.add(new SpecBuilder<T>()
-                .add(specFactory.between(specPeriod.start(), startValue, endValue))
-                .add(specFactory.between(specPeriod.end(), startValue, endValue))
-                .build(SpecOperator.OR));
+        specs.add(spec);
+    }
+
+    private StringNormalizationDialect getDialect(SpecPlanField planField) {
+        return planField.getDialect() != null ? StringNormalizationDialects.get(planField.getDialect()) : null;
+    }
+
+    private SpecFactory<T> getSpecFactory(SpecPlanField planField) {
+        return planField.getDialect() != null ? specFactory.dialect(getDialect(planField)) : specFactory;
     }
 
 }
@@ -0,0 +1,103 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specification that combines its children with a single AND or OR of a flat array of predicates, instead of a
+ * nested tree of compositions. The children with the same operator are inlined and the {@code null} predicates are
+ * ignored.
+ * @author Fagner Lima
+ * @since 0.4.0
+ *
+ * @param <T> entity class
+ */
+public class SpecComposite<T extends Serializable> implements Specification<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final SpecOperator operator;
+    private final List<Specification<T>> specs;
+
+    @SuppressWarnings("unchecked")
+    public SpecComposite(SpecOperator operator, List<Specification<T>> specs) {
+        List<Specification<T>> flattenedSpecs = new ArrayList<>(specs.size());
+
+        for (Specification<T> spec : specs) {
+            if (spec instanceof SpecComposite && ((SpecComposite<T>) spec).getOperator().equals(operator)) {
+                flattenedSpecs.addAll(((SpecComposite<T>) spec).getSpecs());
+            } else if (spec != null) {
+                flattenedSpecs.add(spec);
+            }
+        }
+
+        this.operator = operator;
+        this.specs = Collections.unmodifiableList(flattenedSpecs);
+    }
+
+    /**
+     * @return The operator used to combine the children.
+     */
+    public SpecOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * @return The children.
+     */
+    public List<Specification<T>> getSpecs() {
+        return specs;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        if (!SpecListeners.isEnabled()) {
+            return createPredicate(root, query, criteriaBuilder);
+        }
+
+        long start = System.nanoTime();
+        boolean outermost = SpecListeners.enterToPredicate();
+
+        try {
+            return createPredicate(root, query, criteriaBuilder);
+        } finally {
+            SpecListeners.exitToPredicate(outermost, System.nanoTime() - start);
+        }
+    }
+
+    private Predicate createPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        List<Predicate> predicates = new ArrayList<>(specs.size());
+
+        for (Specification<T> spec : specs) {
+            Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+
+        if (predicates.isEmpty()) {
+            return null;
+        }
+
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+
+        Predicate[] restrictions = predicates.toArray(new Predicate[predicates.size()]);
+
+        return operator.equals(SpecOperator.AND)
+                ? criteriaBuilder.and(restrictions)
+                : criteriaBuilder.or(restrictions);
+    }
+
+}
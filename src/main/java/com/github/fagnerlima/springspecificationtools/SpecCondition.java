@@ -0,0 +1,55 @@
+package com.github.fagnerlima.springspecificationtools;
+
+/**
+ * A single condition: a property, an operation and a value.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public final class SpecCondition {
+
+    private final String property;
+    private final SpecOperation operation;
+    private final Object value;
+    private final StringNormalizationDialect dialect;
+
+    public SpecCondition(String property, SpecOperation operation, Object value) {
+        this(property, operation, null, value);
+    }
+
+    public SpecCondition(String property, SpecOperation operation, StringNormalizationDialect dialect, Object value) {
+        this.property = property;
+        this.operation = operation;
+        this.dialect = dialect;
+        this.value = value;
+    }
+
+    /**
+     * @return The property of the entity.
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * @return The operation of the condition.
+     */
+    public SpecOperation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return The value of the condition.
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * @return The dialect of the operations that ignore case and accents, or {@code null} for the one of the
+     *         SpecFactory.
+     */
+    public StringNormalizationDialect getDialect() {
+        return dialect;
+    }
+
+}
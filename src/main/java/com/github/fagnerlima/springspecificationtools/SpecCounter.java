@@ -0,0 +1,98 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.io.Serializable;
+import java.util.Collections;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.EntityType;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Count the rows of a Specification, optionally only up to a limit, for the cases where the exact total is not
+ * needed (e.g. "10,000+").
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public class SpecCounter<T extends Serializable> {
+
+    private final EntityManager entityManager;
+    private final Class<T> entityClass;
+
+    public SpecCounter(EntityManager entityManager, Class<T> entityClass) {
+        this.entityManager = entityManager;
+        this.entityClass = entityClass;
+    }
+
+    /**
+     * Count the rows of {@code specification}, with COUNT DISTINCT only when the DISTINCT restriction is applied.
+     *
+     * @param specification the Specification, or {@code null} for all rows
+     * @return the number of rows
+     */
+    public long count(Specification<T> specification) {
+        if (SpecSimplifier.isUnsatisfiable(specification)) {
+            return 0;
+        }
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<T> root = query.from(entityClass);
+
+        where(query, root, criteriaBuilder, specification);
+        query.select(query.isDistinct() ? criteriaBuilder.countDistinct(root) : criteriaBuilder.count(root));
+        query.orderBy(Collections.emptyList());
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Count the rows of {@code specification} up to {@code limit}, reading at most {@code limit + 1} ids instead of
+     * counting all the rows.
+     *
+     * @param specification the Specification, or {@code null} for all rows
+     * @param limit the maximum number of rows counted
+     * @return the number of rows, or {@code limit + 1} if there are more than {@code limit} rows
+     */
+    public long count(Specification<T> specification, int limit) {
+        if (SpecSimplifier.isUnsatisfiable(specification)) {
+            return 0;
+        }
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = criteriaBuilder.createQuery();
+        Root<T> root = query.from(entityClass);
+
+        where(query, root, criteriaBuilder, specification);
+        query.select(getId(root));
+        query.orderBy(Collections.emptyList());
+
+        return entityManager.createQuery(query).setMaxResults(limit + 1).getResultList().size();
+    }
+
+    private void where(CriteriaQuery<?> query, Root<T> root, CriteriaBuilder criteriaBuilder,
+            Specification<T> specification) {
+        Predicate predicate = specification != null ? specification.toPredicate(root, query, criteriaBuilder) : null;
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    /**
+     * The id of the root, or the root itself when the entity has an IdClass.
+     */
+    static <T> Path<?> getId(Root<T> root) {
+        EntityType<T> entityType = root.getModel();
+
+        return entityType.hasSingleIdAttribute()
+                ? root.get(entityType.getId(entityType.getIdType().getJavaType()))
+                : root;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.github.fagnerlima.springspecificationtools;
+
+/**
+ * Define when the DISTINCT restriction is applied to the query.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public enum SpecDistinct {
+
+    /** Only if the query joins or fetches a to-many association */
+    AUTO,
+
+    /** Always */
+    ALWAYS,
+
+    /** Never, the query is left as is */
+    NEVER,
+
+}
@@ -0,0 +1,100 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+/**
+ * Run the Specifications in a repository, returning the empty results without querying the database when the
+ * Specification is unsatisfiable, and optionally caching the results in a {@link SpecResultCache}.
+ * @author Fagner Lima
+ * @since 0.4.0
+ * @see SpecSimplifier#isUnsatisfiable(Specification)
+ */
+public class SpecExecutor<T extends Serializable> {
+
+    private final JpaSpecificationExecutor<T> repository;
+    private final Class<T> entityClass;
+    private final SpecResultCache cache;
+
+    public SpecExecutor(JpaSpecificationExecutor<T> repository) {
+        this(repository, null, null);
+    }
+
+    /**
+     * Create a SpecExecutor that caches the results of the Specifications with a {@link SpecFingerprint} in
+     * {@code cache}.
+     *
+     * @param repository the repository
+     * @param entityClass the entity class of the repository
+     * @param cache the cache of the results
+     */
+    public SpecExecutor(JpaSpecificationExecutor<T> repository, Class<T> entityClass, SpecResultCache cache) {
+        this.repository = repository;
+        this.entityClass = entityClass;
+        this.cache = cache;
+    }
+
+    public Optional<T> findOne(Specification<T> spec) {
+        return SpecSimplifier.isUnsatisfiable(spec)
+                ? Optional.empty()
+                : cached(spec, "findOne", null, () -> repository.findOne(spec));
+    }
+
+    public List<T> findAll(Specification<T> spec) {
+        return SpecSimplifier.isUnsatisfiable(spec)
+                ? Collections.emptyList()
+                : cached(spec, "findAll", null, () -> Collections.unmodifiableList(repository.findAll(spec)));
+    }
+
+    public Page<T> findAll(Specification<T> spec, Pageable pageable) {
+        return SpecSimplifier.isUnsatisfiable(spec)
+                ? Page.empty(pageable)
+                : cached(spec, "findAll", pageable, () -> repository.findAll(spec, pageable));
+    }
+
+    public List<T> findAll(Specification<T> spec, Sort sort) {
+        return SpecSimplifier.isUnsatisfiable(spec)
+                ? Collections.emptyList()
+                : cached(spec, "findAll", sort, () -> Collections.unmodifiableList(repository.findAll(spec, sort)));
+    }
+
+    public long count(Specification<T> spec) {
+        return SpecSimplifier.isUnsatisfiable(spec) ? 0 : cached(spec, "count", null, () -> repository.count(spec));
+    }
+
+    private <V> V cached(Specification<T> spec, String method, Object parameter, Supplier<V> loader) {
+        String fingerprint = cache != null ? SpecFingerprint.of(spec) : null;
+
+        return fingerprint != null
+                ? cache.get(entityClass, joinedClasses(spec, parameter), fingerprint, Arrays.asList(method, parameter),
+                        loader)
+                : loader.get();
+    }
+
+    /**
+     * Get the entity classes joined by the Specification and by the sort, so a change to them invalidates the
+     * cached result.
+     */
+    private Set<Class<?>> joinedClasses(Specification<T> spec, Object parameter) {
+        Set<String> properties = SpecFingerprint.properties(spec);
+        Sort sort = parameter instanceof Pageable ? ((Pageable) parameter).getSort()
+                : parameter instanceof Sort ? (Sort) parameter
+                : Sort.unsorted();
+
+        sort.forEach(order -> properties.add(order.getProperty()));
+
+        return SpecUtils.getEntityClasses(entityClass, properties);
+    }
+
+}
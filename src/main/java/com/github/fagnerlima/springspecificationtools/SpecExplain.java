@@ -0,0 +1,127 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.io.Serializable;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+
+/**
+ * Debug dump of how a filter is turned into a Specification: the resolved fields with their values, the skipped
+ * fields with the reason, and the canonical representation of the built Specification.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public final class SpecExplain {
+
+    private static final String INDENT = "  ";
+
+    private SpecExplain() {
+    }
+
+    /**
+     * Explain the conditions of {@code filter}.
+     *
+     * @param filter object annotated with {@link SpecEntity}
+     * @return the explanation, in multiple lines
+     */
+    public static String explain(Object filter) {
+        Class<?> filterClass = filter.getClass();
+        SpecPlan plan = SpecPlan.of(filterClass);
+        StringBuilder explain = new StringBuilder()
+                .append(filterClass.getName()).append(" -> ").append(plan.getEntityClass().getName())
+                .append(" (distinct ").append(plan.getDistinct()).append(")\n");
+
+        SpecProviders.find(filterClass).ifPresent(provider -> explain.append("provider: ")
+                .append(provider.getClass().getName()).append('\n'));
+        explain(explain, filter, plan, INDENT);
+
+        Specification<Serializable> spec = new SpecBuilder<Serializable>().add(filter).build();
+        String canonical = SpecFingerprint.canonical(spec);
+
+        explain.append("specification: ").append(canonical != null ? canonical : "opaque").append('\n');
+
+        if (canonical != null) {
+            explain.append("fingerprint: ").append(SpecFingerprint.of(spec)).append('\n');
+        }
+
+        return explain.append("unsatisfiable: ").append(SpecSimplifier.isUnsatisfiable(spec)).append('\n')
+                .toString();
+    }
+
+    private static void explain(StringBuilder explain, Object filter, SpecPlan plan, String indent) {
+        for (SpecPlanField planField : plan.getFields()) {
+            explain.append(indent).append(planField.getField().getName()).append(": ");
+            Object value;
+
+            try {
+                value = planField.getValue(filter);
+            } catch (RuntimeException exception) {
+                explain.append("skipped (").append(SpecSkipReason.ERROR).append(": ").append(exception).append(")\n");
+                continue;
+            }
+
+            explain.append(describe(planField, value));
+
+            if (value == null && !planField.isCanBeNull()) {
+                explain.append(" -> skipped (").append(SpecSkipReason.NULL_VALUE).append(')');
+            } else if (planField.getKind() == SpecPlanField.Kind.PERIOD && value != null && !isPeriod(planField, value)) {
+                explain.append(" -> skipped (").append(SpecSkipReason.NO_CONDITION).append(')');
+            }
+
+            explain.append('\n');
+
+            if (planField.getKind() == SpecPlanField.Kind.GROUP && value != null) {
+                explain(explain, value, planField.getPlan(value), indent + INDENT);
+            }
+        }
+
+        plan.getSkippedFields().forEach((field, reason) -> explain.append(indent).append(field.getName())
+                .append(": skipped (").append(reason).append(")\n"));
+    }
+
+    private static String describe(SpecPlanField planField, Object value) {
+        switch (planField.getKind()) {
+            case BETWEEN:
+                return "BETWEEN " + planField.getLeftProperty() + " AND " + planField.getRightProperty() + " = "
+                        + format(value);
+            case JOIN:
+                return planField.getJoinType() + " " + planField.getJoinStrategy() + " " + planField.getProperty()
+                        + " " + planField.getOperation() + getDialect(planField) + " = " + format(value);
+            case GROUP:
+                return "GROUP " + planField.getOperator();
+            case PERIOD:
+                return "PERIOD " + planField.getProperty() + ", " + planField.getRightProperty() + " "
+                        + planField.getPeriodOperation() + (planField.isOpenEnded() ? " open-ended" : "")
+                        + (value != null ? " = " + formatPeriod(planField.getPlan(value), value) : " = null");
+            default:
+                return planField.getProperty() + " " + planField.getOperation() + getDialect(planField) + " = "
+                        + format(value);
+        }
+    }
+
+    private static boolean isPeriod(SpecPlanField planField, Object value) {
+        SpecPlan periodPlan = planField.getPlan(value);
+
+        return periodPlan.isPeriod() && new SpecFactory<Serializable>().period(planField.getProperty(),
+                planField.getRightProperty(), planField.getPeriodOperation(), planField.isOpenEnded(),
+                periodPlan.getStartDate(value), periodPlan.getEndDate(value)) != null;
+    }
+
+    private static String formatPeriod(SpecPlan periodPlan, Object value) {
+        if (!periodPlan.isPeriod()) {
+            return value.getClass().getSimpleName() + " without start and end dates";
+        }
+
+        return "[" + format(periodPlan.getStartDate(value)) + ", " + format(periodPlan.getEndDate(value)) + "]";
+    }
+
+    private static String getDialect(SpecPlanField planField) {
+        return planField.getDialect() != null ? " (dialect " + planField.getDialect() + ")" : "";
+    }
+
+    private static String format(Object value) {
+        return value instanceof String ? "'" + value + "'" : String.valueOf(value);
+    }
+
+}
@@ -4,15 +4,26 @@ import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
-import javax.persistence.criteria.CriteriaBuilder.In;
+import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Subquery;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import com.github.fagnerlima.springspecificationtools.annotation.SpecJoin;
 import com.github.fagnerlima.springspecificationtools.util.DateUtils;
 import com.github.fagnerlima.springspecificationtools.util.StringUtils;
 
@@ -25,15 +36,154 @@ import com.github.fagnerlima.springspecificationtools.util.StringUtils;
  */
 public class SpecFactory<T extends Serializable> {
 
-    private static final String POSTGRESQL_UNACCENT_FUNCTION = "unaccent";
+    private static volatile SpecInStrategy inStrategy = SpecInStrategy.expand();
+    private static volatile SpecBinding defaultBinding = SpecBinding.PARAMETER;
+
+    private static volatile StringNormalizationDialect defaultDialect = StringNormalizationDialect.postgresql();
+
+    private final SpecBinding binding;
+    private final StringNormalizationDialect dialect;
+
+    public SpecFactory() {
+        this(defaultBinding, defaultDialect);
+    }
+
+    private SpecFactory(SpecBinding binding, StringNormalizationDialect dialect) {
+        this.binding = binding;
+        this.dialect = dialect;
+    }
+
+    SpecBinding getBinding() {
+        return binding;
+    }
+
+    StringNormalizationDialect getDialect() {
+        return dialect;
+    }
+
+    /**
+     * Create a SpecFactory with the same binding of this, that normalizes the strings with the {@code dialect}.
+     *
+     * @param dialect the dialect of the operations that ignore case and accents
+     * @return the new SpecFactory
+     */
+    public SpecFactory<T> dialect(StringNormalizationDialect dialect) {
+        return new SpecFactory<>(binding, dialect);
+    }
+
+    /**
+     * @return The binding of the values used by the new SpecFactory instances.
+     */
+    public static SpecBinding getDefaultBinding() {
+        return defaultBinding;
+    }
+
+    /**
+     * Define the binding of the values used by the new SpecFactory instances. The IN conditions are not affected,
+     * see {@link #setInStrategy(SpecInStrategy)}.
+     *
+     * @param defaultBinding the binding of the values
+     */
+    public static void setDefaultBinding(SpecBinding defaultBinding) {
+        SpecFactory.defaultBinding = defaultBinding;
+    }
+
+    /**
+     * @return The dialect of the operations that ignore case and accents used by the new SpecFactory instances.
+     */
+    public static StringNormalizationDialect getDefaultDialect() {
+        return defaultDialect;
+    }
+
+    /**
+     * Define the dialect of the operations that ignore case and accents used by the new SpecFactory instances.
+     * The default is {@link StringNormalizationDialect#postgresql()}.
+     *
+     * @param defaultDialect the dialect
+     */
+    public static void setDefaultDialect(StringNormalizationDialect defaultDialect) {
+        SpecFactory.defaultDialect = defaultDialect;
+    }
+
+    /**
+     * @return The strategy used in the IN conditions.
+     */
+    public static SpecInStrategy getInStrategy() {
+        return inStrategy;
+    }
+
+    /**
+     * Define the strategy used in the IN conditions.
+     *
+     * @param inStrategy the strategy used in the IN conditions
+     */
+    public static void setInStrategy(SpecInStrategy inStrategy) {
+        SpecFactory.inStrategy = inStrategy;
+    }
 
     public Specification<T> distinct() {
         return (root, query, criteriaBuilder) -> query.distinct(true).getRestriction();
     }
 
+    /**
+     * Apply the DISTINCT restriction as defined by {@code distinct}. In count queries, the rows of the root are
+     * unique without a to-many join, so the restriction (and the COUNT DISTINCT) is applied only with one, even
+     * with {@link SpecDistinct#ALWAYS}, and the ordering is dropped.
+     *
+     * @param distinct when the DISTINCT restriction is applied
+     * @return the Specification, that applies the restriction without conditions
+     */
+    public Specification<T> distinct(SpecDistinct distinct) {
+        Specification<T> spec = (root, query, criteriaBuilder) -> {
+            if (SpecUtils.isCountQuery(query)) {
+                query.orderBy(Collections.emptyList());
+
+                if (distinct != SpecDistinct.NEVER && SpecUtils.hasPluralJoin(root)) {
+                    query.distinct(true);
+                }
+            } else if (distinct == SpecDistinct.ALWAYS
+                    || (distinct == SpecDistinct.AUTO && SpecUtils.hasPluralJoin(root))) {
+                query.distinct(true);
+            }
+
+            return null;
+        };
+
+        return SpecFingerprint.wrap(spec, "distinct", Collections.emptyList(), Collections.emptyList(), distinct);
+    }
+
+    /**
+     * Fetch join the to-one {@code paths}, with the join type of the conditions on the same path, so they reuse the
+     * fetch joins, or LEFT otherwise. The paths through a collection are ignored (see {@link SpecFetchPlan}), and
+     * the fetch joins are applied only to the queries that select the entities, not to the count and projection
+     * queries.
+     *
+     * @param paths the paths of the associations
+     * @param joinTypes the join types of the conditions by path
+     * @return the Specification, that applies the fetch joins without conditions
+     */
+    public Specification<T> fetch(Collection<String> paths, Map<String, JoinType> joinTypes) {
+        SpecFetchPlan fetchPlan = SpecFetchPlan.of(paths);
+        Specification<T> spec = (root, query, criteriaBuilder) -> {
+            if (root.getJavaType().equals(query.getResultType())) {
+                for (String path : fetchPlan.getToOnePaths(root.getJavaType())) {
+                    SpecUtils.getFetch(root, path, joinTypes.getOrDefault(path, JoinType.LEFT));
+                }
+            }
+
+            return null;
+        };
+
+        return SpecFingerprint.wrap(spec, "fetch", paths, Collections.emptyList(), new TreeSet<>(paths),
+                new TreeMap<>(joinTypes));
+    }
+
     public Specification<T> create(Field field, Object value) {
-        return (root, query, criteriaBuilder) -> create(SpecUtils.getPath(root, field), field, value)
-                .toPredicate(root, query, criteriaBuilder);
+        return create(SpecUtils.getPropertyName(field), SpecUtils.getOperation(field), value);
+    }
+
+    public Specification<T> create(String property, SpecOperation operation, Object value) {
+        return new SpecLeaf<>(this, new SpecCondition(property, operation, value), null);
     }
 
     @SuppressWarnings("unchecked")
@@ -81,57 +231,204 @@ public class SpecFactory<T extends Serializable> {
         };
     }
 
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     public Specification<T> between(String leftProperty, String rightProperty, Object value) {
-        return (root, query, criteriaBuilder) -> {
+        Specification<T> spec = (root, query, criteriaBuilder) -> {
             Expression<?> x = SpecUtils.getPath(root, leftProperty);
             Expression<?> y = SpecUtils.getPath(root, rightProperty);
 
             if (value instanceof Number) {
-                return criteriaBuilder.between(criteriaBuilder.literal(Long.valueOf(value.toString())),
-                        (Expression<Long>) x,
-                        (Expression<Long>) y);
+                return between(criteriaBuilder, (Comparable) value,
+                        (Expression<Comparable>) x,
+                        (Expression<Comparable>) y);
             } else if (value instanceof LocalDate) {
-                return criteriaBuilder.between(criteriaBuilder.literal((LocalDate) value),
+                return between(criteriaBuilder, (LocalDate) value,
                         (Expression<LocalDate>) x,
                         (Expression<LocalDate>) y);
             }
 
             return null;
         };
+
+        return SpecFingerprint.wrap(spec, "between", Arrays.asList(leftProperty, rightProperty),
+                Collections.singletonList(value), leftProperty, rightProperty);
     }
 
     @SuppressWarnings("unchecked")
     public <Y extends Comparable<? super Y>> Specification<T> between(String property, Y leftValue, Y rightValue) {
-        return (root, query, criteriaBuilder) -> {
+        Specification<T> spec = (root, query, criteriaBuilder) -> {
             Expression<Y> x = (Expression<Y>) SpecUtils.getPath(root, property);
 
-            return criteriaBuilder.between(x, criteriaBuilder.literal(leftValue), criteriaBuilder.literal(rightValue));
+            return between(criteriaBuilder, x, leftValue, rightValue);
         };
+
+        return SpecFingerprint.wrap(spec, "between", Collections.singletonList(property),
+                Arrays.asList(leftValue, rightValue), property);
+    }
+
+    /**
+     * Create the condition of a period, with {@link SpecPeriodOperation#OVERLAPS}.
+     *
+     * @param startProperty the property of the start date
+     * @param endProperty the property of the end date
+     * @param startValue the start value
+     * @param endValue the end value
+     * @return the Specification, or {@code null} if the period is incomplete or invalid
+     */
+    public <Y extends Comparable<? super Y>> Specification<T> period(String startProperty, String endProperty,
+            Y startValue, Y endValue) {
+        if (startValue == null || endValue == null) {
+            return null;
+        }
+
+        return period(startProperty, endProperty, SpecPeriodOperation.OVERLAPS, false, startValue, endValue);
+    }
+
+    /**
+     * Create the condition of a period as a single AND of bounds, that can use the indexes of the properties. A
+     * {@code null} value leaves its side of the period unbounded. {@code LocalDate} values compared with
+     * {@code LocalDateTime} properties are whole days, i.e. the half-open period {@code [start, end + 1 day)}.
+     *
+     * @param startProperty the property of the start date
+     * @param endProperty the property of the end date
+     * @param operation how the periods are compared
+     * @param openEnded if {@code true}, a {@code null} end date of the entity is an open-ended period
+     * @param startValue the start value, a {@code Comparable} like {@code LocalDate}, {@code LocalDateTime},
+     *        {@code Instant} or {@code OffsetDateTime}
+     * @param endValue the end value
+     * @return the Specification, or {@code null} if both values are {@code null} or the start is after the end
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Specification<T> period(String startProperty, String endProperty, SpecPeriodOperation operation,
+            boolean openEnded, Object startValue, Object endValue) {
+        if ((startValue == null && endValue == null) || (startValue != null && endValue != null
+                && startValue.getClass().equals(endValue.getClass())
+                && ((Comparable) startValue).compareTo(endValue) > 0)) {
+            return null;
+        }
+
+        Specification<T> spec = (root, query, criteriaBuilder) -> {
+            Path<?> start = SpecUtils.getPath(root, startProperty);
+            Path<?> end = SpecUtils.getPath(root, endProperty);
+            List<Predicate> predicates = new ArrayList<>(2);
+
+            switch (operation) {
+                case CONTAINS:
+                    predicates.add(atMost(criteriaBuilder, start, startValue, false));
+                    predicates.add(openEnded(criteriaBuilder, end, atLeast(criteriaBuilder, end, endValue, true),
+                            openEnded));
+                    break;
+                case WITHIN:
+                    predicates.add(atLeast(criteriaBuilder, start, startValue, false));
+                    predicates.add(atMost(criteriaBuilder, end, endValue, true));
+                    break;
+                default:
+                    predicates.add(atMost(criteriaBuilder, start, endValue, true));
+                    predicates.add(openEnded(criteriaBuilder, end, atLeast(criteriaBuilder, end, startValue, false),
+                            openEnded));
+            }
+
+            predicates.removeIf(predicate -> predicate == null);
+
+            return predicates.size() == 1
+                    ? predicates.get(0)
+                    : criteriaBuilder.and(predicates.toArray(new Predicate[predicates.size()]));
+        };
+
+        return SpecFingerprint.wrap(spec, "period", Arrays.asList(startProperty, endProperty),
+                Arrays.asList(startValue, endValue), startProperty, endProperty, operation, openEnded);
     }
 
     public Specification<T> join(Field field, Object value) {
-        return (root, query, criteriaBuilder) -> {
-            String[] deepProperties = SpecUtils.getDeepProperties(field);
-            Join<T, Object> joinRoot = root.join(deepProperties[0]);
+        SpecJoin specJoin = field.getAnnotation(SpecJoin.class);
 
-            if (deepProperties.length > 2) {
-                Integer index = 1;
+        return join(SpecUtils.getPropertyName(field), SpecUtils.getOperation(field),
+                specJoin != null ? specJoin.type() : JoinType.INNER, value);
+    }
 
-                do {
-                    joinRoot = joinRoot.join(deepProperties[index]);
-                } while (++index < deepProperties.length - 2);
+    public Specification<T> join(String property, SpecOperation operation, Object value) {
+        return join(property, operation, JoinType.INNER, value);
+    }
+
+    public Specification<T> join(String property, SpecOperation operation, JoinType joinType, Object value) {
+        if (!SpecUtils.isDeepProperty(property)) {
+            return create(property, operation, value);
+        }
+
+        return new SpecLeaf<>(this, new SpecCondition(property, operation, value), joinType);
+    }
+
+    public Specification<T> exists(String property, SpecOperation operation, Object value) {
+        if (!SpecUtils.isDeepProperty(property)) {
+            return create(property, operation, value);
+        }
+
+        return exists(Collections.singletonList(new SpecCondition(property, operation, value)), SpecOperator.AND);
+    }
+
+    /**
+     * Create a correlated EXISTS subquery that joins the path of the conditions and applies all of them, combined
+     * with {@code operator}, to the same joined row.
+     *
+     * @param conditions the conditions, all of them with the same path
+     * @param operator the operator used to combine the conditions
+     * @return the Specification
+     */
+    public Specification<T> exists(List<SpecCondition> conditions, SpecOperator operator) {
+        String property = conditions.get(0).getProperty();
+        String path = property.substring(0, property.lastIndexOf('.'));
+
+        Specification<T> spec = (root, query, criteriaBuilder) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Join<?, ?> join = SpecUtils.getJoin(subquery.correlate(root), path, JoinType.INNER);
+            List<Predicate> predicates = new ArrayList<>();
+            boolean instrumented = SpecListeners.isEnabled();
+
+            for (SpecCondition condition : conditions) {
+                long start = instrumented ? System.nanoTime() : 0;
+                String attribute = condition.getProperty().substring(path.length() + 1);
+                SpecFactory<T> factory = condition.getDialect() != null ? dialect(condition.getDialect()) : this;
+                Predicate predicate = factory.create(join.get(attribute), condition.getOperation(), condition.getValue())
+                        .toPredicate(root, query, criteriaBuilder);
+
+                if (instrumented) {
+                    SpecListeners.onPredicate(condition.getOperation(), System.nanoTime() - start);
+                }
+
+                if (predicate != null) {
+                    predicates.add(predicate);
+                }
             }
 
-            return create(joinRoot.get(deepProperties[deepProperties.length - 1]), field, value)
-                    .toPredicate(root, query, criteriaBuilder);
+            Predicate[] restrictions = predicates.toArray(new Predicate[predicates.size()]);
+
+            subquery.select(criteriaBuilder.literal(1))
+                    .where(operator.equals(SpecOperator.AND)
+                            ? criteriaBuilder.and(restrictions)
+                            : criteriaBuilder.or(restrictions));
+
+            return criteriaBuilder.exists(subquery);
         };
+
+        List<Specification<T>> leaves = new ArrayList<>(conditions.size());
+
+        for (SpecCondition condition : conditions) {
+            SpecFactory<T> factory = condition.getDialect() != null ? dialect(condition.getDialect()) : this;
+            leaves.add(new SpecLeaf<>(factory, condition, null));
+        }
+
+        // the canonical representation of the conditions is the one of the leaves combined with the operator
+        Specification<T> composite = new SpecComposite<>(operator, leaves);
+        String canonical = SpecFingerprint.canonical(composite);
+
+        return canonical != null
+                ? SpecFingerprint.wrap(spec, "exists", SpecFingerprint.properties(composite), Collections.emptyList(),
+                        canonical)
+                : spec;
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private Specification<T> create(Path<?> path, Field field, Object value) {
-        SpecOperation operation = SpecUtils.getOperation(field);
-
+    Specification<T> create(Path<?> path, SpecOperation operation, Object value) {
         if (value == null) {
             return (root, query, criteriaBuilder) -> criteriaBuilder.isNull(path);
         }
@@ -156,20 +453,7 @@ public class SpecFactory<T extends Serializable> {
     }
 
     private <Y extends Comparable<? super Y>> Specification<T> create(Path<? extends Y> path, Y value, SpecOperation operation) {
-        return (root, query, criteriaBuilder) -> {
-            switch (operation) {
-                case GREATER_THAN:
-                    return criteriaBuilder.greaterThan(path, value);
-                case LESS_THAN:
-                    return criteriaBuilder.lessThan(path, value);
-                case GREATER_THAN_OR_EQUAL:
-                    return criteriaBuilder.greaterThanOrEqualTo(path, value);
-                case LESS_THAN_OR_EQUAL:
-                    return criteriaBuilder.lessThanOrEqualTo(path, value);
-                default:
-                    return criteriaBuilder.equal(path, value);
-            }
-        };
+        return (root, query, criteriaBuilder) -> compare(criteriaBuilder, path, value, operation);
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -177,9 +461,11 @@ public class SpecFactory<T extends Serializable> {
         return (root, query, criteriaBuilder) -> {
             if (operation.equals(SpecOperation.DATETIME_TO_DATE)) {
                 LocalDateTime startOfDay = DateUtils.atStartOfDay(value);
-                LocalDateTime endOfDay = DateUtils.atEndOfDay(value);
+                LocalDateTime startOfNextDay = DateUtils.atStartOfNextDay(value);
 
-                return criteriaBuilder.between(path, startOfDay, endOfDay);
+                return criteriaBuilder.and(
+                        compare(criteriaBuilder, path, startOfDay, SpecOperation.GREATER_THAN_OR_EQUAL),
+                        compare(criteriaBuilder, path, startOfNextDay, SpecOperation.LESS_THAN));
             }
 
             return create((Path<? extends Comparable>) path, (Comparable) value, operation).toPredicate(root, query, criteriaBuilder);
@@ -187,12 +473,11 @@ public class SpecFactory<T extends Serializable> {
     }
 
     private Specification<T> create(Path<Collection<?>> collection, Collection<?> values) {
-        return (root, query, criteriaBuilder) -> {
-            In<Object> predicate = criteriaBuilder.in(collection);
-            values.stream().forEach(value -> predicate.value(value));
+        SpecInStrategy strategy = inStrategy;
 
-            return predicate;
-        };
+        return (root, query, criteriaBuilder) -> values.isEmpty()
+                ? criteriaBuilder.disjunction()
+                : strategy.toPredicate(collection, values, criteriaBuilder);
     }
 
     public Specification<T> create(Path<String> path, String value, SpecOperation operation) {
@@ -202,40 +487,156 @@ public class SpecFactory<T extends Serializable> {
 
             switch (operation) {
                 case EQUAL_IGNORE_CASE:
-                    x = criteriaBuilder.lower(x);
-                    y = y.toLowerCase();
-                    return criteriaBuilder.equal(x, y);
+                case EQUAL_IGNORE_CASE_UNACCENT:
+                    x = dialect.normalize(criteriaBuilder, x, operation);
+                    y = dialect.normalize(y, operation);
+                    return equal(criteriaBuilder, x, y);
                 case LIKE:
                     y = prepareForLike(y);
-                    return criteriaBuilder.like(x, y);
+                    return like(criteriaBuilder, x, y);
                 case LIKE_IGNORE_CASE:
-                    x = criteriaBuilder.lower(x);
-                    y = prepareForLike(y.toLowerCase());
-                    return criteriaBuilder.like(x, y);
-                case EQUAL_IGNORE_CASE_UNACCENT:
-                    x = criteriaBuilder.function(POSTGRESQL_UNACCENT_FUNCTION, String.class, criteriaBuilder.lower(x));
-                    y = StringUtils.unaccent(y.toLowerCase());
-                    return criteriaBuilder.equal(x, y);
                 case LIKE_IGNORE_CASE_UNACCENT:
-                    x = criteriaBuilder.function(POSTGRESQL_UNACCENT_FUNCTION, String.class, criteriaBuilder.lower(x));
-                    y = prepareForLike(StringUtils.unaccent(y.toLowerCase()));
-                    return criteriaBuilder.like(x, y);
+                    x = dialect.normalize(criteriaBuilder, x, operation);
+                    y = prepareForLike(dialect.normalize(y, operation));
+                    return like(criteriaBuilder, x, y);
+                case STARTS_WITH:
+                    return like(criteriaBuilder, x, prepareForStartsWith(y));
+                case STARTS_WITH_IGNORE_CASE:
+                case STARTS_WITH_IGNORE_CASE_UNACCENT:
+                    x = dialect.normalize(criteriaBuilder, x, operation);
+                    y = prepareForStartsWith(dialect.normalize(y, operation));
+                    return like(criteriaBuilder, x, y);
+                case ENDS_WITH:
+                    Expression<String> reversed = dialect.reverse(criteriaBuilder, x);
+
+                    if (reversed == null) {
+                        return like(criteriaBuilder, x, "%" + StringUtils.escapeLike(y));
+                    }
+
+                    y = prepareForStartsWith(new StringBuilder(y).reverse().toString());
+                    return like(criteriaBuilder, reversed, y);
                 default:
-                    return criteriaBuilder.equal(x, y);
+                    return equal(criteriaBuilder, x, y);
             }
         };
     }
 
     public Specification<T> create(Path<Boolean> path, Boolean value) {
-        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(path, value);
+        return (root, query, criteriaBuilder) -> equal(criteriaBuilder, path, value);
     }
 
     public Specification<T> create(Path<Enum<?>> path, Enum<?> value) {
-        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(path, value);
+        return (root, query, criteriaBuilder) -> equal(criteriaBuilder, path, value);
     }
 
     private String prepareForLike(String value) {
-        return "%" + value.replaceAll("\\s+", "%") + "%";
+        return "%" + StringUtils.escapeLike(value).replaceAll("\\s+", "%") + "%";
+    }
+
+    private String prepareForStartsWith(String value) {
+        return StringUtils.escapeLike(value) + "%";
+    }
+
+    private Predicate equal(CriteriaBuilder criteriaBuilder, Expression<?> x, Object y) {
+        return criteriaBuilder.equal(x, bind(criteriaBuilder, x, y));
+    }
+
+    private Predicate like(CriteriaBuilder criteriaBuilder, Expression<String> x, String pattern) {
+        return criteriaBuilder.like(x, bind(criteriaBuilder, x, pattern), StringUtils.LIKE_ESCAPE_CHAR);
+    }
+
+    private <Y extends Comparable<? super Y>> Predicate compare(CriteriaBuilder criteriaBuilder,
+            Expression<? extends Y> x, Y value, SpecOperation operation) {
+        Expression<Y> y = bind(criteriaBuilder, x, value);
+
+        switch (operation) {
+            case GREATER_THAN:
+                return criteriaBuilder.greaterThan(x, y);
+            case LESS_THAN:
+                return criteriaBuilder.lessThan(x, y);
+            case GREATER_THAN_OR_EQUAL:
+                return criteriaBuilder.greaterThanOrEqualTo(x, y);
+            case LESS_THAN_OR_EQUAL:
+                return criteriaBuilder.lessThanOrEqualTo(x, y);
+            default:
+                return criteriaBuilder.equal(x, y);
+        }
+    }
+
+    private <Y extends Comparable<? super Y>> Predicate between(CriteriaBuilder criteriaBuilder,
+            Expression<? extends Y> x, Y leftValue, Y rightValue) {
+        return criteriaBuilder.between(x, bind(criteriaBuilder, x, leftValue), bind(criteriaBuilder, x, rightValue));
+    }
+
+    /**
+     * {@code value BETWEEN x AND y}. With the parameter binding, the value is converted to the type of each property,
+     * so it's written as {@code x <= value AND y >= value}.
+     */
+    private <Y extends Comparable<? super Y>> Predicate between(CriteriaBuilder criteriaBuilder, Y value,
+            Expression<? extends Y> x, Expression<? extends Y> y) {
+        return binding == SpecBinding.LITERAL
+                ? criteriaBuilder.between(criteriaBuilder.literal(value), x, y)
+                : criteriaBuilder.and(criteriaBuilder.lessThanOrEqualTo(x, bind(criteriaBuilder, x, value)),
+                        criteriaBuilder.greaterThanOrEqualTo(y, bind(criteriaBuilder, y, value)));
+    }
+
+    /**
+     * The expression of {@code value}, compared with {@code x}, as defined by the binding.
+     */
+    private <Y> Expression<Y> bind(CriteriaBuilder criteriaBuilder, Expression<?> x, Y value) {
+        return binding == SpecBinding.LITERAL
+                ? criteriaBuilder.literal(value)
+                : SpecParameters.bind(criteriaBuilder, x, value);
+    }
+
+    /**
+     * {@code x >= value}, or {@code null} if the value is {@code null}. A {@code LocalDate} compared with a
+     * {@code LocalDateTime} is the start of the day, or the start of the next day if it's the {@code endOfPeriod},
+     * the exclusive end of the period of days.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Predicate atLeast(CriteriaBuilder criteriaBuilder, Path<?> x, Object value, boolean endOfPeriod) {
+        if (value == null) {
+            return null;
+        }
+
+        if (isDayOfDateTime(x, value)) {
+            LocalDate day = endOfPeriod ? ((LocalDate) value).plusDays(1) : (LocalDate) value;
+
+            return compare(criteriaBuilder, (Path<LocalDateTime>) x, day.atStartOfDay(),
+                    SpecOperation.GREATER_THAN_OR_EQUAL);
+        }
+
+        return compare(criteriaBuilder, (Path<Comparable>) x, (Comparable) value, SpecOperation.GREATER_THAN_OR_EQUAL);
+    }
+
+    /**
+     * {@code x <= value}, or {@code null} if the value is {@code null}. A {@code LocalDate} compared with a
+     * {@code LocalDateTime} is the start of the day, or {@code x < value + 1 day} if it's the {@code endOfPeriod}.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Predicate atMost(CriteriaBuilder criteriaBuilder, Path<?> x, Object value, boolean endOfPeriod) {
+        if (value == null) {
+            return null;
+        }
+
+        if (isDayOfDateTime(x, value)) {
+            return endOfPeriod
+                    ? compare(criteriaBuilder, (Path<LocalDateTime>) x, ((LocalDate) value).plusDays(1).atStartOfDay(),
+                            SpecOperation.LESS_THAN)
+                    : compare(criteriaBuilder, (Path<LocalDateTime>) x, ((LocalDate) value).atStartOfDay(),
+                            SpecOperation.LESS_THAN_OR_EQUAL);
+        }
+
+        return compare(criteriaBuilder, (Path<Comparable>) x, (Comparable) value, SpecOperation.LESS_THAN_OR_EQUAL);
+    }
+
+    private Predicate openEnded(CriteriaBuilder criteriaBuilder, Path<?> end, Predicate predicate, boolean openEnded) {
+        return predicate != null && openEnded ? criteriaBuilder.or(predicate, criteriaBuilder.isNull(end)) : predicate;
+    }
+
+    private boolean isDayOfDateTime(Path<?> x, Object value) {
+        return value instanceof LocalDate && LocalDateTime.class.equals(x.getJavaType());
     }
 
 }
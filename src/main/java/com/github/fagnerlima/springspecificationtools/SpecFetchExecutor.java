@@ -0,0 +1,204 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityGraph;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+
+/**
+ * Run the Specifications loading the associations of a {@link SpecFetchPlan}: the to-one paths with the fetch
+ * joins of the Specification, and the paths through a collection with the entity graph of the plan. A page with
+ * collections is read in two queries, the ids of the page and the entities of the ids with the entity graph, so
+ * the collections are never fetch joined in the paged query.
+ * @author Fagner Lima
+ * @since 0.4.0
+ *
+ * @param <T> entity class
+ */
+public class SpecFetchExecutor<T extends Serializable> {
+
+    /** Hibernate hint that removes the duplicates of the fetch joins without a DISTINCT in the SQL */
+    private static final String PASS_DISTINCT_THROUGH_HINT = "hibernate.query.passDistinctThrough";
+
+    private final EntityManager entityManager;
+    private final Class<T> entityClass;
+    private final SpecCounter<T> counter;
+
+    public SpecFetchExecutor(EntityManager entityManager, Class<T> entityClass) {
+        this.entityManager = entityManager;
+        this.entityClass = entityClass;
+        this.counter = new SpecCounter<>(entityManager, entityClass);
+    }
+
+    public List<T> findAll(Specification<T> spec, SpecFetchPlan fetchPlan) {
+        return findAll(spec, fetchPlan, Sort.unsorted());
+    }
+
+    public List<T> findAll(Specification<T> spec, SpecFetchPlan fetchPlan, Sort sort) {
+        if (SpecSimplifier.isUnsatisfiable(spec)) {
+            return Collections.emptyList();
+        }
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+
+        where(query, root, criteriaBuilder, spec);
+        orderBy(query, root, criteriaBuilder, sort);
+
+        return withEntityGraph(query.select(root), fetchPlan).getResultList();
+    }
+
+    public Page<T> findAll(Specification<T> spec, SpecFetchPlan fetchPlan, Pageable pageable) {
+        if (SpecSimplifier.isUnsatisfiable(spec)) {
+            return Page.empty(pageable);
+        }
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll(spec, fetchPlan, pageable.getSort()));
+        }
+
+        List<T> content = fetchPlan.getToManyPaths(entityClass).isEmpty()
+                ? findPage(spec, pageable)
+                : findByIds(findIds(spec, pageable), fetchPlan);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> counter.count(spec));
+    }
+
+    private List<T> findPage(Specification<T> spec, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+
+        where(query, root, criteriaBuilder, spec);
+        orderBy(query, root, criteriaBuilder, pageable.getSort());
+
+        return entityManager.createQuery(query.select(root))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    /**
+     * Read the ids of the page, selected with the expressions of the order, that must be in the select of a
+     * DISTINCT query.
+     */
+    private List<Object> findIds(Specification<T> spec, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+
+        where(query, root, criteriaBuilder, spec);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(SpecCounter.getId(root));
+
+        if (pageable.getSort().isSorted()) {
+            List<Order> orders = QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder);
+            orders.forEach(order -> selections.add(order.getExpression()));
+            query.orderBy(orders);
+        }
+
+        List<Tuple> tuples = entityManager.createQuery(query.multiselect(selections))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        List<Object> ids = new ArrayList<>(tuples.size());
+
+        for (Tuple tuple : tuples) {
+            ids.add(tuple.get(0));
+        }
+
+        return ids;
+    }
+
+    /**
+     * Load the entities of the {@code ids} with the fetch plan, in the order of the ids.
+     */
+    private List<T> findByIds(List<Object> ids, SpecFetchPlan fetchPlan) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+
+        for (String path : fetchPlan.getToOnePaths(entityClass)) {
+            SpecUtils.getFetch(root, path, JoinType.LEFT);
+        }
+
+        query.select(root).where(SpecCounter.getId(root).in(ids));
+
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        Map<Object, T> entities = new HashMap<>();
+
+        for (T entity : withEntityGraph(query, fetchPlan).getResultList()) {
+            entities.put(persistenceUnitUtil.getIdentifier(entity), entity);
+        }
+
+        List<T> content = new ArrayList<>(ids.size());
+
+        for (Object id : ids) {
+            // the id of an entity with an IdClass is the entity itself
+            T entity = entities.get(entityClass.isInstance(id) ? persistenceUnitUtil.getIdentifier(id) : id);
+
+            if (entity != null) {
+                content.add(entity);
+            }
+        }
+
+        return content;
+    }
+
+    private TypedQuery<T> withEntityGraph(CriteriaQuery<T> query, SpecFetchPlan fetchPlan) {
+        EntityGraph<T> entityGraph = fetchPlan.toEntityGraph(entityManager, entityClass);
+
+        if (entityGraph == null) {
+            return entityManager.createQuery(query);
+        }
+
+        return entityManager.createQuery(query.distinct(true))
+                .setHint(SpecFetchPlan.FETCH_GRAPH_HINT, entityGraph)
+                .setHint(PASS_DISTINCT_THROUGH_HINT, false);
+    }
+
+    private void where(CriteriaQuery<?> query, Root<T> root, CriteriaBuilder criteriaBuilder,
+            Specification<T> spec) {
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, criteriaBuilder) : null;
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    private void orderBy(CriteriaQuery<?> query, Root<T> root, CriteriaBuilder criteriaBuilder, Sort sort) {
+        if (sort != null && sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.EntityGraph;
+import javax.persistence.EntityManager;
+import javax.persistence.Subgraph;
+
+import com.github.fagnerlima.springspecificationtools.annotation.SpecFetch;
+import com.github.fagnerlima.springspecificationtools.util.FieldUtils;
+
+/**
+ * The associations loaded with the entities, defined with {@link SpecFetch} or {@link SpecBuilder#fetch(String...)}.
+ * The to-one paths are fetch joins of the Specification built by {@link SpecBuilder}, and the paths through a
+ * collection are an entity graph, used as the {@code javax.persistence.fetchgraph} hint by
+ * {@link SpecFetchExecutor}, since a fetch join of a collection multiplies the rows and breaks the pagination.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public final class SpecFetchPlan {
+
+    /** The hint of the entity graph */
+    public static final String FETCH_GRAPH_HINT = "javax.persistence.fetchgraph";
+
+    private static final SpecFetchPlan EMPTY = new SpecFetchPlan(Collections.emptySet());
+
+    private final Set<String> paths;
+
+    private SpecFetchPlan(Set<String> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * @param paths the paths of the associations
+     * @return the fetch plan
+     */
+    public static SpecFetchPlan of(String... paths) {
+        return of(Arrays.asList(paths));
+    }
+
+    /**
+     * @param paths the paths of the associations
+     * @return the fetch plan
+     */
+    public static SpecFetchPlan of(Collection<String> paths) {
+        return paths.isEmpty() ? EMPTY : new SpecFetchPlan(Collections.unmodifiableSet(new LinkedHashSet<>(paths)));
+    }
+
+    /**
+     * @return The paths of the associations.
+     */
+    public Set<String> getPaths() {
+        return paths;
+    }
+
+    public boolean isEmpty() {
+        return paths.isEmpty();
+    }
+
+    /**
+     * @param entityClass the entity class
+     * @return The paths without collections, loaded with fetch joins.
+     */
+    public List<String> getToOnePaths(Class<?> entityClass) {
+        List<String> toOnePaths = new ArrayList<>();
+
+        for (String path : paths) {
+            if (!isToMany(entityClass, path)) {
+                toOnePaths.add(path);
+            }
+        }
+
+        return toOnePaths;
+    }
+
+    /**
+     * @param entityClass the entity class
+     * @return The paths through a collection, loaded with the entity graph.
+     */
+    public List<String> getToManyPaths(Class<?> entityClass) {
+        List<String> toManyPaths = new ArrayList<>();
+
+        for (String path : paths) {
+            if (isToMany(entityClass, path)) {
+                toManyPaths.add(path);
+            }
+        }
+
+        return toManyPaths;
+    }
+
+    /**
+     * Create the entity graph of the paths through a collection.
+     *
+     * @param <T> entity class
+     * @param entityManager the EntityManager
+     * @param entityClass the entity class
+     * @return the entity graph, or {@code null} if there is no path through a collection
+     */
+    public <T> EntityGraph<T> toEntityGraph(EntityManager entityManager, Class<T> entityClass) {
+        List<String> toManyPaths = getToManyPaths(entityClass);
+
+        if (toManyPaths.isEmpty()) {
+            return null;
+        }
+
+        EntityGraph<T> graph = entityManager.createEntityGraph(entityClass);
+
+        for (String path : toManyPaths) {
+            String[] attributes = path.split("\\.");
+
+            if (attributes.length == 1) {
+                graph.addAttributeNodes(path);
+                continue;
+            }
+
+            Subgraph<?> subgraph = graph.addSubgraph(attributes[0]);
+
+            for (int i = 1; i < attributes.length - 1; i++) {
+                subgraph = subgraph.addSubgraph(attributes[i]);
+            }
+
+            subgraph.addAttributeNodes(attributes[attributes.length - 1]);
+        }
+
+        return graph;
+    }
+
+    @Override
+    public String toString() {
+        return "SpecFetchPlan" + paths;
+    }
+
+    /**
+     * Check, with the fields of the classes, if {@code path} goes through a collection.
+     *
+     * @throws IllegalArgumentException if the path has an unknown property
+     */
+    static boolean isToMany(Class<?> entityClass, String path) {
+        Class<?> type = entityClass;
+
+        for (String name : path.split("\\.")) {
+            Field field = FieldUtils.getAllFields(type).stream()
+                    .filter(candidate -> candidate.getName().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown property " + path + " of "
+                            + entityClass.getName()));
+
+            if (Collection.class.isAssignableFrom(field.getType()) || Map.class.isAssignableFrom(field.getType())) {
+                return true;
+            }
+
+            type = field.getType();
+        }
+
+        return false;
+    }
+
+}
@@ -0,0 +1,732 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+
+/**
+ * Index of saved filters, that finds the filters matched by an entity (e.g. on each write of the entity) without
+ * testing all of them, like a percolator. Each filter is indexed by one of its conditions that every matched entity
+ * must satisfy:
+ * <ul>
+ * <li>the EQUAL and IN conditions, in an inverted index of their values;</li>
+ * <li>the ranges, the {@code SpecBetween} and the {@code SpecPeriod} conditions, in an interval tree of each
+ * property, with the ranges of the same property intersected, and the overlapped periods in an interval tree of
+ * the periods of the entities;</li>
+ * </ul>
+ * and the filters without such a condition (e.g. only LIKE conditions) are tested for every entity. Only the
+ * conditions combined with AND at the top level of the filter are indexed. The values and ranges of a property are
+ * intersected only when they bind the same element: the root, the join of the same join type, or the EXISTS
+ * subquery of the same group, since the conditions of different joins of a collection may be satisfied by different
+ * elements. The candidates found by the indexes are then tested with the predicate of {@link SpecPredicates}, so
+ * the matches are the same of the predicates.
+ * The index is thread-safe, with the matches running concurrently.
+ * @author Fagner Lima
+ * @since 0.4.0
+ *
+ * @param <K> filter id class
+ * @param <T> entity class
+ */
+public class SpecFilterIndex<K, T> {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private final Map<Target, Map<Object, Set<K>>> equalities = new HashMap<>();
+    private final Map<Object, IntervalIndex<K>> intervals = new HashMap<>();
+    private final Set<K> scanned = new HashSet<>();
+
+    /**
+     * Add the {@code filter}, replacing the filter with the same {@code id}. The values of the filter are read when
+     * it's added.
+     *
+     * @param id the id of the filter
+     * @param filter object annotated with {@link SpecEntity}
+     */
+    public void add(K id, Object filter) {
+        Entry<K> entry = new Entry<>(SpecPredicates.compile(filter));
+        Decomposition decomposition = new Decomposition();
+        decomposition.fields(filter, SpecPlan.of(filter.getClass()));
+
+        lock.writeLock().lock();
+
+        try {
+            remove(entries.put(id, entry), id);
+            index(entry, decomposition, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param id the id of the filter
+     * @return {@code true} if the filter was removed
+     */
+    public boolean remove(K id) {
+        lock.writeLock().lock();
+
+        try {
+            Entry<K> entry = entries.remove(id);
+            remove(entry, id);
+
+            return entry != null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param entity the entity
+     * @return the ids of the filters matched by the entity
+     */
+    public Set<K> match(T entity) {
+        lock.readLock().lock();
+
+        try {
+            Set<K> candidates = new HashSet<>(scanned);
+
+            equalities.forEach((target, ids) -> target.path.values(entity, value -> {
+                Set<K> keyIds = ids.get(target.key(value));
+
+                if (keyIds != null) {
+                    candidates.addAll(keyIds);
+                }
+            }));
+
+            intervals.values().forEach(index -> index.match(entity, candidates::add));
+
+            Set<K> matches = new HashSet<>();
+
+            for (K id : candidates) {
+                if (entries.get(id).predicate.test(entity)) {
+                    matches.add(id);
+                }
+            }
+
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of filters
+     */
+    public int size() {
+        lock.readLock().lock();
+
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of filters without an indexed condition, tested for every entity
+     */
+    public int getScannedSize() {
+        lock.readLock().lock();
+
+        try {
+            return scanned.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Index the filter by its most selective condition: an equality with the fewest values, then a bounded range,
+     * an overlapped period and a range with a single bound.
+     */
+    private void index(Entry<K> entry, Decomposition decomposition, K id) {
+        if (decomposition.never) {
+            // no entity matches the filter
+            return;
+        }
+
+        Map.Entry<List<Object>, Set<Object>> equality = decomposition.equalities.entrySet().stream()
+                .min((x, y) -> Integer.compare(x.getValue().size(), y.getValue().size()))
+                .orElse(null);
+
+        if (equality != null) {
+            entry.target = (Target) equality.getKey().get(1);
+            entry.keys = equality.getValue();
+            Map<Object, Set<K>> ids = equalities.computeIfAbsent(entry.target, key -> new HashMap<>());
+            entry.keys.forEach(key -> ids.computeIfAbsent(key, k -> new HashSet<>()).add(id));
+
+            return;
+        }
+
+        Bounds bounds = decomposition.bounds.values().stream()
+                .filter(candidate -> candidate.low != null && candidate.high != null)
+                .findFirst()
+                .orElse(decomposition.periods.stream().findFirst()
+                        .orElse(decomposition.bounds.values().stream().findFirst().orElse(null)));
+
+        if (bounds != null) {
+            entry.bounds = bounds;
+            entry.node = intervals.computeIfAbsent(bounds.getIndexKey(), key -> new IntervalIndex<>(bounds)).trees
+                    .computeIfAbsent(bounds.keyClass, key -> new SpecIntervalTree<>())
+                    .add(bounds.low, bounds.high, id);
+
+            return;
+        }
+
+        entry.scanned = true;
+        scanned.add(id);
+    }
+
+    private void remove(Entry<K> entry, K id) {
+        if (entry == null) {
+            return;
+        }
+
+        if (entry.target != null) {
+            Map<Object, Set<K>> ids = equalities.get(entry.target);
+
+            for (Object key : entry.keys) {
+                Set<K> keyIds = ids.get(key);
+                keyIds.remove(id);
+
+                if (keyIds.isEmpty()) {
+                    ids.remove(key);
+                }
+            }
+
+            if (ids.isEmpty()) {
+                equalities.remove(entry.target);
+            }
+        } else if (entry.node != null) {
+            IntervalIndex<K> index = intervals.get(entry.bounds.getIndexKey());
+            SpecIntervalTree<K> tree = index.trees.get(entry.bounds.keyClass);
+            tree.remove(entry.node);
+
+            if (tree.size() == 0) {
+                index.trees.remove(entry.bounds.keyClass);
+            }
+
+            if (index.trees.isEmpty()) {
+                intervals.remove(entry.bounds.getIndexKey());
+            }
+        } else if (entry.scanned) {
+            scanned.remove(id);
+        }
+    }
+
+    /**
+     * The key of a value in an interval tree: the numbers as {@link BigDecimal} and the dates at the start of the
+     * day, so they're compared like {@link SpecPredicates}.
+     *
+     * @return the key, or {@code null} if the value isn't indexed in the interval trees
+     */
+    private static Comparable<?> intervalKey(Object value) {
+        if (value instanceof Number) {
+            return new BigDecimal(value.toString());
+        }
+
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay();
+        }
+
+        // only the final classes, that are comparable only with themselves
+        return value instanceof Comparable && value.getClass().getName().startsWith("java.time.")
+                ? (Comparable<?>) value
+                : null;
+    }
+
+    /**
+     * The key of a value in the inverted index, with the same key for the equal numbers of different types and
+     * for the constants and the names of the enums.
+     */
+    private static Object equalityKey(Object value) {
+        return value instanceof Enum ? ((Enum<?>) value).name() : SpecPredicates.key(value);
+    }
+
+    private static boolean isEqualityValue(Object value) {
+        return value instanceof Number || value instanceof String || value instanceof Enum
+                || value instanceof Boolean || value instanceof Character;
+    }
+
+    /**
+     * A filter, with the condition that indexes it.
+     */
+    private static final class Entry<K> {
+
+        private final Predicate<Object> predicate;
+        private Target target;
+        private Set<Object> keys;
+        private Bounds bounds;
+        private Object node;
+        private boolean scanned;
+
+        Entry(Predicate<Object> predicate) {
+            this.predicate = predicate;
+        }
+
+    }
+
+    /**
+     * A property of the inverted index, with the normalization of the values of the entities: the keys of the
+     * numbers and enums, the strings of the EQUAL conditions of strings or the strings normalized by a dialect.
+     */
+    private static final class Target {
+
+        private final String property;
+        private final SpecOperation operation;
+        private final StringNormalizationDialect dialect;
+        private final Path path;
+
+        Target(String property, SpecOperation operation, StringNormalizationDialect dialect) {
+            this.property = property;
+            this.operation = operation;
+            this.dialect = dialect;
+            this.path = new Path(property);
+        }
+
+        Object key(Object value) {
+            if (operation == null) {
+                return equalityKey(value);
+            }
+
+            String string = SpecPredicates.toString(value);
+
+            return dialect != null ? dialect.normalize(string, operation) : string;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            if (!(object instanceof Target)) {
+                return false;
+            }
+
+            Target target = (Target) object;
+
+            return property.equals(target.property) && operation == target.operation
+                    && Objects.equals(dialect, target.dialect);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(property, operation, dialect);
+        }
+
+    }
+
+    /**
+     * The interval trees of a property, or of the periods of two properties, by the class of their keys.
+     */
+    private static final class IntervalIndex<K> {
+
+        private final Path path;
+        private final Path endPath;
+        private final boolean openEnded;
+        private final Map<Class<?>, SpecIntervalTree<K>> trees = new HashMap<>();
+
+        IntervalIndex(Bounds bounds) {
+            this.path = new Path(bounds.property);
+            this.endPath = bounds.endProperty != null ? new Path(bounds.endProperty) : null;
+            this.openEnded = bounds.openEnded;
+        }
+
+        /**
+         * Give the filters with an interval that contains the value of the entity, or that overlaps its period, to
+         * the {@code consumer}.
+         */
+        void match(Object entity, Consumer<K> consumer) {
+            path.values(entity, value -> {
+                Comparable<?> key = intervalKey(value);
+                SpecIntervalTree<K> tree = key != null ? trees.get(key.getClass()) : null;
+
+                if (tree == null) {
+                    return;
+                }
+
+                if (endPath == null) {
+                    tree.stab(key, consumer);
+
+                    return;
+                }
+
+                boolean[] ended = { false };
+
+                endPath.values(entity, end -> {
+                    Comparable<?> endKey = intervalKey(end);
+                    ended[0] = true;
+
+                    if (endKey != null && endKey.getClass() == key.getClass()) {
+                        tree.overlap(key, endKey, consumer);
+                    }
+                });
+
+                if (!ended[0] && openEnded) {
+                    tree.overlap(key, null, consumer);
+                }
+            });
+        }
+
+    }
+
+    /**
+     * The closed interval of the values of a property, or of a period overlapped by the periods of two properties,
+     * with {@code null} bounds unbounded.
+     */
+    private static final class Bounds {
+
+        private final String property;
+        private final String endProperty;
+        private final boolean openEnded;
+        private final Class<?> keyClass;
+        private Comparable<?> low;
+        private Comparable<?> high;
+
+        Bounds(String property, Class<?> keyClass) {
+            this(property, null, false, keyClass);
+        }
+
+        Bounds(String property, String endProperty, boolean openEnded, Class<?> keyClass) {
+            this.property = property;
+            this.endProperty = endProperty;
+            this.openEnded = openEnded;
+            this.keyClass = keyClass;
+        }
+
+        Object getIndexKey() {
+            return endProperty != null ? Arrays.asList(property, endProperty, openEnded) : property;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        boolean intersect(Comparable low, Comparable high) {
+            if (low != null && (this.low == null || low.compareTo(this.low) > 0)) {
+                this.low = low;
+            }
+
+            if (high != null && (this.high == null || high.compareTo(this.high) < 0)) {
+                this.high = high;
+            }
+
+            return this.low == null || this.high == null || ((Comparable) this.low).compareTo(this.high) <= 0;
+        }
+
+    }
+
+    /**
+     * A path of the root, navigating the collections.
+     */
+    private static final class Path {
+
+        private final SpecPredicates.Attribute[] attributes;
+
+        Path(String property) {
+            String[] names = property.split("\\.");
+            attributes = new SpecPredicates.Attribute[names.length];
+
+            for (int i = 0; i < names.length; i++) {
+                attributes[i] = new SpecPredicates.Attribute(names[i]);
+            }
+        }
+
+        /**
+         * Give the non-null values of the path, of all of the elements of the collections, to the
+         * {@code consumer}.
+         */
+        void values(Object object, Consumer<Object> consumer) {
+            values(object, 0, consumer);
+        }
+
+        private void values(Object object, int index, Consumer<Object> consumer) {
+            Object value = attributes[index].read(object);
+
+            if (value instanceof Collection) {
+                for (Object element : (Collection<?>) value) {
+                    value(element, index, consumer);
+                }
+            } else {
+                value(value, index, consumer);
+            }
+        }
+
+        private void value(Object value, int index, Consumer<Object> consumer) {
+            if (value == null) {
+                return;
+            }
+
+            if (index == attributes.length - 1) {
+                consumer.accept(value);
+            } else {
+                values(value, index + 1, consumer);
+            }
+        }
+
+    }
+
+    /**
+     * The conditions of a filter that every matched entity satisfies, read like {@link SpecPredicates}: the
+     * equalities and the intersection of the ranges by property and by the element bound by the conditions.
+     */
+    private static final class Decomposition {
+
+        /** The binding of the conditions of the root and of its to-one paths */
+        private static final Object ROOT = "root";
+
+        private final Map<List<Object>, Set<Object>> equalities = new LinkedHashMap<>();
+        private final Map<List<Object>, Bounds> bounds = new LinkedHashMap<>();
+        private final List<Bounds> periods = new ArrayList<>();
+        private int groups;
+        private boolean never;
+
+        void fields(Object filter, SpecPlan plan) {
+            int group = groups++;
+
+            for (SpecPlanField planField : plan.getFields()) {
+                try {
+                    Object value = planField.getValue(filter);
+
+                    // IS NULL isn't indexed
+                    if (value != null) {
+                        field(planField, value, group);
+                    }
+                } catch (RuntimeException exception) {
+                    // skipped, like the fields of SpecPredicates that can't be read or converted
+                }
+            }
+        }
+
+        private void field(SpecPlanField planField, Object value, int group) {
+            switch (planField.getKind()) {
+                case BETWEEN:
+                    between(planField, value);
+                    break;
+                case GROUP:
+                    if (planField.getOperator() == SpecOperator.AND) {
+                        fields(value, planField.getPlan(value));
+                    }
+                    break;
+                case PERIOD:
+                    period(planField, value);
+                    break;
+                default:
+                    leaf(binding(planField, group), planField.getProperty(), planField.getOperation(),
+                            getDialect(planField), value);
+            }
+        }
+
+        /**
+         * The element bound by the condition of {@code planField}, like the joins of {@link SpecPredicates}: the
+         * joins of the same join type are shared by the whole filter, and the EXISTS subqueries by the conditions
+         * of the same group.
+         */
+        private Object binding(SpecPlanField planField, int group) {
+            if (planField.getKind() != SpecPlanField.Kind.JOIN || !SpecUtils.isDeepProperty(planField.getProperty())) {
+                return ROOT;
+            }
+
+            return planField.getJoinStrategy() == SpecJoinStrategy.EXISTS
+                    ? Arrays.asList(SpecJoinStrategy.EXISTS, group)
+                    : planField.getJoinType();
+        }
+
+        private void between(SpecPlanField planField, Object value) {
+            // the numbers are keys of their values, with the fractional ones (e.g. 2.5) kept
+            Object bound = value instanceof Number || value instanceof LocalDate ? value : null;
+
+            if (bound != null) {
+                bound(ROOT, planField.getLeftProperty(), null, intervalKey(bound));
+                bound(ROOT, planField.getRightProperty(), intervalKey(bound), null);
+            }
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private void period(SpecPlanField planField, Object value) {
+            SpecPlan periodPlan = planField.getPlan(value);
+
+            if (periodPlan == null || !periodPlan.isPeriod()) {
+                return;
+            }
+
+            Object startValue = periodPlan.getStartDate(value);
+            Object endValue = periodPlan.getEndDate(value);
+
+            // without conditions, like SpecPredicates
+            if (startValue != null && endValue != null && startValue.getClass().equals(endValue.getClass())
+                    && ((Comparable) startValue).compareTo(endValue) > 0) {
+                return;
+            }
+
+            String start = planField.getProperty();
+            String end = planField.getRightProperty();
+            // an open-ended period matches the entities without the end
+            boolean openEnded = planField.isOpenEnded();
+
+            switch (planField.getPeriodOperation()) {
+                case CONTAINS:
+                    atMost(start, startValue, false);
+                    atLeast(openEnded ? null : end, endValue);
+                    break;
+                case WITHIN:
+                    atLeast(start, startValue);
+                    atMost(end, endValue, true);
+                    break;
+                default:
+                    atMost(start, endValue, true);
+                    atLeast(openEnded ? null : end, startValue);
+                    overlaps(planField, startValue, endValue);
+            }
+        }
+
+        /**
+         * The period of an OVERLAPS condition, with the bounds of {@code atLeast} and {@code atMost}.
+         */
+        private void overlaps(SpecPlanField planField, Object startValue, Object endValue) {
+            Comparable<?> low = startValue != null ? intervalKey(startValue) : null;
+            Comparable<?> high = endValue instanceof LocalDate ? ((LocalDate) endValue).plusDays(1).atStartOfDay()
+                    : endValue != null ? intervalKey(endValue) : null;
+
+            if (low != null && high != null && low.getClass() == high.getClass()) {
+                Bounds period = new Bounds(planField.getProperty(), planField.getRightProperty(),
+                        planField.isOpenEnded(), low.getClass());
+                period.intersect(low, high);
+                periods.add(period);
+            }
+        }
+
+        /**
+         * The {@code atLeast} of {@link SpecPredicates}, with the start of the day of the end of a period, for
+         * the values of both types.
+         */
+        private void atLeast(String property, Object value) {
+            if (property != null && value != null) {
+                bound(ROOT, property, intervalKey(value), null);
+            }
+        }
+
+        /**
+         * The {@code atMost} of {@link SpecPredicates}, with the start of the next day of the end of a period, for
+         * the values of both types.
+         */
+        private void atMost(String property, Object value, boolean endOfPeriod) {
+            if (value != null) {
+                bound(ROOT, property, null, value instanceof LocalDate && endOfPeriod
+                        ? ((LocalDate) value).plusDays(1).atStartOfDay()
+                        : intervalKey(value));
+            }
+        }
+
+        /**
+         * The {@code create(Path, SpecOperation, Object)} of {@link SpecFactory}, with the conditions that can't
+         * be indexed (e.g. LIKE) ignored.
+         */
+        private void leaf(Object binding, String property, SpecOperation operation,
+                StringNormalizationDialect dialect, Object value) {
+            if (value instanceof String) {
+                string(binding, property, operation, dialect, (String) value);
+            } else if (value instanceof Collection) {
+                in(binding, property, (Collection<?>) value);
+            } else if (value instanceof LocalDate && operation == SpecOperation.DATETIME_TO_DATE) {
+                bound(binding, property, intervalKey(value), ((LocalDate) value).plusDays(1).atStartOfDay());
+            } else if (value instanceof Comparable) {
+                switch (operation) {
+                    case GREATER_THAN:
+                    case GREATER_THAN_OR_EQUAL:
+                        bound(binding, property, intervalKey(value), null);
+                        break;
+                    case LESS_THAN:
+                    case LESS_THAN_OR_EQUAL:
+                        bound(binding, property, null, intervalKey(value));
+                        break;
+                    default:
+                        if (isEqualityValue(value)) {
+                            equal(binding, new Target(property, null, null),
+                                    Collections.singleton(equalityKey(value)));
+                        } else {
+                            Comparable<?> key = intervalKey(value);
+                            bound(binding, property, key, key);
+                        }
+                }
+            }
+        }
+
+        private void string(Object binding, String property, SpecOperation operation,
+                StringNormalizationDialect dialect, String value) {
+            switch (operation) {
+                case EQUAL_IGNORE_CASE:
+                case EQUAL_IGNORE_CASE_UNACCENT:
+                    equal(binding, new Target(property, operation, dialect),
+                            Collections.singleton(dialect.normalize(value, operation)));
+                    break;
+                case LIKE:
+                case LIKE_IGNORE_CASE:
+                case LIKE_IGNORE_CASE_UNACCENT:
+                case STARTS_WITH:
+                case STARTS_WITH_IGNORE_CASE:
+                case STARTS_WITH_IGNORE_CASE_UNACCENT:
+                case ENDS_WITH:
+                    break;
+                default:
+                    equal(binding, new Target(property, SpecOperation.EQUAL, null), Collections.singleton(value));
+            }
+        }
+
+        private void in(Object binding, String property, Collection<?> values) {
+            Set<Object> keys = new HashSet<>(values.size() * 2);
+
+            for (Object value : values) {
+                if (value != null && !isEqualityValue(value)) {
+                    return;
+                }
+
+                if (value != null) {
+                    keys.add(equalityKey(value));
+                }
+            }
+
+            equal(binding, new Target(property, null, null), keys);
+        }
+
+        private void equal(Object binding, Target target, Set<Object> keys) {
+            Set<Object> current = equalities.computeIfAbsent(Arrays.asList(binding, target),
+                    key -> new HashSet<>(keys));
+            current.retainAll(keys);
+
+            never |= current.isEmpty();
+        }
+
+        private void bound(Object binding, String property, Comparable<?> low, Comparable<?> high) {
+            Comparable<?> key = low != null ? low : high;
+
+            if (key == null || low != null && high != null && low.getClass() != high.getClass()) {
+                return;
+            }
+
+            never |= !bounds.computeIfAbsent(Arrays.asList(binding, property, key.getClass()),
+                    k -> new Bounds(property, key.getClass())).intersect(low, high);
+        }
+
+        private StringNormalizationDialect getDialect(SpecPlanField planField) {
+            return planField.getDialect() != null
+                    ? StringNormalizationDialects.get(planField.getDialect())
+                    : SpecFactory.getDefaultDialect();
+        }
+
+    }
+
+}
@@ -0,0 +1,296 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Canonical representation of the Specifications built by {@link SpecBuilder} and {@link SpecFactory}, independent
+ * of the order of the fields and of the values of the collections, so equivalent Specifications have the same
+ * fingerprint. The Specifications created elsewhere (e.g. lambdas) are opaque and have no fingerprint.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public final class SpecFingerprint {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private SpecFingerprint() {
+    }
+
+    /**
+     * Get the fingerprint of {@code spec}, the SHA-256 of its canonical representation.
+     *
+     * @param spec the Specification
+     * @return the fingerprint, or {@code null} if {@code spec} contains an opaque Specification
+     * @see #canonical(Specification)
+     */
+    public static String of(Specification<?> spec) {
+        String canonical = canonical(spec);
+
+        if (canonical == null) {
+            return null;
+        }
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            char[] hex = new char[hash.length * 2];
+
+            for (int i = 0; i < hash.length; i++) {
+                hex[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xF];
+            }
+
+            return new String(hex);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Get the canonical representation of {@code spec}, where the children of AND and OR and the values of the
+     * collections are sorted.
+     *
+     * @param spec the Specification, {@code null} for all the rows
+     * @return the canonical representation, or {@code null} if {@code spec} contains an opaque Specification
+     */
+    public static String canonical(Specification<?> spec) {
+        if (spec == null) {
+            return "all";
+        }
+
+        if (SpecSimplifier.isUnsatisfiable(spec)) {
+            return "none";
+        }
+
+        if (spec instanceof Canonical) {
+            return ((Canonical<?>) spec).canonical;
+        }
+
+        if (spec instanceof SpecLeaf) {
+            SpecLeaf<?> leaf = (SpecLeaf<?>) spec;
+            SpecCondition condition = leaf.getCondition();
+            String value = value(condition.getValue());
+
+            if (value == null) {
+                return null;
+            }
+
+            String property = leaf.getJoinType() != null
+                    ? condition.getProperty() + "@" + leaf.getJoinType()
+                    : condition.getProperty();
+
+            // only the strings are normalized by the dialect
+            return condition.getValue() instanceof String
+                    ? function(condition.getOperation().name(), property, value, leaf.getSpecFactory().getDialect())
+                    : function(condition.getOperation().name(), property, value);
+        }
+
+        if (spec instanceof SpecComposite) {
+            SpecComposite<?> composite = (SpecComposite<?>) spec;
+            List<String> children = new ArrayList<>(composite.getSpecs().size());
+
+            for (Specification<?> child : composite.getSpecs()) {
+                String canonical = canonical(child);
+
+                if (canonical == null) {
+                    return null;
+                }
+
+                children.add(canonical);
+            }
+
+            children.sort(null);
+
+            return function(composite.getOperator().name(), children.toArray());
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the properties referenced by {@code spec}, e.g. to find the entity classes it joins.
+     *
+     * @param spec the Specification, {@code null} for all the rows
+     * @return the properties, or {@code null} if {@code spec} contains an opaque Specification
+     */
+    static Set<String> properties(Specification<?> spec) {
+        Set<String> properties = new HashSet<>();
+
+        return addProperties(spec, properties) ? properties : null;
+    }
+
+    /**
+     * Wrap {@code spec}, created by {@link SpecFactory}, with its canonical representation, the {@code name} and
+     * the {@code arguments}, and with the {@code properties} it references.
+     *
+     * @return the wrapped Specification, or {@code spec} if one of the values has no canonical representation
+     */
+    static <T extends Serializable> Specification<T> wrap(Specification<T> spec, String name,
+            Collection<String> properties, List<Object> values, Object... arguments) {
+        List<Object> allArguments = new ArrayList<>(arguments.length + values.size());
+
+        for (Object argument : arguments) {
+            allArguments.add(argument);
+        }
+
+        for (Object value : values) {
+            String canonical = value(value);
+
+            if (canonical == null) {
+                return spec;
+            }
+
+            allArguments.add(canonical);
+        }
+
+        return new Canonical<>(spec, function(name, allArguments.toArray()), new HashSet<>(properties));
+    }
+
+    /**
+     * Get the canonical representation of a value. Only strings, collections and comparable values are
+     * represented, since the {@code toString} of other objects may not identify their content.
+     *
+     * @param value the value
+     * @return the canonical representation, or {@code null} if the value has none
+     */
+    static String value(Object value) {
+        if (value == null) {
+            return "null";
+        }
+
+        if (value instanceof String) {
+            return "'" + ((String) value).replace("\\", "\\\\").replace("'", "\\'") + "'";
+        }
+
+        if (value instanceof Collection) {
+            TreeSet<String> values = new TreeSet<>();
+
+            for (Object element : (Collection<?>) value) {
+                String canonical = value(element);
+
+                if (canonical == null) {
+                    return null;
+                }
+
+                values.add(canonical);
+            }
+
+            return values.toString();
+        }
+
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+
+            return decimal.signum() == 0 ? "0" : decimal.stripTrailingZeros().toPlainString();
+        }
+
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).getDeclaringClass().getName() + "." + ((Enum<?>) value).name();
+        }
+
+        if (value instanceof Timestamp) {
+            return function(value.getClass().getName(), ((Timestamp) value).toInstant());
+        }
+
+        if (value instanceof Date) {
+            return function(value.getClass().getName(), ((Date) value).getTime());
+        }
+
+        if (value instanceof Comparable) {
+            return function(value.getClass().getName(), value);
+        }
+
+        return null;
+    }
+
+    private static boolean addProperties(Specification<?> spec, Set<String> properties) {
+        if (spec == null || SpecSimplifier.isUnsatisfiable(spec)) {
+            return true;
+        }
+
+        if (spec instanceof Canonical) {
+            properties.addAll(((Canonical<?>) spec).properties);
+            return true;
+        }
+
+        if (spec instanceof SpecLeaf) {
+            properties.add(((SpecLeaf<?>) spec).getCondition().getProperty());
+            return true;
+        }
+
+        if (spec instanceof SpecComposite) {
+            for (Specification<?> child : ((SpecComposite<?>) spec).getSpecs()) {
+                if (!addProperties(child, properties)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    private static String function(String name, Object... arguments) {
+        StringJoiner joiner = new StringJoiner(",", name + "(", ")");
+
+        for (Object argument : arguments) {
+            joiner.add(String.valueOf(argument));
+        }
+
+        return joiner.toString();
+    }
+
+    /**
+     * Specification of {@link SpecFactory} with its canonical representation.
+     */
+    private static final class Canonical<T extends Serializable> implements Specification<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Specification<T> spec;
+        private final String canonical;
+        private final Set<String> properties;
+
+        Canonical(Specification<T> spec, String canonical, Set<String> properties) {
+            this.spec = spec;
+            this.canonical = canonical;
+            this.properties = properties;
+        }
+
+        @Override
+        public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+            return spec.toPredicate(root, query, criteriaBuilder);
+        }
+
+        @Override
+        public String toString() {
+            return canonical;
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaBuilder.In;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+
+/**
+ * Implementations of {@link SpecInStrategy}.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+final class SpecInStrategies {
+
+    private SpecInStrategies() {
+    }
+
+    static Predicate expand(Expression<?> expression, Collection<?> values, CriteriaBuilder criteriaBuilder) {
+        In<Object> predicate = criteriaBuilder.in(expression);
+
+        for (Object value : values) {
+            if (value != null) {
+                predicate.value(SpecParameters.bind(criteriaBuilder, expression, value));
+            } else {
+                predicate.value(value);
+            }
+        }
+
+        return predicate;
+    }
+
+    static Predicate padding(Expression<?> expression, Collection<?> values, CriteriaBuilder criteriaBuilder) {
+        return expand(expression, pad(new ArrayList<>(values)), criteriaBuilder);
+    }
+
+    static Predicate chunking(Expression<?> expression, Collection<?> values, CriteriaBuilder criteriaBuilder,
+            int size) {
+        List<?> list = new ArrayList<>(values);
+
+        if (list.size() <= size) {
+            return padding(expression, list, criteriaBuilder);
+        }
+
+        List<Predicate> chunks = new ArrayList<>();
+
+        for (int index = 0; index < list.size(); index += size) {
+            List<?> chunk = list.subList(index, Math.min(index + size, list.size()));
+
+            chunks.add(chunk.size() == size
+                    ? expand(expression, chunk, criteriaBuilder)
+                    : padding(expression, chunk, criteriaBuilder));
+        }
+
+        return criteriaBuilder.or(chunks.toArray(new Predicate[chunks.size()]));
+    }
+
+    static Predicate array(Expression<?> expression, Collection<?> values, CriteriaBuilder criteriaBuilder) {
+        Predicate predicate = SpecParameters.array(criteriaBuilder, expression, values);
+
+        return predicate != null ? predicate : padding(expression, values, criteriaBuilder);
+    }
+
+    /**
+     * Pad {@code values} to the next power of two, repeating the last value.
+     */
+    static <E> List<E> pad(List<E> values) {
+        int size = Integer.highestOneBit(values.size());
+
+        if (size < values.size()) {
+            size <<= 1;
+        }
+
+        E last = values.get(values.size() - 1);
+
+        while (values.size() < size) {
+            values.add(last);
+        }
+
+        return values;
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.util.Collection;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+
+import com.github.fagnerlima.springspecificationtools.hibernate.SpecArrayContributor;
+
+/**
+ * Define how a collection of values is applied to an IN condition. An empty collection always results in a
+ * constant false condition.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+@FunctionalInterface
+public interface SpecInStrategy {
+
+    /**
+     * Create the condition.
+     *
+     * @param expression the expression of the property
+     * @param values the values, not empty
+     * @param criteriaBuilder the CriteriaBuilder
+     * @return the condition
+     */
+    public Predicate toPredicate(Expression<?> expression, Collection<?> values, CriteriaBuilder criteriaBuilder);
+
+    /**
+     * One parameter for each value, also with Hibernate numeric values: {@code x IN (?, ?, ?)}. Each size of
+     * collection results in a different SQL.
+     *
+     * @return the strategy
+     */
+    public static SpecInStrategy expand() {
+        return SpecInStrategies::expand;
+    }
+
+    /**
+     * Like {@link #expand()}, but pads the values, repeating the last one, to the next power of two, so collections
+     * of different sizes share the same SQL (e.g. the sizes between 5 and 8 result in 8 parameters).
+     *
+     * @return the strategy
+     */
+    public static SpecInStrategy padding() {
+        return SpecInStrategies::padding;
+    }
+
+    /**
+     * Splits the values in chunks of {@code size} values, combined with OR: {@code x IN (...) OR x IN (...)}. The
+     * last chunk is padded as in {@link #padding()}. Used to respect the limit of parameters of the databases and
+     * drivers.
+     *
+     * @param size the maximum number of values in each chunk
+     * @return the strategy
+     */
+    public static SpecInStrategy chunking(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The size of the chunks must be positive");
+        }
+
+        return (expression, values, criteriaBuilder) -> SpecInStrategies.chunking(expression, values,
+                criteriaBuilder, size);
+    }
+
+    /**
+     * Binds all of the values as a single array parameter: {@code x = any(?)} with PostgreSQL and
+     * {@code array_contains(?, x)} with H2, so collections of any size share the same SQL and respect the limit of
+     * parameters. Requires Hibernate with {@link SpecArrayContributor} registered; with other dialects, providers
+     * or types of properties, and with values that can't be converted to the type of the property, the values are
+     * applied as in {@link #padding()}.
+     *
+     * @return the strategy
+     */
+    public static SpecInStrategy array() {
+        return SpecInStrategies::array;
+    }
+
+}
@@ -0,0 +1,225 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Interval tree of the closed intervals of the values of {@link SpecFilterIndex}: a treap ordered by the lower
+ * bounds, with the maximum upper bound of each subtree, so the queries visit only the subtrees with intervals that
+ * may contain the point or overlap the interval of the query. A {@code null} bound is unbounded. The bounds of a
+ * tree must be mutually comparable. Not thread-safe.
+ * @author Fagner Lima
+ * @since 0.4.0
+ *
+ * @param <V> value class
+ */
+final class SpecIntervalTree<V> {
+
+    private Node<V> root;
+    private long sequence;
+    private int size;
+
+    /**
+     * Add the interval {@code [low, high]}.
+     *
+     * @return the node, used to remove the interval
+     */
+    Object add(Comparable<?> low, Comparable<?> high, V value) {
+        Node<V> node = new Node<>(low, high, value, sequence++, ThreadLocalRandom.current().nextInt());
+        root = insert(root, node);
+        size++;
+
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    boolean remove(Object node) {
+        int previousSize = size;
+        root = remove(root, (Node<V>) node);
+
+        return size < previousSize;
+    }
+
+    /**
+     * Give the values of the intervals that contain {@code point} to the {@code consumer}.
+     */
+    void stab(Comparable<?> point, Consumer<? super V> consumer) {
+        overlap(root, point, point, consumer);
+    }
+
+    /**
+     * Give the values of the intervals that overlap {@code [low, high]} to the {@code consumer}, with
+     * {@code high} unbounded if it's {@code null}.
+     */
+    void overlap(Comparable<?> low, Comparable<?> high, Consumer<? super V> consumer) {
+        overlap(root, low, high, consumer);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private Node<V> insert(Node<V> tree, Node<V> node) {
+        if (tree == null) {
+            return node;
+        }
+
+        if (compareKeys(node, tree) < 0) {
+            tree.left = insert(tree.left, node);
+
+            if (tree.left.priority > tree.priority) {
+                tree = rotateRight(tree);
+            }
+        } else {
+            tree.right = insert(tree.right, node);
+
+            if (tree.right.priority > tree.priority) {
+                tree = rotateLeft(tree);
+            }
+        }
+
+        return update(tree);
+    }
+
+    private Node<V> remove(Node<V> tree, Node<V> node) {
+        if (tree == null) {
+            return null;
+        }
+
+        if (tree == node) {
+            size--;
+
+            return merge(tree.left, tree.right);
+        }
+
+        if (compareKeys(node, tree) < 0) {
+            tree.left = remove(tree.left, node);
+        } else {
+            tree.right = remove(tree.right, node);
+        }
+
+        return update(tree);
+    }
+
+    /**
+     * Merge two treaps, with the keys of {@code left} lower than the keys of {@code right}.
+     */
+    private Node<V> merge(Node<V> left, Node<V> right) {
+        if (left == null || right == null) {
+            return left != null ? left : right;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+
+            return update(left);
+        }
+
+        right.left = merge(left, right.left);
+
+        return update(right);
+    }
+
+    private void overlap(Node<V> tree, Comparable<?> low, Comparable<?> high, Consumer<? super V> consumer) {
+        // no interval of the subtree reaches the low bound
+        if (tree == null || compareHighs(tree.maxHigh, low) < 0) {
+            return;
+        }
+
+        overlap(tree.left, low, high, consumer);
+
+        // the lower bounds of the node and of its right subtree are above the high bound
+        if (compareLows(tree.low, high) > 0) {
+            return;
+        }
+
+        if (compareHighs(tree.high, low) >= 0) {
+            consumer.accept(tree.value);
+        }
+
+        overlap(tree.right, low, high, consumer);
+    }
+
+    private Node<V> rotateRight(Node<V> tree) {
+        Node<V> left = tree.left;
+        tree.left = left.right;
+        left.right = update(tree);
+
+        return left;
+    }
+
+    private Node<V> rotateLeft(Node<V> tree) {
+        Node<V> right = tree.right;
+        tree.right = right.left;
+        right.left = update(tree);
+
+        return right;
+    }
+
+    private Node<V> update(Node<V> tree) {
+        Comparable<?> maxHigh = tree.high;
+
+        if (tree.left != null && compareHighs(tree.left.maxHigh, maxHigh) > 0) {
+            maxHigh = tree.left.maxHigh;
+        }
+
+        if (tree.right != null && compareHighs(tree.right.maxHigh, maxHigh) > 0) {
+            maxHigh = tree.right.maxHigh;
+        }
+
+        tree.maxHigh = maxHigh;
+
+        return tree;
+    }
+
+    /**
+     * Compare the lower bounds, with {@code null} below all of the values, and then the sequences of the nodes.
+     */
+    private int compareKeys(Node<V> x, Node<V> y) {
+        int comparison = x.low == null ? (y.low == null ? 0 : -1) : y.low == null ? 1 : compare(x.low, y.low);
+
+        return comparison != 0 ? comparison : Long.compare(x.sequence, y.sequence);
+    }
+
+    /**
+     * Compare the upper bounds, with {@code null} above all of the values.
+     */
+    private int compareHighs(Comparable<?> x, Comparable<?> y) {
+        return x == null ? (y == null ? 0 : 1) : y == null ? -1 : compare(x, y);
+    }
+
+    /**
+     * Compare a lower bound with an upper bound, with the {@code null} bounds unbounded.
+     */
+    private int compareLows(Comparable<?> low, Comparable<?> high) {
+        return low == null || high == null ? -1 : compare(low, high);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compare(Comparable x, Comparable y) {
+        return x.compareTo(y);
+    }
+
+    private static final class Node<V> {
+
+        private final Comparable<?> low;
+        private final Comparable<?> high;
+        private final V value;
+        private final long sequence;
+        private final int priority;
+        private Comparable<?> maxHigh;
+        private Node<V> left;
+        private Node<V> right;
+
+        Node(Comparable<?> low, Comparable<?> high, V value, long sequence, int priority) {
+            this.low = low;
+            this.high = high;
+            this.value = value;
+            this.sequence = sequence;
+            this.priority = priority;
+            this.maxHigh = high;
+        }
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.github.fagnerlima.springspecificationtools;
+
+/**
+ * Define how the conditions of a join are applied to the query.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public enum SpecJoinStrategy {
+
+    /** Join the association in the query */
+    JOIN,
+
+    /**
+     * Check the association with a correlated EXISTS subquery, without joining it in the query. The conditions
+     * on the same path are merged in a single subquery.
+     */
+    EXISTS,
+
+}
@@ -0,0 +1,790 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.PluralAttribute;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+import com.github.fagnerlima.springspecificationtools.util.DateUtils;
+import com.github.fagnerlima.springspecificationtools.util.StringUtils;
+
+/**
+ * Run the filters annotated with {@link SpecEntity} as JPQL queries, without building the Specifications and the
+ * Criteria queries. The shape of a filter (which fields are {@code null}, the padded size of the collections and
+ * the types of the period bounds) is compiled once into a JPQL query with named parameters, and the values of the
+ * filter are bound to it, so the JPA provider also reuses the plan of the query.
+ * <p>
+ * The conditions are the same of {@link SpecBuilder}, with the values always bound as parameters and the IN
+ * conditions always padded (see {@link SpecInStrategy#padding()}). The numeric values are converted to the types of
+ * the properties. The shapes that can't be written in JPQL (the joins with {@link SpecJoinStrategy#EXISTS} or
+ * {@link JoinType#RIGHT} and the dialects without
+ * {@link StringNormalizationDialect#normalizeJpql(String, SpecOperation)}) and the values that can't be converted
+ * exactly are run with {@link SpecBuilder}.
+ * <p>
+ * The DISTINCT restriction is written as a subquery ({@code select e from Task e where e in (select s ...)}), so
+ * the sort can use any expression, and the nested properties of the sort are LEFT joined, like
+ * {@code QueryUtils.toOrders}.
+ * @author Fagner Lima
+ * @since 0.4.0
+ *
+ * @param <T> entity class
+ */
+public class SpecJpqlExecutor<T extends Serializable> {
+
+    private static final int MAXIMUM_TEMPLATES = 1024;
+    private static final String ROOT = "e";
+    private static final String SUBQUERY_ROOT = "s";
+    private static final Pattern PROPERTY = Pattern.compile("[A-Za-z_$][\\w$]*(\\.[A-Za-z_$][\\w$]*)*");
+    private static final Template UNSUPPORTED = new Template(null, null, null);
+
+    private final EntityManager entityManager;
+    private final Class<T> entityClass;
+    private final String entityName;
+    private final SpecExecutor<T> fallback;
+    private final Map<List<Object>, Template> templates = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> javaTypes = new ConcurrentHashMap<>();
+
+    public SpecJpqlExecutor(EntityManager entityManager, Class<T> entityClass) {
+        this.entityManager = entityManager;
+        this.entityClass = entityClass;
+        this.entityName = entityManager.getMetamodel().entity(entityClass).getName();
+        this.fallback = new SpecExecutor<>(new SimpleJpaRepository<T, Object>(entityClass, entityManager));
+    }
+
+    public List<T> findAll(Object filter) {
+        return findAll(filter, Sort.unsorted());
+    }
+
+    public List<T> findAll(Object filter, Sort sort) {
+        Bound bound = bind(filter);
+
+        if (bound == null) {
+            return fallback.findAll(build(filter), sort);
+        }
+
+        return bound.setParameters(entityManager.createQuery(select(bound.template, sort), entityClass))
+                .getResultList();
+    }
+
+    public Page<T> findAll(Object filter, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll(filter, pageable.getSort()));
+        }
+
+        Bound bound = bind(filter);
+
+        if (bound == null) {
+            return fallback.findAll(build(filter), pageable);
+        }
+
+        List<T> content = bound.setParameters(entityManager.createQuery(
+                select(bound.template, pageable.getSort()), entityClass))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(bound));
+    }
+
+    public long count(Object filter) {
+        Bound bound = bind(filter);
+
+        return bound != null ? count(bound) : fallback.count(build(filter));
+    }
+
+    /**
+     * Get the JPQL query of the shape of {@code filter}.
+     *
+     * @param filter object annotated with {@link SpecEntity}
+     * @return the JPQL query, or {@code null} if the filter is run with {@link SpecBuilder}
+     */
+    public String toJpql(Object filter) {
+        Bound bound = bind(filter);
+
+        return bound != null ? bound.template.select + bound.template.where : null;
+    }
+
+    /**
+     * Clear the compiled queries.
+     */
+    public void clear() {
+        templates.clear();
+    }
+
+    private long count(Bound bound) {
+        return bound.setParameters(entityManager.createQuery(bound.template.count, Long.class)).getSingleResult();
+    }
+
+    private Specification<T> build(Object filter) {
+        return new SpecBuilder<T>().add(filter).build();
+    }
+
+    /**
+     * Read the values of {@code filter} and get the query of its shape, compiling it on the first use.
+     *
+     * @return the query with the values, or {@code null} if the shape can't be written in JPQL or a value can't be
+     *         converted to the type of its property
+     */
+    private Bound bind(Object filter) {
+        SpecPlan plan = SpecPlan.of(filter.getClass());
+        Walk walk = new Walk(false, ROOT);
+        walk.conditions(filter, plan, SpecOperator.AND);
+
+        List<Object> key = walk.getKey();
+        Template template = templates.get(key);
+
+        if (template == null) {
+            template = compile(filter, plan);
+
+            if (templates.size() < MAXIMUM_TEMPLATES) {
+                templates.put(key, template);
+            }
+        }
+
+        return template != UNSUPPORTED && walk.convertible ? new Bound(template, walk.parameters) : null;
+    }
+
+    private Template compile(Object filter, SpecPlan plan) {
+        Walk walk = new Walk(true, ROOT);
+        String where = walk.conditions(filter, plan, SpecOperator.AND);
+
+        if (!walk.supported) {
+            return UNSUPPORTED;
+        }
+
+        boolean hasConditions = where != null;
+        SpecDistinct distinct = plan.getDistinct();
+        boolean distinctSelect = hasConditions && (distinct == SpecDistinct.ALWAYS
+                || (distinct == SpecDistinct.AUTO && walk.pluralJoin));
+        boolean distinctCount = hasConditions && distinct != SpecDistinct.NEVER && walk.pluralJoin;
+        String from = " from " + entityName + " " + ROOT;
+        String conditions = hasConditions ? " where " + where : "";
+        String count = (distinctCount ? "select count(distinct " : "select count(") + ROOT + ")" + from + walk.joins
+                + conditions;
+
+        if (!distinctSelect) {
+            return new Template("select " + ROOT + from + walk.joins, conditions, count);
+        }
+
+        // the same conditions in a subquery, that binds the same parameters
+        Walk subqueryWalk = new Walk(true, SUBQUERY_ROOT);
+        String subqueryWhere = subqueryWalk.conditions(filter, plan, SpecOperator.AND);
+
+        return new Template("select " + ROOT + from, " where " + ROOT + " in (select " + SUBQUERY_ROOT + " from "
+                + entityName + " " + SUBQUERY_ROOT + subqueryWalk.joins + " where " + subqueryWhere + ")", count);
+    }
+
+    /**
+     * The select query of {@code template} with the joins and the {@code order by} clause of {@code sort}, with the
+     * properties validated, since they can't be parameters.
+     */
+    private String select(Template template, Sort sort) {
+        if (sort == null || !sort.isSorted()) {
+            return template.select + template.where;
+        }
+
+        Map<String, String> aliases = new HashMap<>();
+        StringBuilder joins = new StringBuilder();
+        StringJoiner joiner = new StringJoiner(", ", " order by ", "");
+
+        for (Sort.Order order : sort) {
+            String property = order.getProperty();
+
+            if (!PROPERTY.matcher(property).matches()) {
+                throw new IllegalArgumentException("Invalid property of the sort: " + property);
+            }
+
+            int index = property.lastIndexOf('.');
+            String x = index < 0 ? ROOT + "." + property
+                    : sortJoin(property.substring(0, index), aliases, joins) + property.substring(index);
+            joiner.add((order.isIgnoreCase() ? "lower(" + x + ")" : x) + (order.isAscending() ? " asc" : " desc"));
+        }
+
+        return template.select + joins + template.where + joiner;
+    }
+
+    /**
+     * Get the path of the sort property's parent, with LEFT joins of the associations, so the rows with a
+     * {@code null} association aren't removed.
+     */
+    private String sortJoin(String path, Map<String, String> aliases, StringBuilder joins) {
+        String alias = ROOT;
+        String joined = "";
+
+        for (String attribute : path.split("\\.")) {
+            joined = joined.isEmpty() ? attribute : joined + "." + attribute;
+
+            if (!getAttribute(joined).isAssociation()) {
+                alias = alias + "." + attribute;
+                continue;
+            }
+
+            String parent = alias;
+            alias = aliases.computeIfAbsent(joined, key -> {
+                String joinAlias = "o" + aliases.size();
+                joins.append(" left join ").append(parent).append('.').append(attribute).append(' ').append(joinAlias);
+
+                return joinAlias;
+            });
+        }
+
+        return alias;
+    }
+
+    /**
+     * Get the attribute of the entity at {@code property}, navigating the elements of the collections.
+     */
+    private Attribute<?, ?> getAttribute(String property) {
+        ManagedType<?> type = entityManager.getMetamodel().managedType(entityClass);
+        Attribute<?, ?> attribute = null;
+
+        for (String name : property.split("\\.")) {
+            if (attribute != null) {
+                type = entityManager.getMetamodel().managedType(getJavaType(attribute));
+            }
+
+            attribute = type.getAttribute(name);
+        }
+
+        return attribute;
+    }
+
+    private Class<?> getJavaType(String property) {
+        return javaTypes.computeIfAbsent(property, key -> getJavaType(getAttribute(key)));
+    }
+
+    private static Class<?> getJavaType(Attribute<?, ?> attribute) {
+        return attribute instanceof PluralAttribute
+                ? ((PluralAttribute<?, ?, ?>) attribute).getElementType().getJavaType()
+                : attribute.getJavaType();
+    }
+
+    /**
+     * The compiled query of a shape.
+     */
+    private static final class Template {
+
+        private final String select;
+        private final String where;
+        private final String count;
+
+        Template(String select, String where, String count) {
+            this.select = select;
+            this.where = where;
+            this.count = count;
+        }
+
+    }
+
+    /**
+     * A compiled query with the values of a filter.
+     */
+    private static final class Bound {
+
+        private final Template template;
+        private final List<Object> parameters;
+
+        Bound(Template template, List<Object> parameters) {
+            this.template = template;
+            this.parameters = parameters;
+        }
+
+        <X> TypedQuery<X> setParameters(TypedQuery<X> query) {
+            for (int i = 0; i < parameters.size(); i++) {
+                query.setParameter("p" + i, parameters.get(i));
+            }
+
+            return query;
+        }
+
+    }
+
+    /**
+     * A traversal of the fields of a filter, in the order of its {@link SpecPlan}, that computes the key of the
+     * shape and the values of the parameters. When {@code render} is {@code true}, it also writes the conditions
+     * and the joins of the query, so both traversals bind the same parameters.
+     */
+    private final class Walk {
+
+        private final boolean render;
+        private final String root;
+        private final List<Object> key = new ArrayList<>();
+        private final StringBuilder shape = new StringBuilder();
+        private final List<Object> parameters = new ArrayList<>();
+        private final Map<String, String> aliases = new HashMap<>();
+        private final StringBuilder joins = new StringBuilder();
+        private boolean pluralJoin;
+        private boolean supported = true;
+        private boolean convertible = true;
+
+        Walk(boolean render, String root) {
+            this.render = render;
+            this.root = root;
+        }
+
+        /**
+         * @return the key of the shape: the filter classes, the dialects of the strings and the shape of the values
+         */
+        List<Object> getKey() {
+            List<Object> result = new ArrayList<>(key.size() + 1);
+            result.addAll(key);
+            result.add(shape.toString());
+
+            return result;
+        }
+
+        /**
+         * @return the conditions of the fields combined with {@code operator}, or {@code null} if there is none or
+         *         the conditions aren't rendered
+         */
+        String conditions(Object filter, SpecPlan plan, SpecOperator operator) {
+            key.add(plan.getFilterClass());
+            List<String> conditions = render ? new ArrayList<>() : null;
+
+            for (SpecPlanField planField : plan.getFields()) {
+                Object value;
+
+                try {
+                    value = planField.getValue(filter);
+                } catch (RuntimeException exception) {
+                    shape.append('-');
+                    continue;
+                }
+
+                String condition = value == null && !planField.isCanBeNull() ? skip() : condition(planField, value);
+
+                if (condition != null) {
+                    conditions.add(condition);
+                }
+            }
+
+            return render ? combine(conditions, operator) : null;
+        }
+
+        private String condition(SpecPlanField planField, Object value) {
+            switch (planField.getKind()) {
+                case BETWEEN:
+                    return between(planField, value);
+                case JOIN:
+                    return join(planField, value);
+                case GROUP:
+                    return group(planField, value);
+                case PERIOD:
+                    return period(planField, value);
+                default:
+                    return leaf(root + "." + planField.getProperty(), planField.getProperty(), planField.getOperation(),
+                            getDialect(planField), value);
+            }
+        }
+
+        private String between(SpecPlanField planField, Object value) {
+            if (!(value instanceof Number) && !(value instanceof LocalDate)) {
+                return skip();
+            }
+
+            shape.append('b');
+            String left = parameter(value, planField.getLeftProperty());
+            String right = parameter(value, planField.getRightProperty());
+
+            return render ? "(" + root + "." + planField.getLeftProperty() + " <= " + left + " and " + root + "."
+                    + planField.getRightProperty() + " >= " + right + ")" : null;
+        }
+
+        private String join(SpecPlanField planField, Object value) {
+            String property = planField.getProperty();
+
+            if (!SpecUtils.isDeepProperty(property)) {
+                return leaf(root + "." + property, property, planField.getOperation(), getDialect(planField), value);
+            }
+
+            if (planField.getJoinStrategy() == SpecJoinStrategy.EXISTS || planField.getJoinType() == JoinType.RIGHT) {
+                supported = false;
+                return skip();
+            }
+
+            int index = property.lastIndexOf('.');
+            String alias = render ? join(property.substring(0, index), planField.getJoinType()) : null;
+
+            return leaf(alias + property.substring(index), property, planField.getOperation(), getDialect(planField),
+                    value);
+        }
+
+        /**
+         * Get the alias of the join of {@code path}, reusing the joins with the same path and join type, like
+         * {@link SpecUtils#getJoin(javax.persistence.criteria.From, String, JoinType)}.
+         */
+        private String join(String path, JoinType joinType) {
+            String alias = root;
+            String joined = "";
+
+            for (String attribute : path.split("\\.")) {
+                joined = joined.isEmpty() ? attribute : joined + "." + attribute;
+                String parent = alias;
+
+                alias = aliases.computeIfAbsent(joined + " " + joinType, key -> {
+                    String joinAlias = "j" + aliases.size();
+                    joins.append(joinType == JoinType.LEFT ? " left join " : " inner join ")
+                            .append(parent).append('.').append(attribute).append(' ').append(joinAlias);
+
+                    return joinAlias;
+                });
+
+                pluralJoin |= getAttribute(joined).isCollection();
+            }
+
+            return alias;
+        }
+
+        private String group(SpecPlanField planField, Object value) {
+            if (value == null) {
+                return skip();
+            }
+
+            shape.append('(');
+            String conditions = conditions(value, planField.getPlan(value), planField.getOperator());
+            shape.append(')');
+
+            return conditions;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private String period(SpecPlanField planField, Object value) {
+            SpecPlan periodPlan = value != null ? planField.getPlan(value) : null;
+
+            if (periodPlan == null || !periodPlan.isPeriod()) {
+                return skip();
+            }
+
+            Object startValue = periodPlan.getStartDate(value);
+            Object endValue = periodPlan.getEndDate(value);
+
+            if ((startValue == null && endValue == null) || (startValue != null && endValue != null
+                    && startValue.getClass().equals(endValue.getClass())
+                    && ((Comparable) startValue).compareTo(endValue) > 0)) {
+                return skip();
+            }
+
+            String start = planField.getProperty();
+            String end = planField.getRightProperty();
+            List<String> conditions = render ? new ArrayList<>(2) : null;
+
+            shape.append('p');
+
+            switch (planField.getPeriodOperation()) {
+                case CONTAINS:
+                    add(conditions, atMost(start, startValue, false));
+                    add(conditions, openEnded(end, atLeast(end, endValue, true), planField.isOpenEnded()));
+                    break;
+                case WITHIN:
+                    add(conditions, atLeast(start, startValue, false));
+                    add(conditions, atMost(end, endValue, true));
+                    break;
+                default:
+                    add(conditions, atMost(start, endValue, true));
+                    add(conditions, openEnded(end, atLeast(end, startValue, false), planField.isOpenEnded()));
+            }
+
+            return render ? combine(conditions, SpecOperator.AND) : null;
+        }
+
+        /**
+         * Same of the {@code atLeast} of {@link SpecFactory}.
+         */
+        private String atLeast(String property, Object value, boolean endOfPeriod) {
+            if (value == null) {
+                shape.append('-');
+                return null;
+            }
+
+            if (isDayOfDateTime(property, value)) {
+                shape.append('d');
+                LocalDate day = endOfPeriod ? ((LocalDate) value).plusDays(1) : (LocalDate) value;
+
+                return bound(property, " >= ", day.atStartOfDay());
+            }
+
+            shape.append('v');
+
+            return bound(property, " >= ", value);
+        }
+
+        /**
+         * Same of the {@code atMost} of {@link SpecFactory}.
+         */
+        private String atMost(String property, Object value, boolean endOfPeriod) {
+            if (value == null) {
+                shape.append('-');
+                return null;
+            }
+
+            if (isDayOfDateTime(property, value)) {
+                shape.append('d');
+
+                return endOfPeriod
+                        ? bound(property, " < ", ((LocalDate) value).plusDays(1).atStartOfDay())
+                        : bound(property, " <= ", ((LocalDate) value).atStartOfDay());
+            }
+
+            shape.append('v');
+
+            return bound(property, " <= ", value);
+        }
+
+        private String openEnded(String property, String condition, boolean openEnded) {
+            return condition != null && openEnded ? "(" + condition + " or " + root + "." + property + " is null)"
+                    : condition;
+        }
+
+        private boolean isDayOfDateTime(String property, Object value) {
+            return value instanceof LocalDate && LocalDateTime.class.equals(getJavaType(property));
+        }
+
+        private String bound(String property, String operator, Object value) {
+            String p = parameter(value, property);
+
+            return render ? root + "." + property + operator + p : null;
+        }
+
+        /**
+         * Same of the {@code create(Path, SpecOperation, Object)} of {@link SpecFactory}.
+         */
+        private String leaf(String x, String property, SpecOperation operation, StringNormalizationDialect dialect,
+                Object value) {
+            if (value == null) {
+                shape.append('n');
+                return render ? x + " is null" : null;
+            }
+
+            if (value instanceof String) {
+                shape.append('s');
+                key.add(dialect);
+
+                return string(x, operation, dialect, (String) value);
+            }
+
+            if (value instanceof Collection) {
+                return in(x, property, (Collection<?>) value);
+            }
+
+            if (value instanceof LocalDate && operation == SpecOperation.DATETIME_TO_DATE) {
+                shape.append('d');
+                LocalDateTime dateTime = ((LocalDate) value).atStartOfDay();
+                String startOfDay = parameter(DateUtils.atStartOfDay(dateTime));
+                String startOfNextDay = parameter(DateUtils.atStartOfNextDay(dateTime));
+
+                return render ? "(" + x + " >= " + startOfDay + " and " + x + " < " + startOfNextDay + ")" : null;
+            }
+
+            if (value instanceof Comparable) {
+                shape.append('v');
+                String p = parameter(value, property);
+
+                return render ? x + getOperator(operation) + p : null;
+            }
+
+            return skip();
+        }
+
+        private String in(String x, String property, Collection<?> values) {
+            if (values.isEmpty()) {
+                shape.append("c0");
+                return render ? "1 = 0" : null;
+            }
+
+            List<?> padded = SpecInStrategies.pad(new ArrayList<>(values));
+            shape.append('c').append(padded.size());
+            String p = parameter(padded, property);
+
+            return render ? x + " in " + p : null;
+        }
+
+        /**
+         * Same of the {@code create(Path<String>, String, SpecOperation)} of {@link SpecFactory}.
+         */
+        private String string(String x, SpecOperation operation, StringNormalizationDialect dialect, String value) {
+            switch (operation) {
+                case EQUAL_IGNORE_CASE:
+                case EQUAL_IGNORE_CASE_UNACCENT:
+                    return compare(normalize(x, operation, dialect), " = ", dialect.normalize(value, operation));
+                case LIKE:
+                    return like(x, prepareForLike(value));
+                case LIKE_IGNORE_CASE:
+                case LIKE_IGNORE_CASE_UNACCENT:
+                    return like(normalize(x, operation, dialect), prepareForLike(dialect.normalize(value, operation)));
+                case STARTS_WITH:
+                    return like(x, prepareForStartsWith(value));
+                case STARTS_WITH_IGNORE_CASE:
+                case STARTS_WITH_IGNORE_CASE_UNACCENT:
+                    return like(normalize(x, operation, dialect),
+                            prepareForStartsWith(dialect.normalize(value, operation)));
+                case ENDS_WITH:
+                    String reversed = dialect.reverseJpql(x);
+
+                    return reversed == null
+                            ? like(x, "%" + StringUtils.escapeLike(value))
+                            : like(reversed, prepareForStartsWith(new StringBuilder(value).reverse().toString()));
+                default:
+                    return compare(x, " = ", value);
+            }
+        }
+
+        private String normalize(String x, SpecOperation operation, StringNormalizationDialect dialect) {
+            if (!render) {
+                return null;
+            }
+
+            String normalized = dialect.normalizeJpql(x, operation);
+
+            if (normalized == null) {
+                supported = false;
+            }
+
+            return normalized;
+        }
+
+        private String like(String x, String pattern) {
+            String p = parameter(pattern);
+
+            return render ? x + " like " + p + " escape '" + StringUtils.LIKE_ESCAPE_CHAR + "'" : null;
+        }
+
+        private String compare(String x, String operator, Object value) {
+            String p = parameter(value);
+
+            return render ? x + operator + p : null;
+        }
+
+        private String parameter(Object value) {
+            parameters.add(value);
+
+            return render ? ":p" + (parameters.size() - 1) : null;
+        }
+
+        /**
+         * Bind {@code value} converted to the type of {@code property}, or the elements if it's a collection.
+         */
+        private String parameter(Object value, String property) {
+            Class<?> javaType = ClassUtils.resolvePrimitiveIfNecessary(getJavaType(property));
+
+            if (value instanceof Collection) {
+                List<Object> converted = new ArrayList<>(((Collection<?>) value).size());
+
+                for (Object element : (Collection<?>) value) {
+                    converted.add(convert(element, javaType));
+                }
+
+                return parameter(converted);
+            }
+
+            return parameter(convert(value, javaType));
+        }
+
+        /**
+         * Convert the numbers to {@code javaType}, like the Criteria queries. A value that isn't an instance of
+         * {@code javaType} and can't be converted exactly is kept, and the filter is run with {@link SpecBuilder}.
+         */
+        @SuppressWarnings("unchecked")
+        private Object convert(Object value, Class<?> javaType) {
+            if (value == null || javaType.isInstance(value)) {
+                return value;
+            }
+
+            if (value instanceof Number && Number.class.isAssignableFrom(javaType)) {
+                try {
+                    Number converted = NumberUtils.convertNumberToTargetClass((Number) value,
+                            (Class<? extends Number>) javaType);
+
+                    if (new BigDecimal(converted.toString()).compareTo(new BigDecimal(value.toString())) == 0) {
+                        return converted;
+                    }
+                } catch (IllegalArgumentException exception) {
+                    // overflow or unknown class of number
+                }
+            }
+
+            convertible = false;
+
+            return value;
+        }
+
+        private String skip() {
+            shape.append('-');
+            return null;
+        }
+
+        private void add(List<String> conditions, String condition) {
+            if (condition != null) {
+                conditions.add(condition);
+            }
+        }
+
+        private String combine(List<String> conditions, SpecOperator operator) {
+            if (conditions.isEmpty()) {
+                return null;
+            }
+
+            if (conditions.size() == 1) {
+                return conditions.get(0);
+            }
+
+            return "(" + String.join(operator == SpecOperator.OR ? " or " : " and ", conditions) + ")";
+        }
+
+        private StringNormalizationDialect getDialect(SpecPlanField planField) {
+            return planField.getDialect() != null
+                    ? StringNormalizationDialects.get(planField.getDialect())
+                    : SpecFactory.getDefaultDialect();
+        }
+
+        private String getOperator(SpecOperation operation) {
+            switch (operation) {
+                case GREATER_THAN:
+                    return " > ";
+                case LESS_THAN:
+                    return " < ";
+                case GREATER_THAN_OR_EQUAL:
+                    return " >= ";
+                case LESS_THAN_OR_EQUAL:
+                    return " <= ";
+                default:
+                    return " = ";
+            }
+        }
+
+        private String prepareForLike(String value) {
+            return "%" + StringUtils.escapeLike(value).replaceAll("\\s+", "%") + "%";
+        }
+
+        private String prepareForStartsWith(String value) {
+            return StringUtils.escapeLike(value) + "%";
+        }
+
+    }
+
+}
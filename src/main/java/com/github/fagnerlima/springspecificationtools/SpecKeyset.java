@@ -0,0 +1,213 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Keyset (seek) pagination: instead of skipping the rows of the previous pages, the next page starts after the
+ * values of the sort properties of the last row, given by an opaque cursor.
+ *
+ * <pre>
+ * SpecKeyset&lt;Task&gt; keyset = new SpecKeyset&lt;Task&gt;().desc("createdAt").tieBreaker("id").after(cursor);
+ * Specification&lt;Task&gt; specification = new SpecBuilder&lt;Task&gt;().add(filter).add(keyset.build()).build();
+ * List&lt;Task&gt; tasks = repository.findAll(specification, PageRequest.of(0, size, keyset.getSort())).getContent();
+ * String nextCursor = keyset.cursor(tasks);
+ * </pre>
+ *
+ * The sort properties must be not null, and the last one must be unique (the tie-breaker).
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public class SpecKeyset<T extends Serializable> {
+
+    private final List<Sort.Order> orders = new ArrayList<>();
+    private boolean unique;
+    private List<String> values;
+
+    /**
+     * Add an ascending sort property.
+     *
+     * @param property the property of the entity
+     * @return this SpecKeyset
+     */
+    public SpecKeyset<T> asc(String property) {
+        return orderBy(property, Sort.Direction.ASC);
+    }
+
+    /**
+     * Add a descending sort property.
+     *
+     * @param property the property of the entity
+     * @return this SpecKeyset
+     */
+    public SpecKeyset<T> desc(String property) {
+        return orderBy(property, Sort.Direction.DESC);
+    }
+
+    /**
+     * Add the ascending unique sort property, which must be the last one.
+     *
+     * @param property the unique property of the entity, usually the id
+     * @return this SpecKeyset
+     */
+    public SpecKeyset<T> tieBreaker(String property) {
+        return tieBreaker(property, Sort.Direction.ASC);
+    }
+
+    /**
+     * Add the unique sort property, which must be the last one.
+     *
+     * @param property the unique property of the entity, usually the id
+     * @param direction the direction of the sort
+     * @return this SpecKeyset
+     */
+    public SpecKeyset<T> tieBreaker(String property, Sort.Direction direction) {
+        orderBy(property, direction);
+        unique = true;
+
+        return this;
+    }
+
+    /**
+     * Start after the row of the {@code cursor}.
+     *
+     * @param cursor the cursor returned by {@link #cursor(Serializable)}, or {@code null} for the first page
+     * @return this SpecKeyset
+     * @throws IllegalArgumentException if the cursor is invalid or was created with other sort properties
+     */
+    public SpecKeyset<T> after(String cursor) {
+        values = cursor == null || cursor.isEmpty() ? null : SpecKeysetCursor.decode(getSignature(),
+                orders.size(), cursor);
+
+        return this;
+    }
+
+    /**
+     * @return The sort of the query, to be used in the Pageable.
+     */
+    public Sort getSort() {
+        return Sort.by(orders);
+    }
+
+    /**
+     * Build the condition that seeks the rows after the cursor, as
+     * {@code a >= ?1 AND (a > ?1 OR (a = ?1 AND (b > ?2 OR (b = ?2 AND id > ?3))))}. The values of the cursor are
+     * bound as parameters, so all of the pages share the same SQL.
+     *
+     * @return the Specification, or {@code null} for the first page
+     */
+    public Specification<T> build() {
+        checkTieBreaker();
+
+        if (values == null) {
+            return null;
+        }
+
+        return (root, query, criteriaBuilder) -> {
+            Predicate seek = null;
+            Predicate bound = null;
+
+            for (int i = orders.size() - 1; i >= 0; i--) {
+                Sort.Order order = orders.get(i);
+                Path<?> path = SpecUtils.getPath(root, order.getProperty());
+                Expression<Comparable<Object>> value = SpecParameters.bind(criteriaBuilder, path,
+                        SpecKeysetCursor.parse(values.get(i), path.getJavaType()));
+                Predicate after = compare(criteriaBuilder, path, value, order.isAscending(), false);
+
+                seek = seek == null
+                        ? after
+                        : criteriaBuilder.or(after, criteriaBuilder.and(criteriaBuilder.equal(path, value), seek));
+
+                if (i == 0 && orders.size() > 1) {
+                    // the range of the first property, that can be used by the index
+                    bound = compare(criteriaBuilder, path, value, order.isAscending(), true);
+                }
+            }
+
+            return bound != null ? criteriaBuilder.and(bound, seek) : seek;
+        };
+    }
+
+    /**
+     * Create the cursor of the page after the {@code entity}.
+     *
+     * @param entity the last row of the page
+     * @return the opaque cursor
+     * @throws IllegalArgumentException if a sort property of the {@code entity} is {@code null}
+     */
+    public String cursor(T entity) {
+        checkTieBreaker();
+
+        List<Object> entityValues = new ArrayList<>();
+
+        for (Sort.Order order : orders) {
+            Object value = SpecUtils.getValue(entity, order.getProperty());
+
+            if (value == null) {
+                throw new IllegalArgumentException("The sort property " + order.getProperty() + " is null");
+            }
+
+            entityValues.add(value);
+        }
+
+        return SpecKeysetCursor.encode(getSignature(), entityValues);
+    }
+
+    /**
+     * Create the cursor of the page after the last row of {@code content}.
+     *
+     * @param content the rows of the page
+     * @return the opaque cursor, or {@code null} if {@code content} is empty
+     */
+    public String cursor(List<T> content) {
+        return content.isEmpty() ? null : cursor(content.get(content.size() - 1));
+    }
+
+    private SpecKeyset<T> orderBy(String property, Sort.Direction direction) {
+        if (unique) {
+            throw new IllegalStateException("The tie-breaker must be the last sort property");
+        }
+
+        orders.add(new Sort.Order(direction, property));
+
+        return this;
+    }
+
+    private void checkTieBreaker() {
+        if (!unique) {
+            throw new IllegalStateException("The tie-breaker is required");
+        }
+    }
+
+    private String getSignature() {
+        StringBuilder signature = new StringBuilder();
+
+        for (Sort.Order order : orders) {
+            signature.append(order.isAscending() ? '+' : '-').append(order.getProperty()).append(',');
+        }
+
+        return signature.toString();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Predicate compare(CriteriaBuilder criteriaBuilder, Expression<?> path,
+            Expression<? extends Comparable> value, boolean ascending, boolean inclusive) {
+        Expression<Comparable> x = (Expression<Comparable>) path;
+
+        if (ascending) {
+            return inclusive ? criteriaBuilder.greaterThanOrEqualTo(x, value) : criteriaBuilder.greaterThan(x, value);
+        }
+
+        return inclusive ? criteriaBuilder.lessThanOrEqualTo(x, value) : criteriaBuilder.lessThan(x, value);
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Encoding of the cursors of {@link SpecKeyset}: the sort signature and the values as text, length-prefixed and
+ * encoded with URL-safe Base64. The values are parsed back with the type of the entity properties, so the cursor
+ * never carries class names.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+final class SpecKeysetCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private SpecKeysetCursor() {
+    }
+
+    static String encode(String signature, List<Object> values) {
+        StringBuilder text = new StringBuilder();
+
+        append(text, signature);
+
+        for (Object value : values) {
+            append(text, format(value));
+        }
+
+        return ENCODER.encodeToString(text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode the values of the {@code cursor}.
+     *
+     * @throws IllegalArgumentException if the cursor is invalid, or its signature or number of values differ
+     */
+    static List<String> decode(String signature, int size, String cursor) {
+        List<String> items = new ArrayList<>();
+
+        try {
+            String text = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int index = 0;
+
+            while (index < text.length()) {
+                int separator = text.indexOf(':', index);
+                int end = separator + 1 + Integer.parseInt(text.substring(index, separator));
+
+                items.add(text.substring(separator + 1, end));
+                index = end;
+            }
+        } catch (RuntimeException exception) {
+            throw new IllegalArgumentException("Invalid cursor", exception);
+        }
+
+        if (items.size() != size + 1 || !items.get(0).equals(signature)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        return items.subList(1, items.size());
+    }
+
+    /**
+     * Parse the {@code text} with the type of the property.
+     *
+     * @throws IllegalArgumentException if the type is not supported or the text is invalid
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static Comparable<Object> parse(String text, Class<?> type) {
+        try {
+            if (type.isEnum()) {
+                return (Comparable<Object>) (Comparable) Enum.valueOf((Class<Enum>) type, text);
+            }
+
+            return (Comparable<Object>) parseValue(text, type);
+        } catch (RuntimeException exception) {
+            throw new IllegalArgumentException("Invalid cursor value for " + type.getName(), exception);
+        }
+    }
+
+    private static Object parseValue(String text, Class<?> type) {
+        if (type == String.class) {
+            return text;
+        } else if (type == Long.class || type == long.class) {
+            return Long.valueOf(text);
+        } else if (type == Integer.class || type == int.class) {
+            return Integer.valueOf(text);
+        } else if (type == Short.class || type == short.class) {
+            return Short.valueOf(text);
+        } else if (type == Byte.class || type == byte.class) {
+            return Byte.valueOf(text);
+        } else if (type == Double.class || type == double.class) {
+            return Double.valueOf(text);
+        } else if (type == Float.class || type == float.class) {
+            return Float.valueOf(text);
+        } else if (type == Boolean.class || type == boolean.class) {
+            return Boolean.valueOf(text);
+        } else if (type == Character.class || type == char.class) {
+            return text.charAt(0);
+        } else if (type == BigDecimal.class) {
+            return new BigDecimal(text);
+        } else if (type == BigInteger.class) {
+            return new BigInteger(text);
+        } else if (type == UUID.class) {
+            return UUID.fromString(text);
+        } else if (type == LocalDate.class) {
+            return LocalDate.parse(text);
+        } else if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(text);
+        } else if (type == LocalTime.class) {
+            return LocalTime.parse(text);
+        } else if (type == Instant.class) {
+            return Instant.parse(text);
+        } else if (type == OffsetDateTime.class) {
+            return OffsetDateTime.parse(text);
+        } else if (type == ZonedDateTime.class) {
+            return ZonedDateTime.parse(text);
+        } else if (type == Timestamp.class) {
+            return Timestamp.valueOf(text);
+        } else if (type == java.sql.Date.class) {
+            return java.sql.Date.valueOf(text);
+        } else if (type == Date.class) {
+            // the provider may have loaded the value as a Timestamp
+            return text.indexOf(' ') < 0 ? new Date(Long.parseLong(text)) : Timestamp.valueOf(text);
+        }
+
+        throw new IllegalArgumentException("Unsupported type of sort property: " + type.getName());
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        } else if (value instanceof Date && !(value instanceof Timestamp) && !(value instanceof java.sql.Date)) {
+            return String.valueOf(((Date) value).getTime());
+        }
+
+        return value.toString();
+    }
+
+    private static void append(StringBuilder text, String item) {
+        text.append(item.length()).append(':').append(item);
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specification of a single {@link SpecCondition}, on a path of the root or of a join. Together with
+ * {@link SpecComposite}, it's the tree analyzed by {@link SpecSimplifier}.
+ * @author Fagner Lima
+ * @since 0.4.0
+ *
+ * @param <T> entity class
+ */
+public final class SpecLeaf<T extends Serializable> implements Specification<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final SpecFactory<T> specFactory;
+    private final SpecCondition condition;
+    private final JoinType joinType;
+
+    SpecLeaf(SpecFactory<T> specFactory, SpecCondition condition, JoinType joinType) {
+        this.specFactory = specFactory;
+        this.condition = condition;
+        this.joinType = joinType;
+    }
+
+    /**
+     * @return The condition.
+     */
+    public SpecCondition getCondition() {
+        return condition;
+    }
+
+    /**
+     * @return The join type of the path, or {@code null} if the path is navigated from the root.
+     */
+    public JoinType getJoinType() {
+        return joinType;
+    }
+
+    /**
+     * The conditions with the same target are applied to the same expression in the same way, so they can be
+     * combined.
+     *
+     * @return The property, the join type, the binding and the dialect of the condition.
+     */
+    List<Object> getTarget() {
+        return Arrays.asList(condition.getProperty(), joinType, specFactory.getBinding(), specFactory.getDialect());
+    }
+
+    /**
+     * Create a leaf with the same target and another operation and value.
+     */
+    SpecLeaf<T> with(SpecOperation operation, Object value) {
+        return new SpecLeaf<>(specFactory, new SpecCondition(condition.getProperty(), operation, value), joinType);
+    }
+
+    SpecFactory<T> getSpecFactory() {
+        return specFactory;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        if (!SpecListeners.isEnabled()) {
+            return createPredicate(root, query, criteriaBuilder);
+        }
+
+        long start = System.nanoTime();
+        boolean outermost = SpecListeners.enterToPredicate();
+
+        try {
+            return createPredicate(root, query, criteriaBuilder);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            SpecListeners.onPredicate(condition.getOperation(), nanos);
+            SpecListeners.exitToPredicate(outermost, nanos);
+        }
+    }
+
+    private Predicate createPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        String property = condition.getProperty();
+        Path<?> path;
+
+        if (joinType == null || !SpecUtils.isDeepProperty(property)) {
+            path = SpecUtils.getPath(root, property);
+        } else {
+            int index = property.lastIndexOf('.');
+            path = SpecUtils.getJoin(root, property.substring(0, index), joinType).get(property.substring(index + 1));
+        }
+
+        Specification<T> spec = specFactory.create(path, condition.getOperation(), condition.getValue());
+
+        return spec != null ? spec.toPredicate(root, query, criteriaBuilder) : null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof SpecLeaf)) {
+            return false;
+        }
+
+        SpecLeaf<?> other = (SpecLeaf<?>) obj;
+
+        return getTarget().equals(other.getTarget())
+                && condition.getOperation() == other.condition.getOperation()
+                && Objects.equals(condition.getValue(), other.condition.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getTarget(), condition.getOperation(), condition.getValue());
+    }
+
+    @Override
+    public String toString() {
+        return condition.getProperty() + " " + condition.getOperation() + " " + condition.getValue();
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.lang.reflect.Field;
+
+import javax.persistence.criteria.JoinType;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Receives the timings and the events of the building and the execution of the Specifications, when registered
+ * with {@link SpecListeners#register(SpecListener)}. The methods are called synchronously, in the thread that
+ * builds or executes the Specification, so they must be fast.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public interface SpecListener {
+
+    /**
+     * Called after {@link SpecBuilder#add(Object)}.
+     *
+     * @param filterClass the class of the filter
+     * @param nanos the time spent, in nanoseconds
+     */
+    default void onAdd(Class<?> filterClass, long nanos) {
+    }
+
+    /**
+     * Called after {@link SpecBuilder#build(SpecOperator)}.
+     *
+     * @param spec the built Specification
+     * @param nanos the time spent, in nanoseconds
+     */
+    default void onBuild(Specification<?> spec, long nanos) {
+    }
+
+    /**
+     * Called after the predicate of a condition is created.
+     *
+     * @param operation the operation of the condition
+     * @param nanos the time spent, in nanoseconds
+     */
+    default void onPredicate(SpecOperation operation, long nanos) {
+    }
+
+    /**
+     * Called after the {@code toPredicate} of the outermost {@link SpecComposite} or {@link SpecLeaf}.
+     *
+     * @param nanos the time spent, in nanoseconds
+     */
+    default void onToPredicate(long nanos) {
+    }
+
+    /**
+     * Called when a join is created, i.e. it couldn't be reused.
+     *
+     * @param attribute the name of the joined attribute
+     * @param joinType the join type
+     */
+    default void onJoin(String attribute, JoinType joinType) {
+    }
+
+    /**
+     * Called when a field of a filter doesn't result in a condition.
+     *
+     * @param field the field of the filter
+     * @param reason the reason
+     * @param exception the exception, if {@code reason} is {@link SpecSkipReason#ERROR}, or {@code null}
+     */
+    default void onFieldSkipped(Field field, SpecSkipReason reason, Exception exception) {
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
+import javax.persistence.criteria.JoinType;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Registry of the {@link SpecListener} instances. Without listeners, the instrumentation costs a single check, and
+ * the timings are not measured.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public final class SpecListeners {
+
+    private static final SpecListener[] NONE = new SpecListener[0];
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private static volatile SpecListener[] listeners = NONE;
+
+    private SpecListeners() {
+    }
+
+    /**
+     * Register the {@code listener}.
+     *
+     * @param listener the listener
+     */
+    public static synchronized void register(SpecListener listener) {
+        SpecListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listener;
+        listeners = newListeners;
+    }
+
+    /**
+     * Unregister the {@code listener}.
+     *
+     * @param listener the listener
+     */
+    public static synchronized void unregister(SpecListener listener) {
+        listeners = Arrays.stream(listeners)
+                .filter(registered -> registered != listener)
+                .toArray(SpecListener[]::new);
+    }
+
+    /**
+     * @return {@code true} if there is a registered listener.
+     */
+    public static boolean isEnabled() {
+        return listeners.length > 0;
+    }
+
+    static void onAdd(Class<?> filterClass, long nanos) {
+        for (SpecListener listener : listeners) {
+            listener.onAdd(filterClass, nanos);
+        }
+    }
+
+    static void onBuild(Specification<?> spec, long nanos) {
+        for (SpecListener listener : listeners) {
+            listener.onBuild(spec, nanos);
+        }
+    }
+
+    static void onPredicate(SpecOperation operation, long nanos) {
+        for (SpecListener listener : listeners) {
+            listener.onPredicate(operation, nanos);
+        }
+    }
+
+    static void onJoin(String attribute, JoinType joinType) {
+        for (SpecListener listener : listeners) {
+            listener.onJoin(attribute, joinType);
+        }
+    }
+
+    static void onFieldSkipped(Field field, SpecSkipReason reason, Exception exception) {
+        for (SpecListener listener : listeners) {
+            listener.onFieldSkipped(field, reason, exception);
+        }
+    }
+
+    /**
+     * Mark the start of a {@code toPredicate}.
+     *
+     * @return {@code true} if it's the outermost one
+     */
+    static boolean enterToPredicate() {
+        return DEPTH.get()[0]++ == 0;
+    }
+
+    /**
+     * Mark the end of a {@code toPredicate}, notifying the listeners if it's the outermost one.
+     */
+    static void exitToPredicate(boolean outermost, long nanos) {
+        DEPTH.get()[0]--;
+
+        if (outermost) {
+            for (SpecListener listener : listeners) {
+                listener.onToPredicate(nanos);
+            }
+        }
+    }
+
+}
@@ -18,4 +18,16 @@ public enum SpecOperation {
     /** For PostgreSQL (require unaccent extension) */
     LIKE_IGNORE_CASE_UNACCENT,
 
+    /** Prefix match, that can use the index of the column */
+    STARTS_WITH,
+
+    /** Prefix match, that can use an index on the lower case of the column */
+    STARTS_WITH_IGNORE_CASE,
+
+    /** For PostgreSQL (require unaccent extension) */
+    STARTS_WITH_IGNORE_CASE_UNACCENT,
+
+    /** Suffix match, written as a prefix match of the reversed column (require the reverse function) */
+    ENDS_WITH,
+
 }
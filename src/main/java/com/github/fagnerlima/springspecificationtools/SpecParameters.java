@@ -0,0 +1,243 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
+import org.hibernate.query.criteria.internal.ValueHandlerFactory;
+import org.hibernate.query.criteria.internal.compile.RenderingContext;
+import org.hibernate.query.criteria.internal.expression.LiteralExpression;
+import org.hibernate.sql.ast.Clause;
+import org.springframework.util.ClassUtils;
+
+import com.github.fagnerlima.springspecificationtools.hibernate.SpecArrayContributor;
+
+/**
+ * Expressions of the values of the conditions bound as parameters of the statement, and of the constants inlined in
+ * it. Hibernate inlines the numeric values passed to the CriteriaBuilder and binds the strings, unless
+ * {@code hibernate.criteria.literal_handling_mode} is {@code BIND} or {@code INLINE}: with Hibernate, the values
+ * are bound and the constants are inlined regardless of the mode. With other providers, both are passed as
+ * {@code CriteriaBuilder.literal}, as in the overloads for values.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+final class SpecParameters {
+
+    private static final boolean HIBERNATE = isPresent("org.hibernate.query.criteria.internal.CriteriaBuilderImpl");
+
+    private SpecParameters() {
+    }
+
+    /**
+     * Create the parameter of {@code value}, compared with {@code x}. Numeric values are converted to the numeric
+     * class of {@code x}, if any. The numbers that can't be converted exactly (e.g. 2.5 compared with an Integer)
+     * are inlined with Hibernate, that only binds the values of the type of {@code x}.
+     *
+     * @param criteriaBuilder the CriteriaBuilder
+     * @param x the expression compared with the value
+     * @param value the value, not {@code null}
+     * @return the expression of the parameter
+     */
+    static <Y> Expression<Y> bind(CriteriaBuilder criteriaBuilder, Expression<?> x, Y value) {
+        return HIBERNATE && Hibernate.isCriteriaBuilder(criteriaBuilder)
+                ? Hibernate.bind(criteriaBuilder, x, value)
+                : criteriaBuilder.literal(value);
+    }
+
+    /**
+     * Create the condition {@code x IN values} with the values bound as a single array parameter, with Hibernate
+     * and the function and the array types of {@link SpecArrayContributor} registered in a supported dialect.
+     *
+     * @param criteriaBuilder the CriteriaBuilder
+     * @param x the expression compared with the values
+     * @param values the values
+     * @return the condition, or {@code null} if the values can't be bound as an array
+     */
+    static Predicate array(CriteriaBuilder criteriaBuilder, Expression<?> x, Collection<?> values) {
+        return HIBERNATE && Hibernate.isCriteriaBuilder(criteriaBuilder)
+                ? Hibernate.array(criteriaBuilder, x, values)
+                : null;
+    }
+
+    /**
+     * Create the constant {@code value}, inlined in the SQL, e.g. the arguments of the functions of the expression
+     * indexes, that must be the same in the index and in the statement.
+     *
+     * @param criteriaBuilder the CriteriaBuilder
+     * @param value the value
+     * @return the expression of the constant
+     */
+    static Expression<String> inline(CriteriaBuilder criteriaBuilder, String value) {
+        return HIBERNATE && Hibernate.isCriteriaBuilder(criteriaBuilder)
+                ? Hibernate.inline(criteriaBuilder, value)
+                : criteriaBuilder.literal(value);
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, SpecParameters.class.getClassLoader());
+
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * The references to Hibernate, loaded only when it's in the classpath.
+     */
+    private static final class Hibernate {
+
+        static boolean isCriteriaBuilder(CriteriaBuilder criteriaBuilder) {
+            return criteriaBuilder instanceof CriteriaBuilderImpl;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <Y> Expression<Y> bind(CriteriaBuilder criteriaBuilder, Expression<?> x, Y value) {
+            Class<?> javaType = x.getJavaType();
+            Object converted = value instanceof Number && javaType != null && !javaType.isInstance(value)
+                    && ValueHandlerFactory.isNumeric(javaType)
+                    ? convert((Number) value, javaType)
+                    : value;
+
+            // a value that can't be converted exactly can't be bound to the type of the property, and is inlined
+            return converted == null
+                    ? (Expression<Y>) new InlineNumber((CriteriaBuilderImpl) criteriaBuilder, (Number) value)
+                    : new BoundLiteral<>((CriteriaBuilderImpl) criteriaBuilder, (Class<Y>) converted.getClass(),
+                            (Y) converted);
+        }
+
+        @SuppressWarnings("unchecked")
+        static Predicate array(CriteriaBuilder criteriaBuilder, Expression<?> x, Collection<?> values) {
+            SessionFactoryImplementor factory = ((CriteriaBuilderImpl) criteriaBuilder).getEntityManagerFactory();
+            Class<?> javaType = x.getJavaType() != null ? ClassUtils.resolvePrimitiveIfNecessary(x.getJavaType())
+                    : null;
+
+            if (javaType == null || !SpecArrayContributor.supports(factory.getJdbcServices().getDialect())
+                    || factory.getSqlFunctionRegistry().findSQLFunction(SpecArrayContributor.FUNCTION) == null) {
+                return null;
+            }
+
+            Class<?> arrayClass = Array.newInstance(javaType, 0).getClass();
+
+            if (factory.getMetamodel().getTypeConfiguration().getBasicTypeRegistry()
+                    .getRegisteredType(arrayClass.getName()) == null) {
+                return null;
+            }
+
+            List<Object> converted = new ArrayList<>(values.size());
+
+            for (Object value : values) {
+                Object element = value == null || javaType.isInstance(value) ? value
+                        : value instanceof Number && ValueHandlerFactory.isNumeric(javaType)
+                        ? convert((Number) value, javaType)
+                        : null;
+
+                if (element != null) {
+                    converted.add(element);
+                } else if (value != null) {
+                    return null;
+                }
+            }
+
+            Object array = converted.toArray((Object[]) Array.newInstance(javaType, converted.size()));
+
+            return criteriaBuilder.isTrue(criteriaBuilder.function(SpecArrayContributor.FUNCTION, Boolean.class, x,
+                    new BoundLiteral<>((CriteriaBuilderImpl) criteriaBuilder, (Class<Object>) arrayClass, array)));
+        }
+
+        static Expression<String> inline(CriteriaBuilder criteriaBuilder, String value) {
+            return new InlineLiteral((CriteriaBuilderImpl) criteriaBuilder, value);
+        }
+
+        /**
+         * Convert {@code value} to the numeric {@code javaType}, or return {@code null} if the conversion isn't
+         * exact: e.g. 2.5 compared with an Integer property, that the conversion would truncate.
+         */
+        private static Object convert(Number value, Class<?> javaType) {
+            try {
+                Object converted = ValueHandlerFactory.convert(value, javaType);
+
+                if (new BigDecimal(converted.toString()).compareTo(new BigDecimal(value.toString())) == 0) {
+                    return converted;
+                }
+            } catch (IllegalArgumentException exception) {
+                // overflow or unknown class of number
+            }
+
+            return null;
+        }
+
+    }
+
+    /**
+     * Literal always rendered as a parameter, except in the SELECT and GROUP BY clauses.
+     */
+    private static final class BoundLiteral<Y> extends LiteralExpression<Y> {
+
+        private static final long serialVersionUID = 1L;
+
+        BoundLiteral(CriteriaBuilderImpl criteriaBuilder, Class<Y> javaType, Y literal) {
+            super(criteriaBuilder, javaType, literal);
+        }
+
+        @Override
+        public String render(RenderingContext renderingContext) {
+            Clause clause = renderingContext.getClauseStack().getCurrent();
+
+            return clause == Clause.SELECT || clause == Clause.GROUP
+                    ? super.render(renderingContext)
+                    : ":" + renderingContext.registerLiteralParameterBinding(getLiteral(), getJavaType());
+        }
+
+    }
+
+    /**
+     * Numeric literal always rendered inline, with the suffix of its type (e.g. {@code 2.5BD}).
+     */
+    private static final class InlineNumber extends LiteralExpression<Number> {
+
+        private static final long serialVersionUID = 1L;
+
+        InlineNumber(CriteriaBuilderImpl criteriaBuilder, Number literal) {
+            super(criteriaBuilder, Number.class, literal);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public String render(RenderingContext renderingContext) {
+            Number literal = getLiteral();
+
+            return ValueHandlerFactory.determineAppropriateHandler((Class<Number>) literal.getClass()).render(literal);
+        }
+
+    }
+
+    /**
+     * String literal always rendered inline.
+     */
+    private static final class InlineLiteral extends LiteralExpression<String> {
+
+        private static final long serialVersionUID = 1L;
+
+        InlineLiteral(CriteriaBuilderImpl criteriaBuilder, String literal) {
+            super(criteriaBuilder, String.class, literal);
+        }
+
+        @Override
+        public String render(RenderingContext renderingContext) {
+            return "'" + getLiteral().replace("'", "''") + "'";
+        }
+
+    }
+
+}
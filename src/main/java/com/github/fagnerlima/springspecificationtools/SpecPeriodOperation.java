@@ -0,0 +1,20 @@
+package com.github.fagnerlima.springspecificationtools;
+
+/**
+ * Define how the period of the entity, from the start to the end property, is compared with the period of the
+ * filter, from {@code a} to {@code b}.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public enum SpecPeriodOperation {
+
+    /** The periods have at least one instant in common: {@code start <= b AND end >= a} */
+    OVERLAPS,
+
+    /** The period of the entity contains the period of the filter: {@code start <= a AND end >= b} */
+    CONTAINS,
+
+    /** The period of the entity is within the period of the filter: {@code start >= a AND end <= b} */
+    WITHIN,
+
+}
@@ -0,0 +1,244 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.github.fagnerlima.springspecificationtools.annotation.SpecBetween;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecField;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecGroup;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecJoin;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecPeriod;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecPeriodEndDate;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecPeriodStartDate;
+import com.github.fagnerlima.springspecificationtools.util.FieldUtils;
+
+/**
+ * Precompiled and immutable representation of a filter class, built once per class and shared by all
+ * {@link SpecBuilder} instances.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public final class SpecPlan {
+
+    private static final Map<List<Class<?>>, SpecPlan> CACHE = new ConcurrentHashMap<>();
+
+    private final Class<?> filterClass;
+    private final Class<?> entityClass;
+    private final List<SpecPlanField> fields;
+    private final Map<Field, SpecSkipReason> skippedFields;
+    private final SpecDistinct distinct;
+    private final Function<Object, Object> startDateAccessor;
+    private final Function<Object, Object> endDateAccessor;
+
+    private SpecPlan(Class<?> filterClass, Class<?> entityClass, List<SpecPlanField> fields,
+            Map<Field, SpecSkipReason> skippedFields, SpecDistinct distinct, Function<Object, Object> startDateAccessor,
+            Function<Object, Object> endDateAccessor) {
+        this.filterClass = filterClass;
+        this.entityClass = entityClass;
+        this.fields = Collections.unmodifiableList(fields);
+        this.skippedFields = Collections.unmodifiableMap(skippedFields);
+        this.distinct = distinct;
+        this.startDateAccessor = startDateAccessor;
+        this.endDateAccessor = endDateAccessor;
+    }
+
+    /**
+     * Get the plan of a class annotated with {@link SpecEntity}.
+     *
+     * @param filterClass class annotated with {@link SpecEntity}
+     * @return the plan of {@code filterClass}
+     */
+    public static SpecPlan of(Class<?> filterClass) {
+        return of(filterClass, filterClass.getAnnotation(SpecEntity.class).value());
+    }
+
+    /**
+     * Get the plan of {@code filterClass} for the entity {@code entityClass}.
+     *
+     * @param filterClass filter class
+     * @param entityClass entity class
+     * @return the plan of {@code filterClass}
+     */
+    public static SpecPlan of(Class<?> filterClass, Class<?> entityClass) {
+        SpecPlan plan = CACHE.get(Arrays.asList(filterClass, entityClass));
+
+        return plan != null ? plan : compile(filterClass, entityClass, new HashSet<>());
+    }
+
+    /**
+     * @return The filter class.
+     */
+    public Class<?> getFilterClass() {
+        return filterClass;
+    }
+
+    /**
+     * @return The entity class.
+     */
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * @return The resolved fields of the filter class.
+     */
+    public List<SpecPlanField> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return The fields of the filter class that never result in a condition, with the reason.
+     */
+    public Map<Field, SpecSkipReason> getSkippedFields() {
+        return skippedFields;
+    }
+
+    /**
+     * @return When the DISTINCT restriction is applied, as defined in {@link SpecEntity}.
+     */
+    public SpecDistinct getDistinct() {
+        return distinct;
+    }
+
+    /**
+     * @return {@code true} if the filter class has the fields annotated with {@link SpecPeriodStartDate}
+     *         and {@link SpecPeriodEndDate}.
+     */
+    public boolean isPeriod() {
+        return startDateAccessor != null && endDateAccessor != null;
+    }
+
+    /**
+     * Read the value of the field annotated with {@link SpecPeriodStartDate}.
+     *
+     * @param period the period object
+     * @return the start date
+     */
+    public Object getStartDate(Object period) {
+        return startDateAccessor.apply(period);
+    }
+
+    /**
+     * Read the value of the field annotated with {@link SpecPeriodEndDate}.
+     *
+     * @param period the period object
+     * @return the end date
+     */
+    public Object getEndDate(Object period) {
+        return endDateAccessor.apply(period);
+    }
+
+    private static SpecPlan compile(Class<?> filterClass, Class<?> entityClass, Set<Class<?>> compiling) {
+        List<Class<?>> key = Arrays.asList(filterClass, entityClass);
+        SpecPlan cached = CACHE.get(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        compiling.add(filterClass);
+
+        List<Field> entityFields = FieldUtils.getAllFields(entityClass);
+        List<SpecPlanField> fields = new ArrayList<>();
+        Map<Field, SpecSkipReason> skippedFields = new LinkedHashMap<>();
+        SpecEntity specEntity = filterClass.getAnnotation(SpecEntity.class);
+
+        for (Field filterField : FieldUtils.getAllFields(filterClass)) {
+            Function<Object, Object> accessor = FieldUtils.getAccessor(filterField, filterClass);
+
+            if (accessor == null) {
+                if (FieldUtils.isReadable(filterField)) {
+                    skippedFields.put(filterField, SpecSkipReason.UNREADABLE);
+                }
+
+                continue;
+            }
+
+            SpecField specField = filterField.getAnnotation(SpecField.class);
+            boolean canBeNull = specField != null && specField.canBeNull();
+            String dialect = getDialect(specEntity, specField);
+            SpecBetween specBetween = filterField.getAnnotation(SpecBetween.class);
+
+            if (specBetween != null) {
+                fields.add(SpecPlanField.between(filterField, accessor, specBetween, canBeNull));
+                continue;
+            }
+
+            SpecJoin specJoin = filterField.getAnnotation(SpecJoin.class);
+
+            if (specJoin != null) {
+                fields.add(SpecPlanField.join(filterField, accessor, SpecUtils.getPropertyName(filterField),
+                        SpecUtils.getOperation(filterField), canBeNull, specJoin, dialect));
+                continue;
+            }
+
+            SpecGroup specGroup = filterField.getAnnotation(SpecGroup.class);
+
+            if (specGroup != null) {
+                fields.add(SpecPlanField.group(filterField, accessor, specGroup, canBeNull, entityClass,
+                        compileNested(filterField.getType(), entityClass, compiling)));
+                continue;
+            }
+
+            SpecPeriod specPeriod = filterField.getAnnotation(SpecPeriod.class);
+
+            if (specPeriod != null) {
+                fields.add(SpecPlanField.period(filterField, accessor, specPeriod, canBeNull, entityClass,
+                        compileNested(filterField.getType(), entityClass, compiling)));
+                continue;
+            }
+
+            if (SpecUtils.hasProperty(filterField, entityFields)) {
+                fields.add(SpecPlanField.field(filterField, accessor, SpecUtils.getPropertyName(filterField),
+                        SpecUtils.getOperation(filterField), canBeNull, dialect));
+            } else if (!isPeriodDate(filterField)) {
+                skippedFields.put(filterField, SpecSkipReason.UNKNOWN_PROPERTY);
+            }
+        }
+
+        SpecPlan plan = new SpecPlan(filterClass, entityClass, fields, skippedFields,
+                specEntity != null ? specEntity.distinct() : SpecDistinct.AUTO,
+                getAccessor(filterClass, SpecPeriodStartDate.class),
+                getAccessor(filterClass, SpecPeriodEndDate.class));
+        SpecPlan previous = CACHE.putIfAbsent(key, plan);
+
+        return previous != null ? previous : plan;
+    }
+
+    private static SpecPlan compileNested(Class<?> type, Class<?> entityClass, Set<Class<?>> compiling) {
+        // a type that is still being compiled is resolved later, from the value
+        return compiling.contains(type) ? null : compile(type, entityClass, compiling);
+    }
+
+    private static boolean isPeriodDate(Field field) {
+        return field.isAnnotationPresent(SpecPeriodStartDate.class) || field.isAnnotationPresent(SpecPeriodEndDate.class);
+    }
+
+    private static String getDialect(SpecEntity specEntity, SpecField specField) {
+        if (specField != null && !specField.dialect().isEmpty()) {
+            return specField.dialect();
+        }
+
+        return specEntity != null && !specEntity.dialect().isEmpty() ? specEntity.dialect() : null;
+    }
+
+    private static Function<Object, Object> getAccessor(Class<?> type, Class<? extends Annotation> annotationClass) {
+        try {
+            return FieldUtils.getAccessor(FieldUtils.getField(type, annotationClass), type);
+        } catch (NoSuchFieldException exception) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.lang.reflect.Field;
+import java.util.function.Function;
+
+import javax.persistence.criteria.JoinType;
+
+import com.github.fagnerlima.springspecificationtools.annotation.SpecBetween;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecGroup;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecJoin;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecPeriod;
+
+/**
+ * A resolved field of a {@link SpecPlan}.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public final class SpecPlanField {
+
+    /**
+     * The kind of condition produced by the field.
+     */
+    public enum Kind {
+        FIELD, BETWEEN, JOIN, GROUP, PERIOD;
+    }
+
+    private final Kind kind;
+    private final Field field;
+    private final Function<Object, Object> accessor;
+    private final String property;
+    private final SpecOperation operation;
+    private final boolean canBeNull;
+    private final String leftProperty;
+    private final String rightProperty;
+    private final SpecOperator operator;
+    private final JoinType joinType;
+    private final SpecJoinStrategy joinStrategy;
+    private final Class<?> entityClass;
+    private final SpecPlan plan;
+    private final String dialect;
+    private final SpecPeriod specPeriod;
+
+    private SpecPlanField(Kind kind, Field field, Function<Object, Object> accessor, String property, SpecOperation operation,
+            boolean canBeNull, String leftProperty, String rightProperty, SpecOperator operator, JoinType joinType,
+            SpecJoinStrategy joinStrategy, Class<?> entityClass, SpecPlan plan, String dialect, SpecPeriod specPeriod) {
+        this.kind = kind;
+        this.field = field;
+        this.accessor = accessor;
+        this.property = property;
+        this.operation = operation;
+        this.canBeNull = canBeNull;
+        this.leftProperty = leftProperty;
+        this.rightProperty = rightProperty;
+        this.operator = operator;
+        this.joinType = joinType;
+        this.joinStrategy = joinStrategy;
+        this.entityClass = entityClass;
+        this.plan = plan;
+        this.dialect = dialect;
+        this.specPeriod = specPeriod;
+    }
+
+    static SpecPlanField field(Field field, Function<Object, Object> accessor, String property, SpecOperation operation,
+            boolean canBeNull, String dialect) {
+        return new SpecPlanField(Kind.FIELD, field, accessor, property, operation, canBeNull,
+                null, null, null, null, null, null, null, dialect, null);
+    }
+
+    static SpecPlanField join(Field field, Function<Object, Object> accessor, String property, SpecOperation operation,
+            boolean canBeNull, SpecJoin specJoin, String dialect) {
+        return new SpecPlanField(Kind.JOIN, field, accessor, property, operation, canBeNull,
+                null, null, null, specJoin.type(), specJoin.strategy(), null, null, dialect, null);
+    }
+
+    static SpecPlanField between(Field field, Function<Object, Object> accessor, SpecBetween specBetween, boolean canBeNull) {
+        return new SpecPlanField(Kind.BETWEEN, field, accessor, null, null, canBeNull,
+                specBetween.left(), specBetween.right(), null, null, null, null, null, null, null);
+    }
+
+    static SpecPlanField group(Field field, Function<Object, Object> accessor, SpecGroup specGroup, boolean canBeNull,
+            Class<?> entityClass, SpecPlan plan) {
+        return new SpecPlanField(Kind.GROUP, field, accessor, null, null, canBeNull,
+                null, null, specGroup.operator(), null, null, entityClass, plan, null, null);
+    }
+
+    static SpecPlanField period(Field field, Function<Object, Object> accessor, SpecPeriod specPeriod, boolean canBeNull,
+            Class<?> entityClass, SpecPlan plan) {
+        return new SpecPlanField(Kind.PERIOD, field, accessor, specPeriod.start(), null, canBeNull,
+                null, specPeriod.end(), null, null, null, entityClass, plan, null, specPeriod);
+    }
+
+    /**
+     * @return The kind of condition produced by the field.
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return The field of the filter.
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return The property of the entity, or the start property of {@link SpecPeriod}.
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * @return The operation of the condition.
+     */
+    public SpecOperation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return If {@code true} and the value is {@code null}, the condition IS NULL will be included.
+     */
+    public boolean isCanBeNull() {
+        return canBeNull;
+    }
+
+    /**
+     * @return The left property of {@link SpecBetween}.
+     */
+    public String getLeftProperty() {
+        return leftProperty;
+    }
+
+    /**
+     * @return The right property of {@link SpecBetween}, or the end property of {@link SpecPeriod}.
+     */
+    public String getRightProperty() {
+        return rightProperty;
+    }
+
+    /**
+     * @return The operator of {@link SpecGroup}.
+     */
+    public SpecOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * @return The join type of {@link SpecJoin}.
+     */
+    public JoinType getJoinType() {
+        return joinType;
+    }
+
+    /**
+     * @return The strategy of {@link SpecJoin}.
+     */
+    public SpecJoinStrategy getJoinStrategy() {
+        return joinStrategy;
+    }
+
+    /**
+     * @return The name of the {@link StringNormalizationDialect} of the field, or {@code null} for the default one.
+     */
+    public String getDialect() {
+        return dialect;
+    }
+
+    /**
+     * @return How the periods are compared by {@link SpecPeriod}.
+     */
+    public SpecPeriodOperation getPeriodOperation() {
+        return specPeriod.operation();
+    }
+
+    /**
+     * @return If {@code true}, a {@code null} end date of the entity is an open-ended period of {@link SpecPeriod}.
+     */
+    public boolean isOpenEnded() {
+        return specPeriod.openEnded();
+    }
+
+    /**
+     * @return {@code true} if the field is annotated with {@link SpecJoin}.
+     */
+    public boolean isJoin() {
+        return kind == Kind.JOIN;
+    }
+
+    /**
+     * Get the nested plan of {@link SpecGroup} and {@link SpecPeriod} fields for the {@code value}.
+     *
+     * @param value the value of the field
+     * @return the nested plan
+     */
+    public SpecPlan getPlan(Object value) {
+        if (plan != null && plan.getFilterClass().equals(value.getClass())) {
+            return plan;
+        }
+
+        return SpecPlan.of(value.getClass(), entityClass);
+    }
+
+    /**
+     * Read the value of the field from the {@code filter}.
+     *
+     * @param filter the filter object
+     * @return the value of the field
+     */
+    public Object getValue(Object filter) {
+        return accessor.apply(filter);
+    }
+
+}
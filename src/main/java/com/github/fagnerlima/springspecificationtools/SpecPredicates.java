@@ -0,0 +1,827 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.EmbeddedId;
+import javax.persistence.criteria.JoinType;
+
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecJoin;
+import com.github.fagnerlima.springspecificationtools.util.DateUtils;
+import com.github.fagnerlima.springspecificationtools.util.FieldUtils;
+
+/**
+ * Compile the filters annotated with {@link SpecEntity} into a {@link Predicate} of the entities, evaluated in
+ * memory, e.g. to check if a changed entity still matches a saved filter without a query. The conditions are the
+ * same of {@link SpecBuilder}, with the semantics of the SQL:
+ * <ul>
+ * <li>a condition on a {@code null} value is false, except IS NULL, and an entity with a path of the root through a
+ * {@code null} association never matches, like the implicit inner join of the path, even if the condition is in an
+ * OR. A path through a {@code null} embeddable is {@code null};</li>
+ * <li>the joins of {@link SpecJoin} are shared by the conditions with the same path and join type, and the entity
+ * matches if a combination of the elements of the joined collections satisfies the conditions. An INNER join of an
+ * empty association never matches (RIGHT joins are INNER joins here), and a LEFT join is {@code null};</li>
+ * <li>the conditions of {@link SpecJoinStrategy#EXISTS} with the same path match if an element of the path
+ * satisfies them;</li>
+ * <li>the strings are normalized with {@link StringNormalizationDialect#normalize(String, SpecOperation)}, and the
+ * other operations are case sensitive, like the default collation of most databases.</li>
+ * </ul>
+ * The values of the filter are read once, when it's compiled, and the entities are read with the accessors of
+ * their fields (see {@link FieldUtils#getAccessorStrategy()}). The predicate is immutable and thread-safe.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public final class SpecPredicates {
+
+    /** The value of a path of the root through a {@code null} association */
+    private static final Object MISSING = new Object();
+
+    private SpecPredicates() {
+    }
+
+    /**
+     * Compile the conditions of {@code filter}, combined with AND.
+     *
+     * @param <T> entity class
+     * @param filter object annotated with {@link SpecEntity}
+     * @return the predicate, that accepts all of the entities if the filter has no conditions
+     */
+    public static <T> Predicate<T> compile(Object filter) {
+        return compile(filter, SpecOperator.AND);
+    }
+
+    /**
+     * Compile the conditions of {@code filter}, like {@link SpecBuilder#build(SpecOperator)}.
+     *
+     * @param <T> entity class
+     * @param filter object annotated with {@link SpecEntity}
+     * @param operator the operator of the conditions
+     * @return the predicate, that accepts all of the entities if the filter has no conditions
+     */
+    public static <T> Predicate<T> compile(Object filter, SpecOperator operator) {
+        Compiler compiler = new Compiler();
+        Condition condition = compiler.conditions(filter, SpecPlan.of(filter.getClass()), operator);
+
+        return new CompiledPredicate<>(condition, compiler.joins.toArray(new Join[compiler.joins.size()]),
+                compiler.implicitJoins.values().toArray(new Property[compiler.implicitJoins.size()]));
+    }
+
+    /**
+     * A condition of the entity, with the elements bound to the joins.
+     */
+    @FunctionalInterface
+    private interface Condition {
+
+        boolean test(Object entity, Object[] bindings);
+
+    }
+
+    /**
+     * The value of the entity compared by a condition.
+     */
+    @FunctionalInterface
+    private interface Operand {
+
+        Object read(Object entity, Object[] bindings);
+
+    }
+
+    /**
+     * The predicate of a filter, that checks the implicit joins of the paths of the root and binds the elements of
+     * the joins before testing the condition.
+     */
+    private static final class CompiledPredicate<T> implements Predicate<T> {
+
+        private final Condition condition;
+        private final Join[] joins;
+        private final Property[] implicitJoins;
+
+        CompiledPredicate(Condition condition, Join[] joins, Property[] implicitJoins) {
+            this.condition = condition;
+            this.joins = joins;
+            this.implicitJoins = implicitJoins;
+        }
+
+        @Override
+        public boolean test(T entity) {
+            if (condition == null) {
+                return true;
+            }
+
+            // the inner joins of the paths remove the row from the whole query
+            for (Property property : implicitJoins) {
+                if (property.read(entity) == MISSING) {
+                    return false;
+                }
+            }
+
+            return joins.length == 0 ? condition.test(entity, null) : bind(entity, new Object[joins.length], 0);
+        }
+
+        /**
+         * Bind each element of the join {@code index} (the joins are in the order of creation, so the parent is
+         * bound first) and test the next ones, like the rows of the joins in the query.
+         */
+        private boolean bind(Object entity, Object[] bindings, int index) {
+            if (index == joins.length) {
+                return condition.test(entity, bindings);
+            }
+
+            Join join = joins[index];
+            Object parent = join.parent < 0 ? entity : bindings[join.parent];
+            Object value = parent != null ? join.attribute.read(parent) : null;
+
+            if (value instanceof Collection && !((Collection<?>) value).isEmpty()) {
+                for (Object element : (Collection<?>) value) {
+                    bindings[index] = element;
+
+                    if (bind(entity, bindings, index + 1)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            if (value == null || value instanceof Collection) {
+                if (!join.left) {
+                    return false;
+                }
+
+                value = null;
+            }
+
+            bindings[index] = value;
+
+            return bind(entity, bindings, index + 1);
+        }
+
+    }
+
+    /**
+     * A join of an attribute of the root or of another join.
+     */
+    private static final class Join {
+
+        private final int parent;
+        private final Attribute attribute;
+        private final boolean left;
+
+        Join(int parent, Attribute attribute, boolean left) {
+            this.parent = parent;
+            this.attribute = attribute;
+            this.left = left;
+        }
+
+    }
+
+    /**
+     * An attribute, read with the accessor of the last class read, so the same class isn't looked up again.
+     */
+    static final class Attribute {
+
+        private final String name;
+        private volatile Accessor accessor;
+
+        Attribute(String name) {
+            this.name = name;
+        }
+
+        Object read(Object object) {
+            return getAccessor(object).function.apply(object);
+        }
+
+        /**
+         * @return {@code true} if the attribute of {@code object} is embedded, so it isn't joined
+         */
+        boolean isEmbedded(Object object) {
+            return getAccessor(object).embedded;
+        }
+
+        private Accessor getAccessor(Object object) {
+            Accessor current = accessor;
+
+            if (current == null || current.type != object.getClass()) {
+                current = new Accessor(object.getClass(), SpecUtils.getAccessor(object.getClass(), name),
+                        isEmbedded(object.getClass(), name));
+                accessor = current;
+            }
+
+            return current;
+        }
+
+        private static boolean isEmbedded(Class<?> type, String name) {
+            return FieldUtils.getAllFields(type).stream()
+                    .anyMatch(field -> field.getName().equals(name) && (field.isAnnotationPresent(Embedded.class)
+                            || field.isAnnotationPresent(EmbeddedId.class)
+                            || field.getType().isAnnotationPresent(Embeddable.class)));
+        }
+
+    }
+
+    private static final class Accessor {
+
+        private final Class<?> type;
+        private final Function<Object, Object> function;
+        private final boolean embedded;
+
+        Accessor(Class<?> type, Function<Object, Object> function, boolean embedded) {
+            this.type = type;
+            this.function = function;
+            this.embedded = embedded;
+        }
+
+    }
+
+    /**
+     * A path of the root, navigating the to-one associations.
+     */
+    private static final class Property {
+
+        private final String path;
+        private final Attribute[] attributes;
+
+        Property(String property) {
+            path = property;
+            String[] names = property.split("\\.");
+            attributes = new Attribute[names.length];
+
+            for (int i = 0; i < names.length; i++) {
+                attributes[i] = new Attribute(names[i]);
+            }
+        }
+
+        /**
+         * @return the value, or {@link SpecPredicates#MISSING} if an association of the path is {@code null}
+         */
+        Object read(Object object) {
+            Object owner = object;
+            Object value = attributes[0].read(object);
+
+            for (int i = 1; i < attributes.length; i++) {
+                if (value == null && attributes[i - 1].isEmbedded(owner)) {
+                    // the columns of a null embeddable are null
+                    return null;
+                }
+
+                if (value == null || value instanceof Collection) {
+                    return MISSING;
+                }
+
+                owner = value;
+                value = attributes[i].read(value);
+            }
+
+            return value;
+        }
+
+        /**
+         * Test if an element of the path, navigating the collections, satisfies the {@code condition}, like an
+         * EXISTS subquery with the inner joins of the path.
+         */
+        boolean anyElement(Object object, int index, Condition condition) {
+            if (index == attributes.length) {
+                return condition.test(object, null);
+            }
+
+            Object value = attributes[index].read(object);
+
+            if (value instanceof Collection) {
+                for (Object element : (Collection<?>) value) {
+                    if (element != null && anyElement(element, index + 1, condition)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            return value != null && anyElement(value, index + 1, condition);
+        }
+
+    }
+
+    /**
+     * A traversal of the fields of a filter, in the order of its {@link SpecPlan}, that compiles their conditions,
+     * like {@link SpecBuilder}.
+     */
+    private static final class Compiler {
+
+        private final List<Join> joins = new ArrayList<>();
+        private final Map<String, Integer> aliases = new HashMap<>();
+        private final Map<String, Property> implicitJoins = new LinkedHashMap<>();
+
+        /**
+         * @return the conditions of the fields combined with {@code operator}, or {@code null} if there is none
+         */
+        Condition conditions(Object filter, SpecPlan plan, SpecOperator operator) {
+            List<Condition> conditions = new ArrayList<>();
+            Map<String, List<Condition>> existsConditions = new LinkedHashMap<>();
+
+            for (SpecPlanField planField : plan.getFields()) {
+                try {
+                    Object value = planField.getValue(filter);
+
+                    if (value == null && !planField.isCanBeNull()) {
+                        continue;
+                    }
+
+                    add(conditions, condition(planField, value, existsConditions));
+                } catch (RuntimeException exception) {
+                    // skipped, like the fields of SpecBuilder that can't be read or converted
+                }
+            }
+
+            // the conditions with the same path are merged in a single subquery, combined with the operator
+            existsConditions.forEach((path, pathConditions) -> conditions.add(exists(new Property(path),
+                    combine(pathConditions, operator), operator)));
+
+            return combine(conditions, operator);
+        }
+
+        private Condition condition(SpecPlanField planField, Object value,
+                Map<String, List<Condition>> existsConditions) {
+            switch (planField.getKind()) {
+                case BETWEEN:
+                    return between(planField, value);
+                case JOIN:
+                    return join(planField, value, existsConditions);
+                case GROUP:
+                    return value != null
+                            ? conditions(value, planField.getPlan(value), planField.getOperator())
+                            : null;
+                case PERIOD:
+                    return period(planField, value);
+                default:
+                    Property property = new Property(planField.getProperty());
+
+                    return implicitJoin(property, leaf((entity, bindings) -> property.read(entity),
+                            planField.getOperation(), getDialect(planField), value));
+            }
+        }
+
+        private Condition between(SpecPlanField planField, Object value) {
+            // the numbers are compared by their values, with the fractional ones (e.g. 2.5) kept
+            Object bound = value instanceof Number || value instanceof LocalDate ? value : null;
+
+            if (bound == null) {
+                return null;
+            }
+
+            Property left = new Property(planField.getLeftProperty());
+            Property right = new Property(planField.getRightProperty());
+
+            Condition condition = (entity, bindings) -> isAtMost(compare(left.read(entity), bound))
+                    && isAtLeast(compare(right.read(entity), bound));
+
+            return implicitJoin(left, implicitJoin(right, condition));
+        }
+
+        private Condition join(SpecPlanField planField, Object value, Map<String, List<Condition>> existsConditions) {
+            String property = planField.getProperty();
+            StringNormalizationDialect dialect = getDialect(planField);
+
+            if (!SpecUtils.isDeepProperty(property)) {
+                Property rootProperty = new Property(property);
+
+                return leaf((entity, bindings) -> rootProperty.read(entity), planField.getOperation(), dialect, value);
+            }
+
+            int index = property.lastIndexOf('.');
+            String path = property.substring(0, index);
+            Attribute attribute = new Attribute(property.substring(index + 1));
+
+            if (planField.getJoinStrategy() == SpecJoinStrategy.EXISTS) {
+                List<Condition> pathConditions = existsConditions.computeIfAbsent(path, key -> new ArrayList<>());
+                add(pathConditions, leaf((element, bindings) -> attribute.read(element), planField.getOperation(),
+                        dialect, value));
+
+                return null;
+            }
+
+            int join = join(path, planField.getJoinType());
+
+            return leaf((entity, bindings) -> bindings[join] != null ? attribute.read(bindings[join]) : null,
+                    planField.getOperation(), dialect, value);
+        }
+
+        /**
+         * Get the index of the join of {@code path}, reusing the joins with the same path and join type, like
+         * {@link SpecUtils#getJoin(javax.persistence.criteria.From, String, JoinType)}.
+         */
+        private int join(String path, JoinType joinType) {
+            int index = -1;
+            String joined = "";
+
+            for (String name : path.split("\\.")) {
+                joined = joined.isEmpty() ? name : joined + "." + name;
+                int parent = index;
+
+                index = aliases.computeIfAbsent(joined + " " + joinType, key -> {
+                    joins.add(new Join(parent, new Attribute(name), joinType == JoinType.LEFT));
+
+                    return joins.size() - 1;
+                });
+            }
+
+            return index;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Condition period(SpecPlanField planField, Object value) {
+            SpecPlan periodPlan = value != null ? planField.getPlan(value) : null;
+
+            if (periodPlan == null || !periodPlan.isPeriod()) {
+                return null;
+            }
+
+            Object startValue = periodPlan.getStartDate(value);
+            Object endValue = periodPlan.getEndDate(value);
+
+            if ((startValue == null && endValue == null) || (startValue != null && endValue != null
+                    && startValue.getClass().equals(endValue.getClass())
+                    && ((Comparable) startValue).compareTo(endValue) > 0)) {
+                return null;
+            }
+
+            Property start = new Property(planField.getProperty());
+            Property end = new Property(planField.getRightProperty());
+            List<Condition> conditions = new ArrayList<>(2);
+
+            switch (planField.getPeriodOperation()) {
+                case CONTAINS:
+                    add(conditions, atMost(start, startValue, false));
+                    add(conditions, openEnded(end, atLeast(end, endValue, true), planField.isOpenEnded()));
+                    break;
+                case WITHIN:
+                    add(conditions, atLeast(start, startValue, false));
+                    add(conditions, atMost(end, endValue, true));
+                    break;
+                default:
+                    add(conditions, atMost(start, endValue, true));
+                    add(conditions, openEnded(end, atLeast(end, startValue, false), planField.isOpenEnded()));
+            }
+
+            return combine(conditions, SpecOperator.AND);
+        }
+
+        /**
+         * Same of the {@code atLeast} of {@link SpecFactory}, with the type of the value of the entity.
+         */
+        private Condition atLeast(Property property, Object value, boolean endOfPeriod) {
+            if (value == null) {
+                return null;
+            }
+
+            Object dateTimeValue = value instanceof LocalDate
+                    ? (endOfPeriod ? ((LocalDate) value).plusDays(1) : (LocalDate) value).atStartOfDay()
+                    : value;
+
+            return implicitJoin(property, (entity, bindings) -> {
+                Object x = property.read(entity);
+
+                return isAtLeast(compare(x, x instanceof LocalDateTime ? dateTimeValue : value));
+            });
+        }
+
+        /**
+         * Same of the {@code atMost} of {@link SpecFactory}, with the type of the value of the entity.
+         */
+        private Condition atMost(Property property, Object value, boolean endOfPeriod) {
+            if (value == null) {
+                return null;
+            }
+
+            boolean exclusive = value instanceof LocalDate && endOfPeriod;
+            Object dateTimeValue = value instanceof LocalDate
+                    ? (exclusive ? ((LocalDate) value).plusDays(1) : (LocalDate) value).atStartOfDay()
+                    : value;
+
+            return implicitJoin(property, (entity, bindings) -> {
+                Object x = property.read(entity);
+
+                if (!(x instanceof LocalDateTime)) {
+                    return isAtMost(compare(x, value));
+                }
+
+                return exclusive ? isLessThan(compare(x, dateTimeValue)) : isAtMost(compare(x, dateTimeValue));
+            });
+        }
+
+        /**
+         * Register the path of the root read by {@code condition}, whose associations are implicit inner joins of
+         * the whole query.
+         */
+        private Condition implicitJoin(Property property, Condition condition) {
+            if (condition != null && property.attributes.length > 1) {
+                implicitJoins.putIfAbsent(property.path, property);
+            }
+
+            return condition;
+        }
+
+        private Condition openEnded(Property end, Condition condition, boolean openEnded) {
+            return condition != null && openEnded
+                    ? (entity, bindings) -> end.read(entity) == null || condition.test(entity, bindings)
+                    : condition;
+        }
+
+        private Condition exists(Property path, Condition condition, SpecOperator operator) {
+            // without conditions, the subquery is restricted by an empty AND (true) or OR (false)
+            Condition elementCondition = condition != null ? condition
+                    : (element, bindings) -> operator == SpecOperator.AND;
+
+            return (entity, bindings) -> path.anyElement(entity, 0, elementCondition);
+        }
+
+        /**
+         * Same of the {@code create(Path, SpecOperation, Object)} of {@link SpecFactory}.
+         */
+        private Condition leaf(Operand operand, SpecOperation operation, StringNormalizationDialect dialect,
+                Object value) {
+            Predicate<Object> test = test(operation, dialect, value);
+
+            if (test == null) {
+                return null;
+            }
+
+            return (entity, bindings) -> {
+                Object x = operand.read(entity, bindings);
+
+                return x != MISSING && test.test(x);
+            };
+        }
+
+        private StringNormalizationDialect getDialect(SpecPlanField planField) {
+            return planField.getDialect() != null
+                    ? StringNormalizationDialects.get(planField.getDialect())
+                    : SpecFactory.getDefaultDialect();
+        }
+
+    }
+
+    private static Predicate<Object> test(SpecOperation operation, StringNormalizationDialect dialect, Object value) {
+        if (value == null) {
+            return x -> x == null;
+        }
+
+        if (value instanceof String) {
+            return string(operation, dialect, (String) value);
+        }
+
+        if (value instanceof Collection) {
+            return in((Collection<?>) value);
+        }
+
+        if (value instanceof LocalDate && operation == SpecOperation.DATETIME_TO_DATE) {
+            LocalDateTime dateTime = ((LocalDate) value).atStartOfDay();
+            LocalDateTime startOfDay = DateUtils.atStartOfDay(dateTime);
+            LocalDateTime startOfNextDay = DateUtils.atStartOfNextDay(dateTime);
+
+            return x -> isAtLeast(compare(x, startOfDay)) && isLessThan(compare(x, startOfNextDay));
+        }
+
+        if (value instanceof Comparable) {
+            switch (operation) {
+                case GREATER_THAN:
+                    return x -> isGreaterThan(compare(x, value));
+                case LESS_THAN:
+                    return x -> isLessThan(compare(x, value));
+                case GREATER_THAN_OR_EQUAL:
+                    return x -> isAtLeast(compare(x, value));
+                case LESS_THAN_OR_EQUAL:
+                    return x -> isAtMost(compare(x, value));
+                default:
+                    return x -> isEqual(compare(x, value));
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Same of the {@code create(Path<String>, String, SpecOperation)} of {@link SpecFactory}, with the patterns
+     * of LIKE matched in Java.
+     */
+    private static Predicate<Object> string(SpecOperation operation, StringNormalizationDialect dialect,
+            String value) {
+        switch (operation) {
+            case EQUAL_IGNORE_CASE:
+            case EQUAL_IGNORE_CASE_UNACCENT:
+                String normalized = dialect.normalize(value, operation);
+
+                return x -> x != null && normalized.equals(dialect.normalize(toString(x), operation));
+            case LIKE:
+                String[] words = words(value);
+
+                return x -> x != null && containsInOrder(toString(x), words);
+            case LIKE_IGNORE_CASE:
+            case LIKE_IGNORE_CASE_UNACCENT:
+                String[] normalizedWords = words(dialect.normalize(value, operation));
+
+                return x -> x != null && containsInOrder(dialect.normalize(toString(x), operation), normalizedWords);
+            case STARTS_WITH:
+                return x -> x != null && toString(x).startsWith(value);
+            case STARTS_WITH_IGNORE_CASE:
+            case STARTS_WITH_IGNORE_CASE_UNACCENT:
+                String prefix = dialect.normalize(value, operation);
+
+                return x -> x != null && dialect.normalize(toString(x), operation).startsWith(prefix);
+            case ENDS_WITH:
+                return x -> x != null && toString(x).endsWith(value);
+            default:
+                return x -> x != null && value.equals(toString(x));
+        }
+    }
+
+    private static Predicate<Object> in(Collection<?> values) {
+        if (values.isEmpty()) {
+            return x -> false;
+        }
+
+        Set<Object> keys = new HashSet<>(values.size() * 2);
+
+        for (Object value : values) {
+            keys.add(key(value));
+        }
+
+        return x -> x != null && keys.contains(key(x));
+    }
+
+    /**
+     * The key of a value in a set, with the same key for the equal numbers of different types.
+     */
+    static Object key(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+
+        if (value instanceof Number) {
+            BigDecimal decimal = new BigDecimal(value.toString()).stripTrailingZeros();
+
+            try {
+                return decimal.longValueExact();
+            } catch (ArithmeticException exception) {
+                return decimal;
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * The words of a value of LIKE: the whitespaces are wildcards (see {@link SpecFactory}).
+     */
+    private static String[] words(String value) {
+        List<String> words = new ArrayList<>();
+
+        for (String word : value.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+
+        return words.toArray(new String[words.size()]);
+    }
+
+    /**
+     * Match {@code %word1%word2%}.
+     */
+    private static boolean containsInOrder(String x, String[] words) {
+        int from = 0;
+
+        for (String word : words) {
+            int index = x.indexOf(word, from);
+
+            if (index < 0) {
+                return false;
+            }
+
+            from = index + word.length();
+        }
+
+        return true;
+    }
+
+    static String toString(Object x) {
+        if (x instanceof String) {
+            return (String) x;
+        }
+
+        return x instanceof Enum ? ((Enum<?>) x).name() : x.toString();
+    }
+
+    /**
+     * Compare the value of the entity with the value of the filter, like the database: the numbers by their values
+     * and the dates with the start of the day of the date-times.
+     *
+     * @return the signum of the comparison, or {@code null} if the value of the entity is {@code null} or the
+     *         values can't be compared
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Integer compare(Object x, Object y) {
+        if (x == null || x == MISSING) {
+            return null;
+        }
+
+        if (x instanceof Number && y instanceof Number) {
+            Object left = key(x);
+            Object right = key(y);
+
+            if (left instanceof Long && right instanceof Long) {
+                return Long.compare((Long) left, (Long) right);
+            }
+
+            return Integer.signum(new BigDecimal(left.toString()).compareTo(new BigDecimal(right.toString())));
+        }
+
+        Object left = x instanceof LocalDate && y instanceof LocalDateTime ? ((LocalDate) x).atStartOfDay() : x;
+        Object right = y instanceof LocalDate && x instanceof LocalDateTime ? ((LocalDate) y).atStartOfDay() : y;
+
+        if (left instanceof Enum && right instanceof String) {
+            left = ((Enum<?>) left).name();
+        }
+
+        if (!(left instanceof Comparable) || !left.getClass().isInstance(right)
+                && !right.getClass().isInstance(left)) {
+            return null;
+        }
+
+        return Integer.signum(((Comparable) left).compareTo(right));
+    }
+
+    private static boolean isEqual(Integer comparison) {
+        return comparison != null && comparison == 0;
+    }
+
+    private static boolean isGreaterThan(Integer comparison) {
+        return comparison != null && comparison > 0;
+    }
+
+    private static boolean isAtLeast(Integer comparison) {
+        return comparison != null && comparison >= 0;
+    }
+
+    private static boolean isLessThan(Integer comparison) {
+        return comparison != null && comparison < 0;
+    }
+
+    private static boolean isAtMost(Integer comparison) {
+        return comparison != null && comparison <= 0;
+    }
+
+    private static void add(List<Condition> conditions, Condition condition) {
+        if (condition != null) {
+            conditions.add(condition);
+        }
+    }
+
+    private static Condition combine(List<Condition> conditions, SpecOperator operator) {
+        if (conditions.isEmpty()) {
+            return null;
+        }
+
+        if (conditions.size() == 1) {
+            return conditions.get(0);
+        }
+
+        Condition[] array = conditions.toArray(new Condition[conditions.size()]);
+
+        if (operator == SpecOperator.OR) {
+            return (entity, bindings) -> {
+                for (Condition condition : array) {
+                    if (condition.test(entity, bindings)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            };
+        }
+
+        return (entity, bindings) -> {
+            for (Condition condition : array) {
+                if (!condition.test(entity, bindings)) {
+                    return false;
+                }
+            }
+
+            return true;
+        };
+    }
+
+}
@@ -0,0 +1,286 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.beans.PropertyDescriptor;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.Attribute;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+
+/**
+ * Run the Specifications selecting only the properties of a projection, instead of loading the entities:
+ * <ul>
+ * <li>an interface, with a {@code Tuple} query of the properties of its getters;</li>
+ * <li>a class (DTO), with a {@code construct} query of the properties given, or of the parameter names of its
+ * constructor (compiled with {@code -parameters}).</li>
+ * </ul>
+ * The properties can be paths of the root, like {@code owner.name}, with the associations LEFT joined, so the rows
+ * with a {@code null} association are kept. With the DISTINCT restriction (e.g. a join of a to-many association),
+ * the rows are distinct by the selected properties, so the projection should include the id; a sorted DISTINCT
+ * query reads the ids of the rows with the expressions of the order first, and then the projections of the ids.
+ * @author Fagner Lima
+ * @since 0.4.0
+ *
+ * @param <T> entity class
+ */
+public class SpecProjectionExecutor<T extends Serializable> {
+
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+    private final EntityManager entityManager;
+    private final Class<T> entityClass;
+    private final SpecCounter<T> counter;
+    private final Map<Class<?>, List<String>> properties = new ConcurrentHashMap<>();
+
+    public SpecProjectionExecutor(EntityManager entityManager, Class<T> entityClass) {
+        this.entityManager = entityManager;
+        this.entityClass = entityClass;
+        this.counter = new SpecCounter<>(entityManager, entityClass);
+    }
+
+    public <P> List<P> findAll(Specification<T> spec, Class<P> projection) {
+        return findAll(spec, projection, Sort.unsorted());
+    }
+
+    public <P> List<P> findAll(Specification<T> spec, Class<P> projection, Sort sort) {
+        return SpecSimplifier.isUnsatisfiable(spec)
+                ? Collections.emptyList()
+                : getResultList(spec, projection, getProperties(projection), sort, null);
+    }
+
+    public <P> Page<P> findAll(Specification<T> spec, Class<P> projection, Pageable pageable) {
+        return findAll(spec, projection, getProperties(projection), pageable);
+    }
+
+    /**
+     * Run {@code spec} selecting the {@code properties} into the constructor of the DTO {@code projection} with
+     * the same number of parameters.
+     *
+     * @param <P> type of the projection
+     * @param spec the Specification, or {@code null} for all rows
+     * @param projection the class of the DTO
+     * @param sort the sort
+     * @param properties the properties, in the order of the parameters of the constructor
+     * @return the projections
+     */
+    public <P> List<P> findAll(Specification<T> spec, Class<P> projection, Sort sort, String... properties) {
+        return SpecSimplifier.isUnsatisfiable(spec)
+                ? Collections.emptyList()
+                : getResultList(spec, projection, toList(projection, properties), sort, null);
+    }
+
+    /**
+     * Same of {@link #findAll(Specification, Class, Sort, String...)}, with a page.
+     */
+    public <P> Page<P> findAll(Specification<T> spec, Class<P> projection, Pageable pageable, String... properties) {
+        return findAll(spec, projection, toList(projection, properties), pageable);
+    }
+
+    private <P> Page<P> findAll(Specification<T> spec, Class<P> projection, List<String> properties,
+            Pageable pageable) {
+        if (SpecSimplifier.isUnsatisfiable(spec)) {
+            return Page.empty(pageable);
+        }
+
+        List<P> content = getResultList(spec, projection, properties, pageable.getSort(), pageable);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> counter.count(spec));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <P> List<P> getResultList(Specification<T> spec, Class<P> projection, List<String> properties,
+            Sort sort, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<?> query = projection.isInterface()
+                ? criteriaBuilder.createTupleQuery()
+                : criteriaBuilder.createQuery(projection);
+        Root<T> root = query.from(entityClass);
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, criteriaBuilder) : null;
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        if (query.isDistinct() && sort != null && sort.isSorted()) {
+            // the order of a DISTINCT query must be selected: the projections are read by the ids of the rows
+            List<Object> ids = findIds(spec, sort, pageable);
+
+            return ids.isEmpty()
+                    ? Collections.emptyList()
+                    : getResultList((idRoot, idQuery, idCriteriaBuilder) -> SpecCounter.getId(idRoot).in(ids),
+                            projection, properties, sort, null);
+        }
+
+        Selection<?>[] selections = new Selection<?>[properties.size()];
+
+        for (int i = 0; i < selections.length; i++) {
+            // the aliases identify the values of the tuple
+            selections[i] = projection.isInterface()
+                    ? getPath(root, properties.get(i)).alias(properties.get(i))
+                    : getPath(root, properties.get(i));
+        }
+
+        if (sort != null && sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+
+        if (!projection.isInterface()) {
+            CriteriaQuery<P> dtoQuery = (CriteriaQuery<P>) query;
+
+            return page(entityManager.createQuery(dtoQuery.select(criteriaBuilder.construct(projection, selections))),
+                    pageable).getResultList();
+        }
+
+        CriteriaQuery<Tuple> tupleQuery = (CriteriaQuery<Tuple>) query;
+        List<Tuple> tuples = page(entityManager.createQuery(tupleQuery.multiselect(selections)), pageable)
+                .getResultList();
+        List<P> content = new ArrayList<>(tuples.size());
+
+        for (Tuple tuple : tuples) {
+            Map<String, Object> values = new HashMap<>();
+
+            for (String property : properties) {
+                values.put(property, tuple.get(property));
+            }
+
+            content.add(PROJECTION_FACTORY.createProjection(projection, values));
+        }
+
+        return content;
+    }
+
+    /**
+     * Read the ids of the rows, selected with the expressions of the order, that must be in the select of a
+     * DISTINCT query.
+     */
+    private List<Object> findIds(Specification<T> spec, Sort sort, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(SpecCounter.getId(root));
+
+        List<Order> orders = QueryUtils.toOrders(sort, root, criteriaBuilder);
+        orders.forEach(order -> selections.add(order.getExpression()));
+        query.orderBy(orders);
+
+        List<Tuple> tuples = page(entityManager.createQuery(query.multiselect(selections)), pageable)
+                .getResultList();
+        List<Object> ids = new ArrayList<>(tuples.size());
+
+        for (Tuple tuple : tuples) {
+            ids.add(tuple.get(0));
+        }
+
+        return ids;
+    }
+
+    /**
+     * Get the path of a selected property, with LEFT joins of the associations, like {@code QueryUtils.toOrders},
+     * so the rows with a {@code null} association aren't removed.
+     */
+    private Path<?> getPath(Root<T> root, String property) {
+        String[] attributes = property.split("\\.");
+        Path<?> path = root;
+
+        for (int i = 0; i < attributes.length - 1; i++) {
+            Attribute<?, ?> attribute = entityManager.getMetamodel().managedType(path.getJavaType())
+                    .getAttribute(attributes[i]);
+
+            path = path instanceof From && attribute.isAssociation()
+                    ? SpecUtils.getJoin((From<?, ?>) path, attributes[i], JoinType.LEFT)
+                    : path.get(attributes[i]);
+        }
+
+        return path.get(attributes[attributes.length - 1]);
+    }
+
+    private static <X> TypedQuery<X> page(TypedQuery<X> query, Pageable pageable) {
+        return pageable == null || pageable.isUnpaged()
+                ? query
+                : query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+    }
+
+    /**
+     * The properties of the getters of an interface, or the parameter names of the constructor of a class.
+     */
+    private List<String> getProperties(Class<?> projection) {
+        return properties.computeIfAbsent(projection, type -> {
+            List<String> names = new ArrayList<>();
+
+            if (type.isInterface()) {
+                for (PropertyDescriptor descriptor : PROJECTION_FACTORY.getProjectionInformation(type)
+                        .getInputProperties()) {
+                    names.add(descriptor.getName());
+                }
+            } else {
+                Constructor<?>[] constructors = type.getConstructors();
+
+                if (constructors.length != 1) {
+                    throw new IllegalArgumentException(type.getName()
+                            + " must have a single public constructor, or the properties must be given");
+                }
+
+                for (Parameter parameter : constructors[0].getParameters()) {
+                    if (!parameter.isNamePresent()) {
+                        throw new IllegalArgumentException(type.getName()
+                                + " must be compiled with -parameters, or the properties must be given");
+                    }
+
+                    names.add(parameter.getName());
+                }
+            }
+
+            if (names.isEmpty()) {
+                throw new IllegalArgumentException(type.getName() + " has no properties");
+            }
+
+            return Collections.unmodifiableList(names);
+        });
+    }
+
+    private static List<String> toList(Class<?> projection, String... properties) {
+        if (projection.isInterface()) {
+            throw new IllegalArgumentException("The properties of an interface are the ones of its getters");
+        }
+
+        List<String> list = new ArrayList<>(properties.length);
+        Collections.addAll(list, properties);
+
+        return list;
+    }
+
+}
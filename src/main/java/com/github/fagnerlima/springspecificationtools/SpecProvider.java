@@ -0,0 +1,40 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.io.Serializable;
+
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+
+/**
+ * Adds the conditions of a filter to a {@link SpecBuilder} without reflection. Implemented by the classes
+ * generated by the {@code spring-specification-tools-processor} (named after the filter, with the suffix
+ * {@value #SUFFIX}), which are used by {@link SpecBuilder#add(Object)} when found in the classpath.
+ * @author Fagner Lima
+ * @since 0.4.0
+ *
+ * @param <F> filter class, annotated with {@link SpecEntity}
+ * @param <T> entity class
+ */
+public interface SpecProvider<F, T extends Serializable> {
+
+    /**
+     * The suffix of the generated classes.
+     */
+    public static final String SUFFIX = "Specs";
+
+    /**
+     * Add the conditions of {@code filter} to {@code builder}.
+     *
+     * @param builder the SpecBuilder
+     * @param filter object annotated with {@link SpecEntity}
+     * @return the {@code builder}
+     */
+    public SpecBuilder<T> add(SpecBuilder<T> builder, F filter);
+
+    /**
+     * @return When the DISTINCT restriction is applied, as defined in {@link SpecEntity}.
+     */
+    public default SpecDistinct getDistinct() {
+        return SpecDistinct.AUTO;
+    }
+
+}
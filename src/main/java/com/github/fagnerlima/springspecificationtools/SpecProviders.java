@@ -0,0 +1,38 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lookup of the generated {@link SpecProvider} classes.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+final class SpecProviders {
+
+    private static final Map<Class<?>, Optional<SpecProvider<?, ?>>> CACHE = new ConcurrentHashMap<>();
+
+    private SpecProviders() {
+    }
+
+    static Optional<SpecProvider<?, ?>> find(Class<?> filterClass) {
+        return CACHE.computeIfAbsent(filterClass, SpecProviders::load);
+    }
+
+    private static Optional<SpecProvider<?, ?>> load(Class<?> filterClass) {
+        try {
+            Class<?> providerClass = Class.forName(filterClass.getName() + SpecProvider.SUFFIX, true,
+                    filterClass.getClassLoader());
+
+            if (!SpecProvider.class.isAssignableFrom(providerClass)) {
+                return Optional.empty();
+            }
+
+            return Optional.of((SpecProvider<?, ?>) providerClass.getConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError exception) {
+            return Optional.empty();
+        }
+    }
+
+}
@@ -0,0 +1,278 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * In-process cache of the results of the queries, keyed by the entity class, the {@link SpecFingerprint} of the
+ * Specification and the parameters of the query (e.g. the {@code Pageable}). The least recently used entries are
+ * evicted when the cache is full or when they expire.
+ * <p>
+ * The cached entities are shared by all the callers and detached from their persistence context, so the cache is
+ * intended for read-only results. The entries of an entity class, and the ones that join it, must be invalidated
+ * when its rows are changed, with {@link #invalidate(Class)} or with {@link SpecResultCacheListener}.
+ * @author Fagner Lima
+ * @since 0.4.0
+ * @see SpecExecutor
+ */
+public class SpecResultCache {
+
+    private static final Set<SpecResultCache> INSTANCES = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final int maximumSize;
+    private final long timeToLive;
+    private final Map<List<Object>, CacheEntry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long generation;
+
+    /**
+     * @param maximumSize the maximum number of entries
+     * @param timeToLive how long the entries are kept, or {@code null} to keep them until they are evicted or
+     *        invalidated
+     */
+    public SpecResultCache(int maximumSize, Duration timeToLive) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive");
+        }
+
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive != null ? timeToLive.toNanos() : 0;
+        this.entries = new LinkedHashMap<List<Object>, CacheEntry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, CacheEntry> eldest) {
+                if (size() > SpecResultCache.this.maximumSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+
+        INSTANCES.add(this);
+    }
+
+    /**
+     * Invalidate the entries of {@code entityClass}, and the ones that join it, in all of the caches.
+     *
+     * @param entityClass the entity class, or a subclass of it (e.g. a proxy)
+     */
+    public static void invalidateAll(Class<?> entityClass) {
+        synchronized (INSTANCES) {
+            INSTANCES.forEach(cache -> cache.invalidate(entityClass));
+        }
+    }
+
+    /**
+     * Check if {@code spec} can be cached, i.e. it has a {@link SpecFingerprint}.
+     *
+     * @param spec the Specification
+     * @return {@code true} if {@code spec} can be cached
+     */
+    public static boolean isCacheable(Specification<?> spec) {
+        return SpecFingerprint.canonical(spec) != null;
+    }
+
+    /**
+     * Get the cached result, or load and cache it.
+     *
+     * @param <V> type of the result
+     * @param entityClass the entity class
+     * @param fingerprint the fingerprint of the Specification
+     * @param parameters the other parameters of the query, with {@code equals} and {@code hashCode}
+     * @param loader runs the query
+     * @return the result
+     */
+    public <V> V get(Class<?> entityClass, String fingerprint, Object parameters, Supplier<V> loader) {
+        return get(entityClass, Collections.emptySet(), fingerprint, parameters, loader);
+    }
+
+    /**
+     * Get the cached result, or load and cache it. The entry is also invalidated with the entity classes joined by
+     * the Specification.
+     *
+     * @param <V> type of the result
+     * @param entityClass the entity class
+     * @param joinedClasses the entity classes joined by the Specification
+     * @param fingerprint the fingerprint of the Specification
+     * @param parameters the other parameters of the query, with {@code equals} and {@code hashCode}
+     * @param loader runs the query
+     * @return the result
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V get(Class<?> entityClass, Collection<Class<?>> joinedClasses, String fingerprint, Object parameters,
+            Supplier<V> loader) {
+        List<Object> key = Arrays.asList(entityClass, fingerprint, parameters);
+        long loadGeneration;
+
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+
+            if (entry != null && !entry.isExpired()) {
+                hits.incrementAndGet();
+                return (V) entry.value;
+            }
+
+            if (entry != null) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+
+            misses.incrementAndGet();
+            loadGeneration = generation;
+        }
+
+        V value = loader.get();
+
+        synchronized (entries) {
+            // a result loaded before an invalidation may be stale
+            if (loadGeneration == generation) {
+                Set<Class<?>> entityClasses = new HashSet<>(joinedClasses);
+                entityClasses.add(entityClass);
+                entries.put(key, new CacheEntry(value, entityClasses,
+                        timeToLive > 0 ? System.nanoTime() + timeToLive : 0));
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Invalidate the entries of {@code entityClass}, and the ones that join it.
+     *
+     * @param entityClass the entity class, or a subclass of it (e.g. a proxy)
+     */
+    public void invalidate(Class<?> entityClass) {
+        synchronized (entries) {
+            generation++;
+
+            for (Iterator<CacheEntry> iterator = entries.values().iterator(); iterator.hasNext();) {
+                if (iterator.next().references(entityClass)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidate all of the entries.
+     */
+    public void clear() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return The current statistics of the cache.
+     */
+    public Stats getStats() {
+        synchronized (entries) {
+            return new Stats(hits.get(), misses.get(), evictions.get(), entries.size());
+        }
+    }
+
+    private static final class CacheEntry {
+
+        private final Object value;
+        private final Set<Class<?>> entityClasses;
+        private final long expiresAt;
+
+        CacheEntry(Object value, Set<Class<?>> entityClasses, long expiresAt) {
+            this.value = value;
+            this.entityClasses = entityClasses;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean references(Class<?> changedClass) {
+            return entityClasses.stream().anyMatch(entityClass -> entityClass.isAssignableFrom(changedClass));
+        }
+
+        boolean isExpired() {
+            return expiresAt != 0 && System.nanoTime() - expiresAt >= 0;
+        }
+
+    }
+
+    /**
+     * Statistics of a {@link SpecResultCache}.
+     */
+    public static final class Stats {
+
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        Stats(long hits, long misses, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        /**
+         * @return The number of results found in the cache.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return The number of results loaded by the queries.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return The number of entries evicted because the cache was full or they expired.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * @return The number of entries.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return The ratio of hits, between 0 and 1.
+         */
+        public double getHitRate() {
+            long requests = hits + misses;
+
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats[hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size + "]";
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that invalidates the entries of the changed entity class, and the ones that join it, in all
+ * of the {@link SpecResultCache} instances. The callbacks run when the changes are flushed, before the commit, so
+ * in a Spring transaction the classes are invalidated after its completion: after the commit, when the other
+ * transactions can read the changes, and after the rollback, since the transaction may have cached the results of
+ * its own changes. Without a Spring transaction, the classes are invalidated immediately.
+ * <pre>
+ * &#64;Entity
+ * &#64;EntityListeners(SpecResultCacheListener.class)
+ * public class User { ... }
+ * </pre>
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public class SpecResultCacheListener {
+
+    private static final Object CHANGED_CLASSES = new Object();
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    @SuppressWarnings("unchecked")
+    public void invalidate(Object entity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            SpecResultCache.invalidateAll(entity.getClass());
+            return;
+        }
+
+        Set<Class<?>> changedClasses = (Set<Class<?>>) TransactionSynchronizationManager.getResource(CHANGED_CLASSES);
+
+        if (changedClasses == null) {
+            changedClasses = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(CHANGED_CLASSES, changedClasses);
+            TransactionSynchronizationManager.registerSynchronization(new Invalidation(changedClasses));
+        }
+
+        changedClasses.add(entity.getClass());
+    }
+
+    /**
+     * Invalidate the classes changed by the transaction after its completion.
+     */
+    private static final class Invalidation extends TransactionSynchronizationAdapter {
+
+        private final Set<Class<?>> changedClasses;
+
+        Invalidation(Set<Class<?>> changedClasses) {
+            this.changedClasses = changedClasses;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CHANGED_CLASSES);
+            changedClasses.forEach(SpecResultCache::invalidateAll);
+        }
+
+    }
+
+}
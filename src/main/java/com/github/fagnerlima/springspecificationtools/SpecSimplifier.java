@@ -0,0 +1,419 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Simplify the tree of {@link SpecComposite} and {@link SpecLeaf}:
+ * <ul>
+ * <li>drop the duplicated conditions;</li>
+ * <li>fold the EQUAL and IN conditions on the same path combined with OR into a single IN;</li>
+ * <li>merge the bounds and the EQUAL and IN conditions on the same path combined with AND into the tightest ones,
+ * as a single BETWEEN when both bounds are inclusive;</li>
+ * <li>detect the unsatisfiable conditions, as empty IN conditions and contradictory bounds or values.</li>
+ * </ul>
+ * The values are compared only when Java and the database agree on the result, i.e. numbers, dates and times of
+ * the same class (and, for equality, booleans, enums and UUIDs). Strings are never compared, since their equality
+ * and order depend on the collation of the database.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public final class SpecSimplifier {
+
+    private static final Specification<?> NONE = (root, query, criteriaBuilder) -> criteriaBuilder.disjunction();
+
+    private static final List<Class<?>> ORDERED_TYPES = Arrays.asList(Long.class, Integer.class, Short.class,
+            Byte.class, Double.class, Float.class, BigDecimal.class, BigInteger.class, LocalDate.class,
+            LocalDateTime.class, LocalTime.class, Instant.class, Date.class);
+
+    private SpecSimplifier() {
+    }
+
+    /**
+     * @param <T> entity class
+     * @return The Specification that no row satisfies.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Serializable> Specification<T> none() {
+        return (Specification<T>) NONE;
+    }
+
+    /**
+     * Check if {@code spec} was proved unsatisfiable by {@link #simplify(Specification)}, so the query can be
+     * skipped.
+     *
+     * @param spec the Specification
+     * @return {@code true} if no row satisfies {@code spec}
+     */
+    public static boolean isUnsatisfiable(Specification<?> spec) {
+        return spec == NONE;
+    }
+
+    /**
+     * Simplify the {@code spec}.
+     *
+     * @param <T> entity class
+     * @param spec the Specification
+     * @return the simplified Specification, or {@link #none()} if it's unsatisfiable
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Serializable> Specification<T> simplify(Specification<T> spec) {
+        if (spec instanceof SpecLeaf) {
+            return isEmptyIn((SpecLeaf<T>) spec) ? none() : spec;
+        }
+
+        if (!(spec instanceof SpecComposite) || ((SpecComposite<T>) spec).getSpecs().isEmpty()) {
+            return spec;
+        }
+
+        SpecComposite<T> composite = (SpecComposite<T>) spec;
+        SpecOperator operator = composite.getOperator();
+        LinkedHashSet<Specification<T>> children = new LinkedHashSet<>();
+
+        for (Specification<T> child : composite.getSpecs()) {
+            Specification<T> simplified = simplify(child);
+
+            if (isUnsatisfiable(simplified)) {
+                if (operator == SpecOperator.AND) {
+                    return none();
+                }
+            } else if (simplified instanceof SpecComposite
+                    && ((SpecComposite<T>) simplified).getOperator() == operator) {
+                children.addAll(((SpecComposite<T>) simplified).getSpecs());
+            } else {
+                children.add(simplified);
+            }
+        }
+
+        if (children.isEmpty()) {
+            return none();
+        }
+
+        List<Specification<T>> specs = operator == SpecOperator.OR
+                ? foldIn(new ArrayList<>(children))
+                : mergeBounds(new ArrayList<>(children));
+
+        if (specs == null) {
+            return none();
+        }
+
+        return specs.size() == 1 ? specs.get(0) : new SpecComposite<>(operator, specs);
+    }
+
+    private static <T extends Serializable> List<Specification<T>> foldIn(List<Specification<T>> specs) {
+        Map<List<Object>, List<SpecLeaf<T>>> groups = groupLeaves(specs, SpecSimplifier::isIn);
+        List<Specification<T>> folded = new ArrayList<>(specs.size());
+
+        for (Specification<T> spec : specs) {
+            List<SpecLeaf<T>> group = spec instanceof SpecLeaf ? groups.get(((SpecLeaf<T>) spec).getTarget()) : null;
+
+            if (group == null || group.size() < 2 || !isIn((SpecLeaf<?>) spec)) {
+                folded.add(spec);
+            } else if (group.get(0) == spec) {
+                LinkedHashSet<Object> values = new LinkedHashSet<>();
+                group.forEach(leaf -> values.addAll(getValues(leaf)));
+                folded.add(group.get(0).with(SpecOperation.EQUAL, new ArrayList<>(values)));
+            }
+        }
+
+        return folded;
+    }
+
+    /**
+     * @return the merged Specifications, or {@code null} if they are unsatisfiable
+     */
+    private static <T extends Serializable> List<Specification<T>> mergeBounds(List<Specification<T>> specs) {
+        Map<List<Object>, List<SpecLeaf<T>>> groups = groupLeaves(specs, SpecSimplifier::isMergeable);
+        List<Specification<T>> merged = new ArrayList<>(specs.size());
+
+        for (Specification<T> spec : specs) {
+            List<SpecLeaf<T>> group = spec instanceof SpecLeaf ? groups.get(((SpecLeaf<T>) spec).getTarget()) : null;
+
+            if (group == null || group.size() < 2 || !isMergeable((SpecLeaf<?>) spec) || !isSameClass(group)) {
+                merged.add(spec);
+            } else if (group.get(0) == spec) {
+                Bounds bounds = new Bounds();
+
+                for (SpecLeaf<T> leaf : group) {
+                    if (!bounds.add(leaf.getCondition())) {
+                        return null;
+                    }
+                }
+
+                List<Specification<T>> specsOfBounds = bounds.toSpecs(group.get(0));
+
+                if (specsOfBounds == null) {
+                    return null;
+                }
+
+                merged.addAll(specsOfBounds);
+            }
+        }
+
+        return merged;
+    }
+
+    private static <T extends Serializable> Map<List<Object>, List<SpecLeaf<T>>> groupLeaves(
+            List<Specification<T>> specs, java.util.function.Predicate<SpecLeaf<?>> filter) {
+        Map<List<Object>, List<SpecLeaf<T>>> groups = new LinkedHashMap<>();
+
+        for (Specification<T> spec : specs) {
+            if (spec instanceof SpecLeaf && filter.test((SpecLeaf<?>) spec)) {
+                SpecLeaf<T> leaf = (SpecLeaf<T>) spec;
+                groups.computeIfAbsent(leaf.getTarget(), target -> new ArrayList<>()).add(leaf);
+            }
+        }
+
+        return groups;
+    }
+
+    private static boolean isEmptyIn(SpecLeaf<?> leaf) {
+        Object value = leaf.getCondition().getValue();
+
+        return value instanceof Collection && ((Collection<?>) value).isEmpty();
+    }
+
+    /**
+     * EQUAL or IN condition, that can be folded in a single IN.
+     */
+    private static boolean isIn(SpecLeaf<?> leaf) {
+        Object value = leaf.getCondition().getValue();
+
+        return value instanceof Collection
+                || (value != null && leaf.getCondition().getOperation() == SpecOperation.EQUAL);
+    }
+
+    /**
+     * EQUAL, IN or bound condition with values that can be compared in Java.
+     */
+    private static boolean isMergeable(SpecLeaf<?> leaf) {
+        SpecCondition condition = leaf.getCondition();
+
+        if (condition.getValue() instanceof Collection) {
+            return ((Collection<?>) condition.getValue()).stream().allMatch(SpecSimplifier::isExact);
+        }
+
+        switch (condition.getOperation()) {
+            case EQUAL:
+                return isExact(condition.getValue());
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                return isOrdered(condition.getValue());
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isExact(Object value) {
+        return isOrdered(value) || value instanceof Boolean || value instanceof Enum || value instanceof UUID;
+    }
+
+    private static boolean isOrdered(Object value) {
+        return value != null && ORDERED_TYPES.contains(value.getClass());
+    }
+
+    private static boolean isSameClass(List<? extends SpecLeaf<?>> group) {
+        Class<?> type = null;
+
+        for (SpecLeaf<?> leaf : group) {
+            for (Object value : getValues(leaf)) {
+                if (type == null) {
+                    type = value.getClass();
+                } else if (!type.equals(value.getClass())) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static Collection<?> getValues(SpecLeaf<?> leaf) {
+        Object value = leaf.getCondition().getValue();
+
+        return value instanceof Collection ? (Collection<?>) value : Arrays.asList(value);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compare(Object x, Object y) {
+        return ((Comparable) x).compareTo(y);
+    }
+
+    private static boolean contains(Collection<?> values, Object value) {
+        for (Object v : values) {
+            if (value instanceof Comparable ? compare(v, value) == 0 : v.equals(value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * The tightest bounds and the allowed values of the conditions on a path.
+     */
+    private static final class Bounds {
+
+        private Object lower;
+        private boolean lowerInclusive;
+        private Object upper;
+        private boolean upperInclusive;
+        private List<Object> values;
+
+        /**
+         * @return {@code false} if the allowed values became empty
+         */
+        boolean add(SpecCondition condition) {
+            Object value = condition.getValue();
+
+            if (value instanceof Collection || condition.getOperation() == SpecOperation.EQUAL) {
+                Collection<?> newValues = value instanceof Collection ? (Collection<?>) value : Arrays.asList(value);
+                List<Object> intersection = new ArrayList<>();
+
+                for (Object newValue : newValues) {
+                    if ((values == null || contains(values, newValue)) && !contains(intersection, newValue)) {
+                        intersection.add(newValue);
+                    }
+                }
+
+                values = intersection;
+
+                return !values.isEmpty();
+            }
+
+            switch (condition.getOperation()) {
+                case GREATER_THAN:
+                    setLower(value, false);
+                    break;
+                case GREATER_THAN_OR_EQUAL:
+                    setLower(value, true);
+                    break;
+                case LESS_THAN:
+                    setUpper(value, false);
+                    break;
+                default:
+                    setUpper(value, true);
+            }
+
+            return true;
+        }
+
+        private void setLower(Object value, boolean inclusive) {
+            int comparison = lower == null ? 1 : compare(value, lower);
+
+            if (comparison > 0 || (comparison == 0 && !inclusive)) {
+                lower = value;
+                lowerInclusive = inclusive;
+            }
+        }
+
+        private void setUpper(Object value, boolean inclusive) {
+            int comparison = upper == null ? -1 : compare(value, upper);
+
+            if (comparison < 0 || (comparison == 0 && !inclusive)) {
+                upper = value;
+                upperInclusive = inclusive;
+            }
+        }
+
+        private boolean isInRange(Object value) {
+            if (lower != null) {
+                int comparison = compare(value, lower);
+
+                if (comparison < 0 || (comparison == 0 && !lowerInclusive)) {
+                    return false;
+                }
+            }
+
+            if (upper != null) {
+                int comparison = compare(value, upper);
+
+                if (comparison > 0 || (comparison == 0 && !upperInclusive)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * @return the Specifications of the bounds, or {@code null} if they are unsatisfiable
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        <T extends Serializable> List<Specification<T>> toSpecs(SpecLeaf<T> leaf) {
+            List<Specification<T>> specs = new ArrayList<>(2);
+
+            if (values != null) {
+                List<Object> allowedValues = new ArrayList<>();
+
+                for (Object value : values) {
+                    if (isInRange(value)) {
+                        allowedValues.add(value);
+                    }
+                }
+
+                if (allowedValues.isEmpty()) {
+                    return null;
+                }
+
+                specs.add(leaf.with(SpecOperation.EQUAL,
+                        allowedValues.size() == 1 ? allowedValues.get(0) : allowedValues));
+
+                return specs;
+            }
+
+            if (lower != null && upper != null) {
+                int comparison = compare(lower, upper);
+
+                if (comparison > 0 || (comparison == 0 && !(lowerInclusive && upperInclusive))) {
+                    return null;
+                }
+
+                if (comparison == 0) {
+                    specs.add(leaf.with(SpecOperation.EQUAL, lower));
+
+                    return specs;
+                }
+
+                if (lowerInclusive && upperInclusive && leaf.getJoinType() == null) {
+                    specs.add(leaf.getSpecFactory().between(leaf.getCondition().getProperty(),
+                            (Comparable) lower, (Comparable) upper));
+
+                    return specs;
+                }
+            }
+
+            if (lower != null) {
+                specs.add(leaf.with(lowerInclusive ? SpecOperation.GREATER_THAN_OR_EQUAL : SpecOperation.GREATER_THAN,
+                        lower));
+            }
+
+            if (upper != null) {
+                specs.add(leaf.with(upperInclusive ? SpecOperation.LESS_THAN_OR_EQUAL : SpecOperation.LESS_THAN,
+                        upper));
+            }
+
+            return specs;
+        }
+
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.github.fagnerlima.springspecificationtools;
+
+/**
+ * Why a field of a filter didn't result in a condition.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public enum SpecSkipReason {
+
+    /** The value is {@code null}, and the field is not {@code canBeNull} */
+    NULL_VALUE,
+
+    /** The field has no getter method that can be called */
+    UNREADABLE,
+
+    /** The field is not annotated and the entity has no property with its name */
+    UNKNOWN_PROPERTY,
+
+    /** The value results in no condition, like an incomplete period or a group without conditions */
+    NO_CONDITION,
+
+    /** The creation of the condition threw an exception */
+    ERROR,
+
+}
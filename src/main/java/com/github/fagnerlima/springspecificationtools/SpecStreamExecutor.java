@@ -0,0 +1,235 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.persistence.EntityManager;
+import javax.persistence.FlushModeType;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Run the Specifications over large results (e.g. exports) with bounded memory, instead of loading a list with all
+ * of the entities:
+ * <ul>
+ * <li>{@link #stream(Specification, Sort)} reads the rows forward only, with a fetch size, as read-only entities,
+ * and clears the persistence context every {@link #clearInterval(int)} rows;</li>
+ * <li>{@link #forEachChunk(Specification, SpecKeyset, int, Consumer)} reads the rows in chunks with keyset
+ * pagination, each chunk in its own transaction, so the work done with a chunk is committed before the next
+ * one.</li>
+ * </ul>
+ * The persistence context is cleared, so the changes of the caller that were not flushed are discarded.
+ * @author Fagner Lima
+ * @since 0.4.0
+ *
+ * @param <T> entity class
+ */
+public class SpecStreamExecutor<T extends Serializable> {
+
+    /** Hibernate hint of the number of rows fetched from the database at a time */
+    private static final String FETCH_SIZE_HINT = "org.hibernate.fetchSize";
+
+    /** Hibernate hint that loads the entities without the snapshot of their state for the dirty checking */
+    private static final String READ_ONLY_HINT = "org.hibernate.readOnly";
+
+    private static final int DEFAULT_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final Class<T> entityClass;
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+    private int clearInterval = DEFAULT_FETCH_SIZE;
+    private TransactionOperations transactionOperations;
+
+    public SpecStreamExecutor(EntityManager entityManager, Class<T> entityClass) {
+        this.entityManager = entityManager;
+        this.entityClass = entityClass;
+    }
+
+    /**
+     * Define the number of rows fetched from the database at a time by the streams. Some drivers require a
+     * specific value to not read all of the rows, like {@code Integer.MIN_VALUE} for MySQL.
+     *
+     * @param fetchSize the fetch size, {@code 500} by default
+     * @return SpecStreamExecutor instance
+     */
+    public SpecStreamExecutor<T> fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+
+        return this;
+    }
+
+    /**
+     * Define the number of rows read by the streams between the clearings of the persistence context.
+     *
+     * @param clearInterval the number of rows, {@code 500} by default, or {@code 0} to never clear
+     * @return SpecStreamExecutor instance
+     */
+    public SpecStreamExecutor<T> clearInterval(int clearInterval) {
+        this.clearInterval = clearInterval;
+
+        return this;
+    }
+
+    /**
+     * Define the transactions of the chunks of {@link #forEachChunk(Specification, SpecKeyset, int, Consumer)},
+     * e.g. a {@code TransactionTemplate}. Without them, the chunks run in the transaction of the caller, if any.
+     *
+     * @param transactionOperations the transactions
+     * @return SpecStreamExecutor instance
+     */
+    public SpecStreamExecutor<T> transactions(TransactionOperations transactionOperations) {
+        this.transactionOperations = transactionOperations;
+
+        return this;
+    }
+
+    public Stream<T> stream(Specification<T> spec) {
+        return stream(spec, Sort.unsorted());
+    }
+
+    /**
+     * Run {@code spec} as a forward-only stream, that must be closed, and read in the transaction that opened
+     * it. The entities are read-only and are detached when the persistence context is cleared, so they must not
+     * be kept or changed.
+     *
+     * <pre>
+     * try (Stream&lt;Task&gt; tasks = executor.stream(specification, Sort.by("id"))) {
+     *     tasks.forEach(writer::write);
+     * }
+     * </pre>
+     *
+     * @param spec the Specification, or {@code null} for all rows
+     * @param sort the sort
+     * @return the stream of the entities
+     */
+    public Stream<T> stream(Specification<T> spec, Sort sort) {
+        if (SpecSimplifier.isUnsatisfiable(spec)) {
+            return Stream.empty();
+        }
+
+        Stream<T> stream = entityManager.createQuery(createQuery(spec, sort))
+                .setFlushMode(FlushModeType.COMMIT)
+                .setHint(FETCH_SIZE_HINT, fetchSize)
+                .setHint(READ_ONLY_HINT, true)
+                .getResultStream();
+
+        if (clearInterval <= 0) {
+            return stream;
+        }
+
+        return StreamSupport.stream(new ClearingSpliterator(stream.spliterator()), false).onClose(stream::close);
+    }
+
+    /**
+     * Run {@code spec} in chunks of {@code chunkSize} rows, in the order of the {@code keyset}, starting after its
+     * cursor. Each chunk is read and given to the {@code consumer} in its own transaction, if they are defined,
+     * and the persistence context is cleared after each chunk. The {@code keyset} is moved after each chunk, so
+     * a failed run can be resumed with the cursor of the last chunk processed.
+     *
+     * @param spec the Specification, or {@code null} for all rows
+     * @param keyset the keyset of the order, with its tie-breaker
+     * @param chunkSize the maximum number of rows of a chunk
+     * @param consumer the consumer of the chunks
+     * @return the number of rows read
+     */
+    public long forEachChunk(Specification<T> spec, SpecKeyset<T> keyset, int chunkSize,
+            Consumer<List<T>> consumer) {
+        if (SpecSimplifier.isUnsatisfiable(spec)) {
+            return 0;
+        }
+
+        long count = 0;
+        List<T> chunk;
+
+        do {
+            chunk = transactionOperations != null
+                    ? transactionOperations.execute(status -> readChunk(spec, keyset, chunkSize, consumer))
+                    : readChunk(spec, keyset, chunkSize, consumer);
+
+            if (!chunk.isEmpty()) {
+                // moved after the commit, so the keyset stays at the last chunk processed
+                keyset.after(keyset.cursor(chunk));
+            }
+
+            entityManager.clear();
+            count += chunk.size();
+        } while (chunk.size() == chunkSize);
+
+        return count;
+    }
+
+    private List<T> readChunk(Specification<T> spec, SpecKeyset<T> keyset, int chunkSize,
+            Consumer<List<T>> consumer) {
+        List<T> chunk = entityManager.createQuery(createQuery(Specification.where(spec).and(keyset.build()),
+                keyset.getSort()))
+                .setMaxResults(chunkSize)
+                .getResultList();
+
+        if (chunk.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        consumer.accept(chunk);
+
+        return chunk;
+    }
+
+    private CriteriaQuery<T> createQuery(Specification<T> spec, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, criteriaBuilder) : null;
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        if (sort != null && sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+
+        return query.select(root);
+    }
+
+    /**
+     * Clear the persistence context before reading the next row of every {@link #clearInterval} rows, when the
+     * previous ones were already consumed.
+     */
+    private final class ClearingSpliterator extends Spliterators.AbstractSpliterator<T> {
+
+        private final Spliterator<T> spliterator;
+        private long count;
+
+        ClearingSpliterator(Spliterator<T> spliterator) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.spliterator = spliterator;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (count > 0 && count % clearInterval == 0) {
+                entityManager.clear();
+            }
+
+            return spliterator.tryAdvance(entity -> {
+                count++;
+                action.accept(entity);
+            });
+        }
+
+    }
+
+}
@@ -1,8 +1,24 @@
 package com.github.fagnerlima.springspecificationtools;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.function.Function;
 
+import javax.persistence.Entity;
+import javax.persistence.criteria.AbstractQuery;
+import javax.persistence.criteria.Fetch;
+import javax.persistence.criteria.FetchParent;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Root;
 
@@ -17,6 +33,8 @@ import com.github.fagnerlima.springspecificationtools.util.StringUtils;
  */
 public class SpecUtils {
 
+    private static final Map<List<Object>, Function<Object, Object>> ACCESSORS = new ConcurrentHashMap<>();
+
     public static Boolean hasProperty(Field filterField, List<Field> entityFields) {
         SpecBetween specBetween = filterField.getAnnotation(SpecBetween.class);
 
@@ -100,4 +118,210 @@ public class SpecUtils {
         return getPath(root, getPropertyName(field));
     }
 
+    /**
+     * Get the join of {@code path} from {@code from}, reusing the joins already created in the query with the same
+     * path and join type.
+     *
+     * @param from the root or join of the query
+     * @param path the path of the join, separated by dots
+     * @param joinType the join type
+     * @return the join
+     */
+    public static Join<?, ?> getJoin(From<?, ?> from, String path, JoinType joinType) {
+        From<?, ?> join = from;
+
+        for (String attribute : path.split("\\.")) {
+            join = findOrCreateJoin(join, attribute, joinType);
+        }
+
+        return (Join<?, ?>) join;
+    }
+
+    private static Join<?, ?> findOrCreateJoin(From<?, ?> from, String attribute, JoinType joinType) {
+        for (Join<?, ?> join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute) && join.getJoinType().equals(joinType)) {
+                return join;
+            }
+        }
+
+        // the fetch joins that are also joins (e.g. in Hibernate) are reused by the conditions, except the fetch joins
+        // of collections, that a condition would filter
+        for (Fetch<?, ?> fetch : from.getFetches()) {
+            if (fetch instanceof Join && !fetch.getAttribute().isCollection()
+                    && fetch.getAttribute().getName().equals(attribute)
+                    && fetch.getJoinType().equals(joinType)) {
+                return (Join<?, ?>) fetch;
+            }
+        }
+
+        SpecListeners.onJoin(attribute, joinType);
+
+        return from.join(attribute, joinType);
+    }
+
+    /**
+     * Get the fetch join of {@code path} from {@code from}, reusing the fetch joins already created in the query with
+     * the same path and join type.
+     *
+     * @param from the root of the query
+     * @param path the path of the fetch join, separated by dots
+     * @param joinType the join type
+     * @return the fetch join
+     */
+    public static Fetch<?, ?> getFetch(From<?, ?> from, String path, JoinType joinType) {
+        FetchParent<?, ?> fetch = from;
+
+        for (String attribute : path.split("\\.")) {
+            fetch = findOrCreateFetch(fetch, attribute, joinType);
+        }
+
+        return (Fetch<?, ?>) fetch;
+    }
+
+    private static Fetch<?, ?> findOrCreateFetch(FetchParent<?, ?> parent, String attribute, JoinType joinType) {
+        for (Fetch<?, ?> fetch : parent.getFetches()) {
+            if (fetch.getAttribute().getName().equals(attribute) && fetch.getJoinType().equals(joinType)) {
+                return fetch;
+            }
+        }
+
+        return parent.fetch(attribute, joinType);
+    }
+
+    /**
+     * Check if {@code query} is a count query, i.e. its result type is {@code Long}, like the count queries of
+     * Spring Data.
+     *
+     * @param query the query
+     * @return {@code true} if {@code query} is a count query
+     */
+    public static boolean isCountQuery(AbstractQuery<?> query) {
+        return Long.class.equals(query.getResultType()) || long.class.equals(query.getResultType());
+    }
+
+    /**
+     * Check, using the attributes of the metamodel, if {@code from} has a join or fetch of a to-many association,
+     * directly or through its joins.
+     *
+     * @param from the root or join of the query
+     * @return {@code true} if a to-many association is joined or fetched
+     */
+    public static boolean hasPluralJoin(From<?, ?> from) {
+        for (Join<?, ?> join : from.getJoins()) {
+            if (join.getAttribute().isCollection() || hasPluralJoin(join)) {
+                return true;
+            }
+        }
+
+        return hasPluralFetch(from);
+    }
+
+    private static boolean hasPluralFetch(FetchParent<?, ?> parent) {
+        for (Fetch<?, ?> fetch : parent.getFetches()) {
+            if (fetch.getAttribute().isCollection() || hasPluralFetch(fetch)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Get the entity classes reached by the {@code properties} of {@code entityClass}, through its associations and
+     * the elements of its collections. The unknown properties are ignored.
+     *
+     * @param entityClass the entity class
+     * @param properties the properties, e.g. {@code tags.id}
+     * @return the entity classes, without {@code entityClass}
+     */
+    static Set<Class<?>> getEntityClasses(Class<?> entityClass, Collection<String> properties) {
+        Set<Class<?>> entityClasses = new HashSet<>();
+
+        for (String property : properties) {
+            Class<?> type = entityClass;
+
+            for (String name : property.split("\\.")) {
+                Field field = FieldUtils.getAllFields(type).stream()
+                        .filter(candidate -> candidate.getName().equals(name))
+                        .findFirst()
+                        .orElse(null);
+
+                if (field == null) {
+                    break;
+                }
+
+                type = getElementType(field);
+
+                if (type.isAnnotationPresent(Entity.class)) {
+                    entityClasses.add(type);
+                }
+            }
+        }
+
+        entityClasses.remove(entityClass);
+
+        return entityClasses;
+    }
+
+    /**
+     * Read the {@code property} of an object, navigating the dots.
+     *
+     * @param object the object, e.g. an entity
+     * @param property the property, e.g. {@code owner.name}
+     * @return the value, or {@code null} if the property or one of its parents is {@code null}
+     * @throws IllegalArgumentException if a property can't be read
+     */
+    static Object getValue(Object object, String property) {
+        Object value = object;
+
+        for (String name : property.split("\\.")) {
+            if (value == null) {
+                return null;
+            }
+
+            value = getAccessor(value.getClass(), name).apply(value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Get the accessor of the property {@code name} of {@code type}, cached by type and name.
+     *
+     * @throws IllegalArgumentException if the property can't be read
+     */
+    static Function<Object, Object> getAccessor(Class<?> type, String name) {
+        return ACCESSORS.computeIfAbsent(Arrays.asList(type, name), key -> {
+            for (Field field : FieldUtils.getAllFields(type)) {
+                Function<Object, Object> accessor = field.getName().equals(name)
+                        ? FieldUtils.getAccessor(field, type)
+                        : null;
+
+                if (accessor != null) {
+                    return accessor;
+                }
+            }
+
+            throw new IllegalArgumentException("No readable property " + name + " in " + type.getName());
+        });
+    }
+
+    /**
+     * Get the type of the field, or of the elements (the values of the maps) if it's a collection.
+     */
+    private static Class<?> getElementType(Field field) {
+        boolean plural = Collection.class.isAssignableFrom(field.getType())
+                || Map.class.isAssignableFrom(field.getType());
+        Type genericType = field.getGenericType();
+
+        if (plural && genericType instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+            Type element = arguments[arguments.length - 1];
+
+            return element instanceof Class ? (Class<?>) element : Object.class;
+        }
+
+        return field.getType();
+    }
+
 }
@@ -0,0 +1,459 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.PluralAttribute;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+import com.github.fagnerlima.springspecificationtools.util.FieldUtils;
+
+/**
+ * Startup component that scans the packages for the classes annotated with {@link SpecEntity}, validates their
+ * properties with the JPA metamodel and prepares their {@link SpecPlan} and {@link SpecProvider}, so the errors are
+ * found at startup and the first requests don't pay the reflection. Optionally, the Criteria queries of the shapes
+ * of each filter created with its no-arg constructor (each field with a sample value of its type, and all of the
+ * fields) are also created, priming the caches of the JPA provider.
+ * <p>
+ * As a Spring bean, it runs when it's initialized and fails the startup if there is an error:
+ *
+ * <pre>
+ * &#64;Bean
+ * public SpecWarmup specWarmup(EntityManagerFactory entityManagerFactory) {
+ *     return new SpecWarmup(entityManagerFactory, "com.example.filter").primeQueries(true);
+ * }
+ * </pre>
+ *
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public class SpecWarmup implements InitializingBean {
+
+    private static final Log LOG = LogFactory.getLog(SpecWarmup.class);
+    private static final LocalDate SAMPLE_DATE = LocalDate.of(2000, 1, 1);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String[] basePackages;
+    private boolean primeQueries;
+    private Report report;
+
+    /**
+     * @param entityManagerFactory the EntityManagerFactory of the entities
+     * @param basePackages the packages of the filters, scanned with their subpackages
+     */
+    public SpecWarmup(EntityManagerFactory entityManagerFactory, String... basePackages) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.basePackages = basePackages;
+    }
+
+    /**
+     * Define if the Criteria queries of the shapes of each filter are created, priming the caches of the JPA
+     * provider.
+     *
+     * @param primeQueries if {@code true}, the queries are created
+     * @return SpecWarmup instance
+     */
+    public SpecWarmup primeQueries(boolean primeQueries) {
+        this.primeQueries = primeQueries;
+
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        report = run();
+        LOG.info(report);
+    }
+
+    /**
+     * @return The report of the last run, or {@code null} if it didn't run.
+     */
+    public Report getReport() {
+        return report;
+    }
+
+    /**
+     * Scan, validate and prepare the filters.
+     *
+     * @return the report
+     * @throws IllegalStateException with all of the errors, if a filter is invalid
+     */
+    public Report run() {
+        long start = System.nanoTime();
+        List<Class<?>> filterClasses = scan();
+        List<String> errors = new ArrayList<>();
+        Set<SpecPlan> plans = new LinkedHashSet<>();
+        int shapes = 0;
+
+        for (Class<?> filterClass : filterClasses) {
+            SpecPlan plan;
+
+            try {
+                plan = SpecPlan.of(filterClass);
+            } catch (RuntimeException exception) {
+                errors.add(filterClass.getName() + ": " + exception);
+                continue;
+            }
+
+            SpecProviders.find(filterClass);
+
+            try {
+                entityManagerFactory.getMetamodel().managedType(plan.getEntityClass());
+            } catch (IllegalArgumentException exception) {
+                errors.add(filterClass.getName() + ": " + plan.getEntityClass().getName() + " is not an entity");
+                continue;
+            }
+
+            validate(plan, plans, errors);
+
+            if (primeQueries) {
+                shapes += prime(filterClass, plan, errors);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid filters:\n" + String.join("\n", errors));
+        }
+
+        return new Report(filterClasses.size(), plans.size(), shapes, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private List<Class<?>> scan() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(SpecEntity.class));
+        Set<Class<?>> filterClasses = new LinkedHashSet<>();
+
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                try {
+                    filterClasses.add(ClassUtils.forName(candidate.getBeanClassName(),
+                            ClassUtils.getDefaultClassLoader()));
+                } catch (ClassNotFoundException | LinkageError exception) {
+                    throw new IllegalStateException("Can't load " + candidate.getBeanClassName(), exception);
+                }
+            }
+        }
+
+        return new ArrayList<>(filterClasses);
+    }
+
+    private void validate(SpecPlan plan, Set<SpecPlan> plans, List<String> errors) {
+        if (!plans.add(plan)) {
+            return;
+        }
+
+        String filterName = plan.getFilterClass().getName();
+
+        plan.getSkippedFields().forEach((field, reason) -> {
+            if (reason == SpecSkipReason.UNKNOWN_PROPERTY) {
+                errors.add(filterName + "." + field.getName() + ": unknown property "
+                        + SpecUtils.getPropertyName(field) + " of " + plan.getEntityClass().getName());
+            }
+        });
+
+        for (SpecPlanField planField : plan.getFields()) {
+            String fieldName = filterName + "." + planField.getField().getName();
+
+            switch (planField.getKind()) {
+                case BETWEEN:
+                    validate(plan.getEntityClass(), planField.getLeftProperty(), fieldName, errors);
+                    validate(plan.getEntityClass(), planField.getRightProperty(), fieldName, errors);
+                    break;
+                case GROUP:
+                    validate(SpecPlan.of(planField.getField().getType(), plan.getEntityClass()), plans, errors);
+                    break;
+                case PERIOD:
+                    SpecPlan periodPlan = SpecPlan.of(planField.getField().getType(), plan.getEntityClass());
+                    plans.add(periodPlan);
+
+                    if (!periodPlan.isPeriod()) {
+                        errors.add(fieldName + ": " + periodPlan.getFilterClass().getName()
+                                + " has no start and end dates");
+                    }
+
+                    validate(plan.getEntityClass(), planField.getProperty(), fieldName, errors);
+                    validate(plan.getEntityClass(), planField.getRightProperty(), fieldName, errors);
+                    break;
+                default:
+                    validate(plan.getEntityClass(), planField.getProperty(), fieldName, errors);
+            }
+
+            if (planField.getDialect() != null) {
+                try {
+                    StringNormalizationDialects.get(planField.getDialect());
+                } catch (IllegalArgumentException exception) {
+                    errors.add(fieldName + ": " + exception.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Validate the {@code property} of the entity with the metamodel, navigating the elements of the collections.
+     */
+    private void validate(Class<?> entityClass, String property, String fieldName, List<String> errors) {
+        Metamodel metamodel = entityManagerFactory.getMetamodel();
+        ManagedType<?> type = metamodel.managedType(entityClass);
+        Attribute<?, ?> attribute = null;
+
+        for (String name : property.split("\\.")) {
+            if (attribute != null) {
+                Class<?> javaType = attribute instanceof PluralAttribute
+                        ? ((PluralAttribute<?, ?, ?>) attribute).getElementType().getJavaType()
+                        : attribute.getJavaType();
+
+                try {
+                    type = metamodel.managedType(javaType);
+                } catch (IllegalArgumentException exception) {
+                    errors.add(fieldName + ": " + attribute.getName() + " of " + property + " has no properties");
+                    return;
+                }
+            }
+
+            try {
+                attribute = type.getAttribute(name);
+            } catch (IllegalArgumentException exception) {
+                errors.add(fieldName + ": unknown property " + property + " of " + entityClass.getName());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Create the Criteria queries of the shapes of {@code filterClass}, without running them: one for each field,
+     * with a sample value of its type, and one with all of the fields.
+     *
+     * @return the number of queries created
+     */
+    private int prime(Class<?> filterClass, SpecPlan plan, List<String> errors) {
+        List<Object> filters = new ArrayList<>();
+        Object allFields = newInstance(filterClass);
+
+        if (allFields == null) {
+            // a filter without a no-arg constructor is only validated
+            return 0;
+        }
+
+        for (SpecPlanField planField : plan.getFields()) {
+            Object value = planField.getKind() == SpecPlanField.Kind.GROUP
+                    || planField.getKind() == SpecPlanField.Kind.PERIOD
+                    ? sampleFilter(planField.getField().getType())
+                    : sample(planField.getField().getType(), planField.getField().getGenericType());
+
+            if (value != null && set(allFields, planField.getField(), value)) {
+                Object filter = newInstance(filterClass);
+                set(filter, planField.getField(), value);
+                filters.add(filter);
+            }
+        }
+
+        if (filters.size() > 1) {
+            filters.add(allFields);
+        }
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        int shapes = 0;
+
+        try {
+            for (Object filter : filters) {
+                createQuery(entityManager, plan.getEntityClass(), filter);
+                shapes++;
+            }
+        } catch (RuntimeException exception) {
+            errors.add(filterClass.getName() + ": " + exception);
+        } finally {
+            entityManager.close();
+        }
+
+        return shapes;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static void createQuery(EntityManager entityManager, Class<?> entityClass, Object filter) {
+        Specification<Serializable> spec = new SpecBuilder<Serializable>().add(filter).build();
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery query = criteriaBuilder.createQuery(entityClass);
+        Root root = query.from(entityClass);
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, criteriaBuilder) : null;
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        entityManager.createQuery(query.select(root));
+    }
+
+    /**
+     * Create an instance of the filter of a group or a period, with sample values in all of its fields.
+     */
+    private static Object sampleFilter(Class<?> type) {
+        Object filter = newInstance(type);
+
+        if (filter == null) {
+            return null;
+        }
+
+        for (Field field : FieldUtils.getAllFields(type)) {
+            Object value = FieldUtils.isReadable(field) ? sample(field.getType(), field.getGenericType()) : null;
+
+            if (value != null) {
+                set(filter, field, value);
+            }
+        }
+
+        return filter;
+    }
+
+    /**
+     * Create a sample value of the type of a field, or {@code null} if the type isn't known.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object sample(Class<?> type, Type genericType) {
+        Class<?> valueType = ClassUtils.resolvePrimitiveIfNecessary(type);
+
+        if (Collection.class.isAssignableFrom(valueType)) {
+            Type elementType = genericType instanceof ParameterizedType
+                    ? ((ParameterizedType) genericType).getActualTypeArguments()[0]
+                    : null;
+            Object element = elementType instanceof Class ? sample((Class<?>) elementType, elementType) : null;
+
+            if (element == null) {
+                return null;
+            }
+
+            return valueType.isAssignableFrom(List.class) ? Collections.singletonList(element)
+                    : valueType.isAssignableFrom(Set.class) ? Collections.singleton(element)
+                    : null;
+        } else if (Number.class.isAssignableFrom(valueType)) {
+            try {
+                return NumberUtils.convertNumberToTargetClass(1, (Class<? extends Number>) valueType);
+            } catch (IllegalArgumentException exception) {
+                return null;
+            }
+        } else if (valueType.isEnum()) {
+            Object[] constants = valueType.getEnumConstants();
+
+            return constants.length > 0 ? constants[0] : null;
+        } else if (valueType == String.class) {
+            return "warmup";
+        } else if (valueType == Boolean.class) {
+            return Boolean.TRUE;
+        } else if (valueType == LocalDate.class) {
+            return SAMPLE_DATE;
+        } else if (valueType == LocalDateTime.class) {
+            return SAMPLE_DATE.atStartOfDay();
+        } else if (valueType == UUID.class) {
+            return new UUID(0, 0);
+        }
+
+        return null;
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    private static boolean set(Object filter, Field field, Object value) {
+        try {
+            field.setAccessible(true);
+            field.set(filter, value);
+
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * The result of {@link SpecWarmup#run()}.
+     */
+    public static final class Report {
+
+        private final int filterClasses;
+        private final int plans;
+        private final int shapes;
+        private final Duration duration;
+
+        Report(int filterClasses, int plans, int shapes, Duration duration) {
+            this.filterClasses = filterClasses;
+            this.plans = plans;
+            this.shapes = shapes;
+            this.duration = duration;
+        }
+
+        /**
+         * @return The number of classes annotated with {@link SpecEntity} found.
+         */
+        public int getFilterClasses() {
+            return filterClasses;
+        }
+
+        /**
+         * @return The number of {@link SpecPlan} prepared, including the ones of the groups and periods.
+         */
+        public int getPlans() {
+            return plans;
+        }
+
+        /**
+         * @return The number of shapes of the filters whose Criteria queries were created.
+         */
+        public int getShapes() {
+            return shapes;
+        }
+
+        /**
+         * @return The time spent.
+         */
+        public Duration getDuration() {
+            return duration;
+        }
+
+        @Override
+        public String toString() {
+            return "SpecWarmup prepared " + filterClasses + " filter classes, " + plans + " plans and " + shapes
+                    + " shapes in " + duration.toMillis() + " ms";
+        }
+
+    }
+
+}
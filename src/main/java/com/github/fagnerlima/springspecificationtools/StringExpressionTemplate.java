@@ -0,0 +1,257 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+
+/**
+ * A parsed expression template, made of functions, string literals and the column {@code {x}}, e.g.
+ * {@code translate(lower({x}), 'á', 'a')}. The functions {@code lower} and {@code upper} are the ones of the
+ * CriteriaBuilder, and the others are called with {@code CriteriaBuilder.function}, or {@code function('name', ...)}
+ * in JPQL. The string literals are inlined in the SQL, so it matches the expression indexes created with the same
+ * template.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+final class StringExpressionTemplate {
+
+    private static final String COLUMN = "{x}";
+
+    private final String template;
+    private final Node root;
+
+    private StringExpressionTemplate(String template, Node root) {
+        this.template = template;
+        this.root = root;
+    }
+
+    /**
+     * Parse the {@code template}.
+     *
+     * @throws IllegalArgumentException if the template is invalid
+     */
+    static StringExpressionTemplate parse(String template) {
+        Parser parser = new Parser(template);
+        Node root = parser.parseNode();
+
+        parser.skipWhitespace();
+
+        if (parser.index != template.length()) {
+            throw parser.error();
+        }
+
+        return new StringExpressionTemplate(template, root);
+    }
+
+    Expression<String> apply(CriteriaBuilder criteriaBuilder, Expression<String> x) {
+        return root.apply(criteriaBuilder, x);
+    }
+
+    /**
+     * Render the template in JPQL.
+     *
+     * @param x the JPQL expression of the column
+     */
+    String toJpql(String x) {
+        return root.toJpql(x);
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private interface Node {
+
+        Expression<String> apply(CriteriaBuilder criteriaBuilder, Expression<String> x);
+
+        String toJpql(String x);
+
+    }
+
+    private static final class Column implements Node {
+
+        @Override
+        public Expression<String> apply(CriteriaBuilder criteriaBuilder, Expression<String> x) {
+            return x;
+        }
+
+        @Override
+        public String toJpql(String x) {
+            return x;
+        }
+
+    }
+
+    private static final class Literal implements Node {
+
+        private final String value;
+
+        Literal(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public Expression<String> apply(CriteriaBuilder criteriaBuilder, Expression<String> x) {
+            return SpecParameters.inline(criteriaBuilder, value);
+        }
+
+        @Override
+        public String toJpql(String x) {
+            return "'" + value.replace("'", "''") + "'";
+        }
+
+    }
+
+    private static final class Function implements Node {
+
+        private final String name;
+        private final List<Node> arguments;
+
+        Function(String name, List<Node> arguments) {
+            this.name = name;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public Expression<String> apply(CriteriaBuilder criteriaBuilder, Expression<String> x) {
+            if (isLower()) {
+                return criteriaBuilder.lower(arguments.get(0).apply(criteriaBuilder, x));
+            } else if (isUpper()) {
+                return criteriaBuilder.upper(arguments.get(0).apply(criteriaBuilder, x));
+            }
+
+            Expression<?>[] values = new Expression<?>[arguments.size()];
+
+            for (int i = 0; i < values.length; i++) {
+                values[i] = arguments.get(i).apply(criteriaBuilder, x);
+            }
+
+            return criteriaBuilder.function(name, String.class, values);
+        }
+
+        @Override
+        public String toJpql(String x) {
+            boolean standard = isLower() || isUpper();
+            StringJoiner joiner = new StringJoiner(", ", standard ? name + "(" : "function('" + name + "', ", ")");
+
+            for (Node argument : arguments) {
+                joiner.add(argument.toJpql(x));
+            }
+
+            return joiner.toString();
+        }
+
+        private boolean isLower() {
+            return arguments.size() == 1 && name.equalsIgnoreCase("lower");
+        }
+
+        private boolean isUpper() {
+            return arguments.size() == 1 && name.equalsIgnoreCase("upper");
+        }
+
+    }
+
+    private static final class Parser {
+
+        private final String template;
+        private int index;
+
+        Parser(String template) {
+            this.template = template;
+        }
+
+        Node parseNode() {
+            skipWhitespace();
+
+            if (template.startsWith(COLUMN, index)) {
+                index += COLUMN.length();
+
+                return new Column();
+            }
+
+            if (index < template.length() && template.charAt(index) == '\'') {
+                return new Literal(parseLiteral());
+            }
+
+            return parseFunction();
+        }
+
+        private String parseLiteral() {
+            StringBuilder literal = new StringBuilder();
+
+            for (index++; index < template.length(); index++) {
+                char c = template.charAt(index);
+
+                if (c == '\'') {
+                    if (index + 1 < template.length() && template.charAt(index + 1) == '\'') {
+                        literal.append(c);
+                        index++;
+                        continue;
+                    }
+
+                    index++;
+
+                    return literal.toString();
+                }
+
+                literal.append(c);
+            }
+
+            throw error();
+        }
+
+        private Node parseFunction() {
+            int start = index;
+
+            while (index < template.length() && (Character.isJavaIdentifierPart(template.charAt(index))
+                    || template.charAt(index) == '.')) {
+                index++;
+            }
+
+            String name = template.substring(start, index);
+            List<Node> arguments = new ArrayList<>();
+
+            skipWhitespace();
+
+            if (name.isEmpty() || !consume('(')) {
+                throw error();
+            }
+
+            do {
+                arguments.add(parseNode());
+                skipWhitespace();
+            } while (consume(','));
+
+            if (!consume(')')) {
+                throw error();
+            }
+
+            return new Function(name, arguments);
+        }
+
+        private boolean consume(char c) {
+            if (index < template.length() && template.charAt(index) == c) {
+                index++;
+                return true;
+            }
+
+            return false;
+        }
+
+        void skipWhitespace() {
+            while (index < template.length() && Character.isWhitespace(template.charAt(index))) {
+                index++;
+            }
+        }
+
+        IllegalArgumentException error() {
+            return new IllegalArgumentException("Invalid expression template at " + index + ": " + template);
+        }
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+
+/**
+ * Define how the strings are normalized by the operations that ignore case and accents, in the database (the
+ * expression of the column) and in Java (the value). The expression must be the same of the functional indexes,
+ * so they can be used by the database.
+ * @author Fagner Lima
+ * @since 0.4.0
+ * @see StringNormalizationDialects
+ */
+public interface StringNormalizationDialect {
+
+    /**
+     * Normalize the column for the {@code operation}.
+     *
+     * @param criteriaBuilder the CriteriaBuilder of the query
+     * @param x the column
+     * @param operation the operation
+     * @return the normalized column, or {@code x} if the operation doesn't normalize the strings
+     */
+    Expression<String> normalize(CriteriaBuilder criteriaBuilder, Expression<String> x, SpecOperation operation);
+
+    /**
+     * Normalize the value for the {@code operation}, matching {@link #normalize(CriteriaBuilder, Expression,
+     * SpecOperation)}.
+     *
+     * @param value the value
+     * @param operation the operation
+     * @return the normalized value, or {@code value} if the operation doesn't normalize the strings
+     */
+    String normalize(String value, SpecOperation operation);
+
+    /**
+     * Reverse the column, used by {@link SpecOperation#ENDS_WITH}.
+     *
+     * @param criteriaBuilder the CriteriaBuilder of the query
+     * @param x the column
+     * @return the reversed column, or {@code null} if the database can't reverse strings
+     */
+    Expression<String> reverse(CriteriaBuilder criteriaBuilder, Expression<String> x);
+
+    /**
+     * Normalize the column for the {@code operation} in JPQL, used by {@link SpecJpqlExecutor}.
+     *
+     * @param x the JPQL expression of the column
+     * @param operation the operation
+     * @return the normalized column, {@code x} if the operation doesn't normalize the strings, or {@code null} if
+     *         the dialect can't be written in JPQL
+     */
+    default String normalizeJpql(String x, SpecOperation operation) {
+        return null;
+    }
+
+    /**
+     * Reverse the column in JPQL, used by {@link SpecJpqlExecutor}.
+     *
+     * @param x the JPQL expression of the column
+     * @return the reversed column, or {@code null} to use a leading wildcard instead
+     */
+    default String reverseJpql(String x) {
+        return null;
+    }
+
+    /**
+     * PostgreSQL, with {@code lower(x)} and {@code unaccent(lower(x))}. Requires the unaccent extension.
+     *
+     * @return the dialect
+     */
+    static StringNormalizationDialect postgresql() {
+        return TemplateNormalizationDialect.POSTGRESQL;
+    }
+
+    /**
+     * H2, with {@code lower(x)} and {@code translate(lower(x), ...)} for the accents of the latin letters. H2 can't
+     * reverse strings, so {@link SpecOperation#ENDS_WITH} uses a leading wildcard.
+     *
+     * @return the dialect
+     */
+    static StringNormalizationDialect h2() {
+        return TemplateNormalizationDialect.H2;
+    }
+
+    /**
+     * Create a dialect from expression templates, made of functions, string literals and the column {@code {x}}
+     * (e.g. {@code lower(f_unaccent({x}))}). The values are normalized with the lower case, without the accents for
+     * the unaccent template, so the templates must produce the same.
+     *
+     * @param ignoreCaseTemplate the template of the operations that ignore case
+     * @param ignoreCaseUnaccentTemplate the template of the operations that ignore case and accents
+     * @param reverseTemplate the template of {@link SpecOperation#ENDS_WITH}, or {@code null} if not supported
+     * @return the dialect
+     * @throws IllegalArgumentException if a template is invalid
+     */
+    static StringNormalizationDialect of(String ignoreCaseTemplate, String ignoreCaseUnaccentTemplate,
+            String reverseTemplate) {
+        return new TemplateNormalizationDialect(ignoreCaseTemplate, ignoreCaseUnaccentTemplate, reverseTemplate,
+                TemplateNormalizationDialect::unaccent);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecField;
+
+/**
+ * Registry of the {@link StringNormalizationDialect} selected by name in {@link SpecEntity} and {@link SpecField}.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public final class StringNormalizationDialects {
+
+    public static final String POSTGRESQL = "postgresql";
+    public static final String H2 = "h2";
+
+    private static final Map<String, StringNormalizationDialect> DIALECTS = new ConcurrentHashMap<>();
+
+    static {
+        DIALECTS.put(POSTGRESQL, StringNormalizationDialect.postgresql());
+        DIALECTS.put(H2, StringNormalizationDialect.h2());
+    }
+
+    private StringNormalizationDialects() {
+    }
+
+    /**
+     * Register the {@code dialect} with the {@code name}, replacing the previous one.
+     *
+     * @param name the name of the dialect
+     * @param dialect the dialect
+     */
+    public static void register(String name, StringNormalizationDialect dialect) {
+        DIALECTS.put(name, dialect);
+    }
+
+    /**
+     * Get the dialect registered with the {@code name}.
+     *
+     * @param name the name of the dialect
+     * @return the dialect
+     * @throws IllegalArgumentException if there is no dialect with the {@code name}
+     */
+    public static StringNormalizationDialect get(String name) {
+        StringNormalizationDialect dialect = DIALECTS.get(name);
+
+        if (dialect == null) {
+            throw new IllegalArgumentException("No StringNormalizationDialect registered with the name " + name);
+        }
+
+        return dialect;
+    }
+
+}
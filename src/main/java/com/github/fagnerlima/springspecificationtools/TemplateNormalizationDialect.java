@@ -0,0 +1,122 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+
+import com.github.fagnerlima.springspecificationtools.util.StringUtils;
+
+/**
+ * {@link StringNormalizationDialect} defined by expression templates.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+final class TemplateNormalizationDialect implements StringNormalizationDialect {
+
+    private static final String H2_ACCENTS = "àáâãäåçèéêëìíîïñòóôõöùúûüýÿ";
+    private static final String H2_UNACCENTED = "aaaaaaceeeeiiiinooooouuuuyy";
+
+    static final TemplateNormalizationDialect POSTGRESQL = new TemplateNormalizationDialect(
+            "lower({x})", "unaccent(lower({x}))", "reverse({x})", TemplateNormalizationDialect::unaccent);
+
+    static final TemplateNormalizationDialect H2 = new TemplateNormalizationDialect(
+            "lower({x})", "translate(lower({x}), '" + H2_ACCENTS + "', '" + H2_UNACCENTED + "')", null,
+            TemplateNormalizationDialect::translate);
+
+    private final StringExpressionTemplate ignoreCaseTemplate;
+    private final StringExpressionTemplate ignoreCaseUnaccentTemplate;
+    private final StringExpressionTemplate reverseTemplate;
+    private final UnaryOperator<String> unaccent;
+
+    TemplateNormalizationDialect(String ignoreCaseTemplate, String ignoreCaseUnaccentTemplate,
+            String reverseTemplate, UnaryOperator<String> unaccent) {
+        this.ignoreCaseTemplate = StringExpressionTemplate.parse(ignoreCaseTemplate);
+        this.ignoreCaseUnaccentTemplate = StringExpressionTemplate.parse(ignoreCaseUnaccentTemplate);
+        this.reverseTemplate = reverseTemplate != null ? StringExpressionTemplate.parse(reverseTemplate) : null;
+        this.unaccent = unaccent;
+    }
+
+    @Override
+    public Expression<String> normalize(CriteriaBuilder criteriaBuilder, Expression<String> x,
+            SpecOperation operation) {
+        if (isIgnoreCaseUnaccent(operation)) {
+            return ignoreCaseUnaccentTemplate.apply(criteriaBuilder, x);
+        } else if (isIgnoreCase(operation)) {
+            return ignoreCaseTemplate.apply(criteriaBuilder, x);
+        }
+
+        return x;
+    }
+
+    @Override
+    public String normalize(String value, SpecOperation operation) {
+        if (isIgnoreCaseUnaccent(operation)) {
+            return unaccent.apply(value.toLowerCase(Locale.ROOT));
+        } else if (isIgnoreCase(operation)) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+
+        return value;
+    }
+
+    @Override
+    public Expression<String> reverse(CriteriaBuilder criteriaBuilder, Expression<String> x) {
+        return reverseTemplate != null ? reverseTemplate.apply(criteriaBuilder, x) : null;
+    }
+
+    @Override
+    public String normalizeJpql(String x, SpecOperation operation) {
+        if (isIgnoreCaseUnaccent(operation)) {
+            return ignoreCaseUnaccentTemplate.toJpql(x);
+        } else if (isIgnoreCase(operation)) {
+            return ignoreCaseTemplate.toJpql(x);
+        }
+
+        return x;
+    }
+
+    @Override
+    public String reverseJpql(String x) {
+        return reverseTemplate != null ? reverseTemplate.toJpql(x) : null;
+    }
+
+    @Override
+    public String toString() {
+        return "StringNormalizationDialect[" + ignoreCaseTemplate + ", " + ignoreCaseUnaccentTemplate + ", "
+                + reverseTemplate + "]";
+    }
+
+    static String unaccent(String value) {
+        return StringUtils.unaccent(value);
+    }
+
+    /**
+     * Same of the {@code translate} function of {@link #H2}.
+     */
+    static String translate(String value) {
+        StringBuilder translated = new StringBuilder(value.length());
+
+        for (int i = 0; i < value.length(); i++) {
+            int index = H2_ACCENTS.indexOf(value.charAt(i));
+
+            translated.append(index < 0 ? value.charAt(i) : H2_UNACCENTED.charAt(index));
+        }
+
+        return translated.toString();
+    }
+
+    private static boolean isIgnoreCase(SpecOperation operation) {
+        return operation == SpecOperation.EQUAL_IGNORE_CASE
+                || operation == SpecOperation.LIKE_IGNORE_CASE
+                || operation == SpecOperation.STARTS_WITH_IGNORE_CASE;
+    }
+
+    private static boolean isIgnoreCaseUnaccent(SpecOperation operation) {
+        return operation == SpecOperation.EQUAL_IGNORE_CASE_UNACCENT
+                || operation == SpecOperation.LIKE_IGNORE_CASE_UNACCENT
+                || operation == SpecOperation.STARTS_WITH_IGNORE_CASE_UNACCENT;
+    }
+
+}
@@ -7,6 +7,11 @@ import java.io.Serializable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
+import com.github.fagnerlima.springspecificationtools.SpecDistinct;
+import com.github.fagnerlima.springspecificationtools.SpecFactory;
+import com.github.fagnerlima.springspecificationtools.StringNormalizationDialect;
+import com.github.fagnerlima.springspecificationtools.StringNormalizationDialects;
+
 /**
  * Define the entity of the Specification.
  * @author Fagner Lima
@@ -21,4 +26,15 @@ public @interface SpecEntity {
      */
     public Class<? extends Serializable> value();
 
+    /**
+     * @return When the DISTINCT restriction is applied to the query.
+     */
+    public SpecDistinct distinct() default SpecDistinct.AUTO;
+
+    /**
+     * @return The name of the {@link StringNormalizationDialect} of the fields, registered in
+     *         {@link StringNormalizationDialects}. If empty, the default dialect of {@link SpecFactory}.
+     */
+    public String dialect() default "";
+
 }
@@ -0,0 +1,26 @@
+package com.github.fagnerlima.springspecificationtools.annotation;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.github.fagnerlima.springspecificationtools.SpecFetchPlan;
+
+/**
+ * Define the associations loaded with the entities of the filter, avoiding a query per entity when they are used.
+ * @author Fagner Lima
+ * @since 0.4.0
+ * @see SpecFetchPlan
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface SpecFetch {
+
+    /**
+     * @return The paths of the associations, e.g. {@code owner} or {@code tags.category}
+     */
+    public String[] value();
+
+}
@@ -7,6 +7,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
 import com.github.fagnerlima.springspecificationtools.SpecOperation;
+import com.github.fagnerlima.springspecificationtools.StringNormalizationDialect;
+import com.github.fagnerlima.springspecificationtools.StringNormalizationDialects;
 
 /**
  * Used for single conditions.
@@ -32,4 +34,10 @@ public @interface SpecField {
      */
     public boolean canBeNull() default false;
 
+    /**
+     * @return The name of the {@link StringNormalizationDialect} of the field, registered in
+     *         {@link StringNormalizationDialects}. If empty, the one of {@link SpecEntity}.
+     */
+    public String dialect() default "";
+
 }
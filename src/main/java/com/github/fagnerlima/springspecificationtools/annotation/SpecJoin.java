@@ -6,8 +6,12 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
+import javax.persistence.criteria.JoinType;
+
+import com.github.fagnerlima.springspecificationtools.SpecJoinStrategy;
+
 /**
- * Used for indicate a join query.
+ * Used for indicate a join query. The fields with the same path and join type share the same join.
  * @author Fagner Lima
  * @since 0.1.0
  */
@@ -15,4 +19,14 @@ import java.lang.annotation.Target;
 @Target(FIELD)
 public @interface SpecJoin {
 
+    /**
+     * @return The type of the join.
+     */
+    public JoinType type() default JoinType.INNER;
+
+    /**
+     * @return How the conditions of the join are applied to the query.
+     */
+    public SpecJoinStrategy strategy() default SpecJoinStrategy.JOIN;
+
 }
@@ -6,6 +6,8 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
+import com.github.fagnerlima.springspecificationtools.SpecPeriodOperation;
+
 /**
  * Used for a period of time.
  * @author Fagner Lima
@@ -25,4 +27,14 @@ public @interface SpecPeriod {
      */
     public String end();
 
+    /**
+     * @return How the period of the entity is compared with the period of the filter.
+     */
+    public SpecPeriodOperation operation() default SpecPeriodOperation.OVERLAPS;
+
+    /**
+     * @return If {@code true}, a {@code null} end date of the entity is an open-ended period.
+     */
+    public boolean openEnded() default false;
+
 }
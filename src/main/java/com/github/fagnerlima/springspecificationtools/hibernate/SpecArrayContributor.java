@@ -0,0 +1,210 @@
+package com.github.fagnerlima.springspecificationtools.hibernate;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.hibernate.QueryException;
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+import org.hibernate.usertype.UserType;
+
+import com.github.fagnerlima.springspecificationtools.SpecInStrategy;
+
+/**
+ * Contributor of the array parameters of {@link SpecInStrategy#array()} to Hibernate: the types of the arrays of
+ * {@code Long}, {@code Integer}, {@code Short}, {@code BigDecimal}, {@code String} and {@code UUID}, bound as JDBC
+ * arrays, and the function {@value #FUNCTION}, rendered as {@code x = any(?)} with PostgreSQL and as
+ * {@code array_contains(?, x)} with H2. Requires the optional dependency {@code org.hibernate:hibernate-core}, and
+ * is registered in the property {@code hibernate.metadata_builder_contributor}:
+ *
+ * <pre>
+ * spring.jpa.properties.hibernate.metadata_builder_contributor=\
+ *     com.github.fagnerlima.springspecificationtools.hibernate.SpecArrayContributor
+ * </pre>
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public class SpecArrayContributor implements MetadataBuilderContributor {
+
+    /** The name of the boolean function {@code function(x, array)} */
+    public static final String FUNCTION = "spec_in_array";
+
+    private static final Map<Class<?>, String> SQL_TYPES = new LinkedHashMap<>();
+
+    static {
+        SQL_TYPES.put(Long.class, "bigint");
+        SQL_TYPES.put(Integer.class, "integer");
+        SQL_TYPES.put(Short.class, "smallint");
+        SQL_TYPES.put(BigDecimal.class, "numeric");
+        SQL_TYPES.put(String.class, "varchar");
+        SQL_TYPES.put(UUID.class, "uuid");
+    }
+
+    @Override
+    public void contribute(MetadataBuilder metadataBuilder) {
+        SQL_TYPES.forEach((componentType, sqlType) -> {
+            Class<?> arrayClass = Array.newInstance(componentType, 0).getClass();
+            metadataBuilder.applyBasicType(new ArrayType(arrayClass, sqlType), arrayClass.getName());
+        });
+        metadataBuilder.applySqlFunction(FUNCTION, new ArrayFunction());
+    }
+
+    /**
+     * Check if the dialect supports the function {@value #FUNCTION}.
+     *
+     * @param dialect the dialect
+     * @return {@code true} if the dialect is H2 or PostgreSQL
+     */
+    public static boolean supports(Dialect dialect) {
+        return dialect instanceof H2Dialect || dialect instanceof PostgreSQL81Dialect;
+    }
+
+    /**
+     * Array of values bound with {@code Connection.createArrayOf}.
+     */
+    private static final class ArrayType implements UserType {
+
+        private final Class<?> arrayClass;
+        private final String sqlType;
+
+        ArrayType(Class<?> arrayClass, String sqlType) {
+            this.arrayClass = arrayClass;
+            this.sqlType = sqlType;
+        }
+
+        @Override
+        public int[] sqlTypes() {
+            return new int[] { Types.ARRAY };
+        }
+
+        @Override
+        public Class<?> returnedClass() {
+            return arrayClass;
+        }
+
+        @Override
+        public boolean equals(Object x, Object y) {
+            return Arrays.deepEquals(new Object[] { x }, new Object[] { y });
+        }
+
+        @Override
+        public int hashCode(Object x) {
+            return Arrays.deepHashCode(new Object[] { x });
+        }
+
+        @Override
+        public Object nullSafeGet(ResultSet resultSet, String[] names, SharedSessionContractImplementor session,
+                Object owner) throws SQLException {
+            java.sql.Array array = resultSet.getArray(names[0]);
+
+            if (array == null) {
+                return null;
+            }
+
+            Object[] values = (Object[]) array.getArray();
+            Object result = Array.newInstance(arrayClass.getComponentType(), values.length);
+            System.arraycopy(values, 0, result, 0, values.length);
+
+            return result;
+        }
+
+        @Override
+        public void nullSafeSet(PreparedStatement statement, Object value, int index,
+                SharedSessionContractImplementor session) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, Types.ARRAY);
+            } else {
+                statement.setArray(index, statement.getConnection().createArrayOf(sqlType, (Object[]) value));
+            }
+        }
+
+        @Override
+        public Object deepCopy(Object value) {
+            return value != null ? ((Object[]) value).clone() : null;
+        }
+
+        @Override
+        public boolean isMutable() {
+            return true;
+        }
+
+        @Override
+        public Serializable disassemble(Object value) {
+            return (Serializable) deepCopy(value);
+        }
+
+        @Override
+        public Object assemble(Serializable cached, Object owner) {
+            return deepCopy(cached);
+        }
+
+        @Override
+        public Object replace(Object original, Object target, Object owner) {
+            return deepCopy(original);
+        }
+
+    }
+
+    /**
+     * The function {@value #FUNCTION}, rendered with the syntax of the dialect.
+     */
+    private static final class ArrayFunction implements SQLFunction {
+
+        @Override
+        public boolean hasArguments() {
+            return true;
+        }
+
+        @Override
+        public boolean hasParenthesesIfNoArguments() {
+            return true;
+        }
+
+        @Override
+        public Type getReturnType(Type firstArgumentType, Mapping mapping) {
+            return StandardBasicTypes.BOOLEAN;
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public String render(Type firstArgumentType, List arguments, SessionFactoryImplementor factory) {
+            if (arguments.size() != 2) {
+                throw new QueryException("The function " + FUNCTION + " requires 2 arguments");
+            }
+
+            Dialect dialect = factory.getJdbcServices().getDialect();
+            String x = Objects.toString(arguments.get(0));
+            String array = Objects.toString(arguments.get(1));
+
+            if (dialect instanceof H2Dialect) {
+                return "array_contains(" + array + ", " + x + ")";
+            } else if (dialect instanceof PostgreSQL81Dialect) {
+                return "(" + x + " = any(" + array + "))";
+            }
+
+            throw new QueryException("The function " + FUNCTION + " isn't supported by " + dialect);
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.github.fagnerlima.springspecificationtools.micrometer;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.criteria.JoinType;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.github.fagnerlima.springspecificationtools.SpecListener;
+import com.github.fagnerlima.springspecificationtools.SpecListeners;
+import com.github.fagnerlima.springspecificationtools.SpecOperation;
+import com.github.fagnerlima.springspecificationtools.SpecSkipReason;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link SpecListener} that records the events as Micrometer meters. Requires the optional dependency
+ * {@code io.micrometer:micrometer-core}.
+ * <ul>
+ * <li>{@code spec.builder.add}: timer of {@code SpecBuilder.add}, tagged with the {@code filter};</li>
+ * <li>{@code spec.builder.build}: timer of {@code SpecBuilder.build};</li>
+ * <li>{@code spec.predicate}: timer of the predicates of the conditions, tagged with the {@code operation};</li>
+ * <li>{@code spec.to.predicate}: timer of the outermost {@code toPredicate};</li>
+ * <li>{@code spec.join}: counter of the joins created, tagged with the {@code attribute} and the {@code type};</li>
+ * <li>{@code spec.field.skipped}: counter of the skipped fields, tagged with the {@code field} and the
+ * {@code reason}.</li>
+ * </ul>
+ * @author Fagner Lima
+ * @since 0.4.0
+ * @see SpecListeners#register(SpecListener)
+ */
+public class MicrometerSpecListener implements SpecListener {
+
+    private final MeterRegistry registry;
+
+    public MicrometerSpecListener(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onAdd(Class<?> filterClass, long nanos) {
+        registry.timer("spec.builder.add", "filter", filterClass.getSimpleName())
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onBuild(Specification<?> spec, long nanos) {
+        registry.timer("spec.builder.build").record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onPredicate(SpecOperation operation, long nanos) {
+        registry.timer("spec.predicate", "operation", operation.name()).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onToPredicate(long nanos) {
+        registry.timer("spec.to.predicate").record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onJoin(String attribute, JoinType joinType) {
+        registry.counter("spec.join", "attribute", attribute, "type", joinType.name()).increment();
+    }
+
+    @Override
+    public void onFieldSkipped(Field field, SpecSkipReason reason, Exception exception) {
+        registry.counter("spec.field.skipped",
+                "field", field.getDeclaringClass().getSimpleName() + "." + field.getName(),
+                "reason", reason.name())
+                .increment();
+    }
+
+}
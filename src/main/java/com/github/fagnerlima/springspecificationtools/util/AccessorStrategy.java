@@ -0,0 +1,124 @@
+package com.github.fagnerlima.springspecificationtools.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * Strategies used for read the value of the fields.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public enum AccessorStrategy {
+
+    /**
+     * Generate a {@link Function} that calls the getter method directly, using {@link LambdaMetafactory}.
+     * Falls back to {@link #METHOD_HANDLE} when the getter cannot be linked from this library.
+     */
+    LAMBDA_METAFACTORY {
+        @Override
+        @SuppressWarnings("unchecked")
+        Function<Object, Object> create(Field field, Method getterMethod) throws ReflectiveOperationException {
+            if (getterMethod == null) {
+                return null;
+            }
+
+            if (!isLinkable(getterMethod)) {
+                return METHOD_HANDLE.create(field, getterMethod);
+            }
+
+            try {
+                MethodHandle handle = LOOKUP.unreflect(getterMethod);
+                CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        handle.type().wrap());
+
+                return (Function<Object, Object>) callSite.getTarget().invokeExact();
+            } catch (Throwable throwable) {
+                return METHOD_HANDLE.create(field, getterMethod);
+            }
+        }
+    },
+
+    /**
+     * Call the getter method through a {@link MethodHandle}.
+     */
+    METHOD_HANDLE {
+        @Override
+        Function<Object, Object> create(Field field, Method getterMethod) throws ReflectiveOperationException {
+            if (getterMethod == null) {
+                return null;
+            }
+
+            getterMethod.setAccessible(true);
+
+            return toFunction(LOOKUP.unreflect(getterMethod));
+        }
+    },
+
+    /**
+     * Read the field directly, without the getter method.
+     */
+    FIELD {
+        @Override
+        Function<Object, Object> create(Field field, Method getterMethod) throws ReflectiveOperationException {
+            field.setAccessible(true);
+
+            return toFunction(LOOKUP.unreflectGetter(field));
+        }
+    };
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Create the accessor of {@code field}.
+     *
+     * @param field the field
+     * @param getterMethod the getter method of the field, or {@code null} if not found
+     * @return the accessor, or {@code null} if the field cannot be read by this strategy
+     * @throws ReflectiveOperationException if the accessor cannot be created
+     */
+    abstract Function<Object, Object> create(Field field, Method getterMethod) throws ReflectiveOperationException;
+
+    private static Function<Object, Object> toFunction(MethodHandle handle) {
+        MethodHandle accessor = handle.asType(ACCESSOR_TYPE);
+
+        return target -> {
+            try {
+                return (Object) accessor.invokeExact(target);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        };
+    }
+
+    /**
+     * The generated class is defined in the class loader of this library, so the getter must be public and
+     * visible from there (it's not the case, for example, with classes loaded by a restart class loader).
+     */
+    private static boolean isLinkable(Method getterMethod) {
+        Class<?> type = getterMethod.getDeclaringClass();
+
+        if (!Modifier.isPublic(type.getModifiers()) || !Modifier.isPublic(getterMethod.getModifiers())) {
+            return false;
+        }
+
+        try {
+            return Class.forName(type.getName(), false, AccessorStrategy.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError exception) {
+            return false;
+        }
+    }
+
+}
@@ -24,9 +24,23 @@ public class DateUtils {
      *
      * @param dateTime the local date-time source.
      * @return the local date-time of midnight at the end of this date, not null.
+     * @deprecated misses the instants after 23:59:59, use {@link #atStartOfNextDay(LocalDateTime)} as an exclusive
+     *             bound instead.
      */
+    @Deprecated
     public static LocalDateTime atEndOfDay(LocalDateTime dateTime) {
         return dateTime.toLocalDate().atTime(23, 59, 59);
     }
 
+    /**
+     * Create a {@code LocalDateTime} at the start of the day after this date-time, the exclusive end of its day.
+     *
+     * @param dateTime the local date-time source.
+     * @return the local date-time of midnight at the start of the next day, not null.
+     * @since 0.4.0
+     */
+    public static LocalDateTime atStartOfNextDay(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().plusDays(1).atStartOfDay();
+    }
+
 }
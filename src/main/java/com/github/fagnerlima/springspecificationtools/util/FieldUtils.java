@@ -5,9 +5,12 @@ import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
 
 /**
  * Utils for Fields with Reflection
@@ -16,6 +19,8 @@ import java.util.List;
  */
 public class FieldUtils {
 
+    private static volatile AccessorStrategy accessorStrategy = AccessorStrategy.LAMBDA_METAFACTORY;
+
     /**
      * Get all fields from {@code type}, including all fields from your superclass.
      *
@@ -75,4 +80,78 @@ public class FieldUtils {
         return propertyDescriptor.getWriteMethod();
     }
 
+    /**
+     * Check if the {@code field} holds a value of the instances, i.e. it's not static nor synthetic.
+     *
+     * @param field the field
+     * @return {@code true} if the field is readable
+     */
+    public static boolean isReadable(Field field) {
+        return !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic();
+    }
+
+    /**
+     * Get the public getter method ({@code isName} or {@code getName}) of the {@code field} from {@code type},
+     * without the introspection exceptions.
+     *
+     * @param field the field
+     * @param type class type
+     * @return the getter method, or {@code null} if not found
+     */
+    public static Method findReadMethod(Field field, Class<?> type) {
+        String name = field.getName();
+        String capitalizedName = name.substring(0, 1).toUpperCase(Locale.ENGLISH) + name.substring(1);
+
+        for (String methodName : new String[] { "is" + capitalizedName, "get" + capitalizedName }) {
+            try {
+                Method method = type.getMethod(methodName);
+
+                if (!Modifier.isStatic(method.getModifiers()) && !method.getReturnType().equals(void.class)) {
+                    return method;
+                }
+            } catch (NoSuchMethodException exception) {
+                // try the next name
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Get an accessor that reads the value of the {@code field} from instances of {@code type}, using the
+     * current {@link AccessorStrategy}.
+     *
+     * @param field the field
+     * @param type class type
+     * @return the accessor, or {@code null} if the field is not readable
+     */
+    public static Function<Object, Object> getAccessor(Field field, Class<?> type) {
+        if (!isReadable(field)) {
+            return null;
+        }
+
+        try {
+            return accessorStrategy.create(field, findReadMethod(field, type));
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * @return The strategy used by {@link #getAccessor(Field, Class)}.
+     */
+    public static AccessorStrategy getAccessorStrategy() {
+        return accessorStrategy;
+    }
+
+    /**
+     * Define the strategy used by {@link #getAccessor(Field, Class)}. The accessors are cached with the filter
+     * plans, so it should be defined before the first filter is used.
+     *
+     * @param accessorStrategy the accessor strategy
+     */
+    public static void setAccessorStrategy(AccessorStrategy accessorStrategy) {
+        FieldUtils.accessorStrategy = accessorStrategy;
+    }
+
 }
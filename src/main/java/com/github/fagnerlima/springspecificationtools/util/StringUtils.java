@@ -7,6 +7,9 @@ package com.github.fagnerlima.springspecificationtools.util;
  */
 public class StringUtils {
 
+    /** The escape character of the LIKE patterns */
+    public static final char LIKE_ESCAPE_CHAR = '\\';
+
     /**
      * Remove accents from {@code str}.
      *
@@ -44,4 +47,32 @@ public class StringUtils {
         return org.apache.commons.lang3.StringUtils.isBlank(str);
     }
 
+    /**
+     * Escape the wildcards of the LIKE patterns ({@code %} and {@code _}) and the escape character in {@code str},
+     * using {@link #LIKE_ESCAPE_CHAR}.
+     *
+     * <pre>
+     * StringUtils.escapeLike("50%")   = "50\\%"
+     * StringUtils.escapeLike("a_b")   = "a\\_b"
+     * </pre>
+     *
+     * @param str string to be escaped
+     * @return string with the wildcards escaped
+     */
+    public static String escapeLike(String str) {
+        StringBuilder escaped = new StringBuilder(str.length());
+
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE_CHAR) {
+                escaped.append(LIKE_ESCAPE_CHAR);
+            }
+
+            escaped.append(c);
+        }
+
+        return escaped.toString();
+    }
+
 }
@@ -0,0 +1,108 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+import com.github.fagnerlima.springspecificationtools.filter.TaskFilter;
+
+class SpecBindingTest {
+
+    private static final int FILTERS = 5;
+
+    @AfterEach
+    void resetDefaultBinding() {
+        SpecFactory.setDefaultBinding(SpecBinding.PARAMETER);
+    }
+
+    @Test
+    void parameterBindingSharesTheSqlOfTheSameFilterShape() {
+        SpecFactory.setDefaultBinding(SpecBinding.PARAMETER);
+
+        assertEquals(1, countSqls());
+    }
+
+    @Test
+    void literalBindingInlinesTheNumericValues() {
+        SpecFactory.setDefaultBinding(SpecBinding.LITERAL);
+
+        assertEquals(FILTERS, countSqls());
+    }
+
+    @Test
+    void parameterBindingConvertsTheNumericValuesToTheTypeOfTheProperty() {
+        Specification<Task> spec = new SpecFactory<Task>().create("amount", SpecOperation.GREATER_THAN_OR_EQUAL, 90);
+        List<Long> expected = TestDatabase.findTasks().stream()
+                .filter(task -> task.getAmount() >= 90)
+                .map(Task::getId)
+                .collect(Collectors.toList());
+
+        assertEquals(expected, findIds(spec));
+    }
+
+    @Test
+    void parameterBindingKeepsTheFractionalValuesComparedWithIntegralProperties() {
+        BigDecimal value = new BigDecimal("2.5");
+
+        assertSameMatches(SpecOperation.LESS_THAN, value, task -> task.getPriority() < 2.5);
+        assertSameMatches(SpecOperation.EQUAL, value, task -> false);
+        assertSameMatches(SpecOperation.GREATER_THAN_OR_EQUAL, value, task -> task.getPriority() >= 2.5);
+        assertSameMatches(SpecOperation.GREATER_THAN, 1.5D, task -> task.getPriority() > 1.5);
+        assertSameMatches(SpecOperation.EQUAL, new BigDecimal("2.0"), task -> task.getPriority() == 2);
+    }
+
+    private static void assertSameMatches(SpecOperation operation, Number value, Predicate<Task> predicate) {
+        Specification<Task> spec = new SpecFactory<Task>().create("priority", operation, value);
+        List<Long> expected = TestDatabase.findTasks().stream()
+                .filter(predicate)
+                .map(Task::getId)
+                .collect(Collectors.toList());
+
+        assertEquals(expected, findIds(spec), operation + " " + value);
+    }
+
+    /**
+     * Find the tasks with filters of the same shape and different values, and count the distinct statements.
+     */
+    private static int countSqls() {
+        Set<String> sqls = new HashSet<>();
+
+        for (long i = 0; i < FILTERS; i++) {
+            TaskFilter filter = new TaskFilter();
+            filter.setStatus(Task.Status.values()[(int) i % Task.Status.values().length]);
+            filter.setMinAmount(i);
+            filter.setMaxAmount(i + 50);
+
+            List<Long> expected = TestDatabase.findTasks().stream()
+                    .filter(task -> task.getStatus() == filter.getStatus()
+                            && task.getAmount() >= filter.getMinAmount()
+                            && task.getAmount() <= filter.getMaxAmount())
+                    .map(Task::getId)
+                    .collect(Collectors.toList());
+
+            SqlRecorder.clear();
+
+            assertEquals(expected, findIds(new SpecBuilder<Task>().add(filter).build()));
+            sqls.addAll(SqlRecorder.getStatements());
+        }
+
+        return sqls.size();
+    }
+
+    private static List<Long> findIds(Specification<Task> spec) {
+        return TestDatabase.apply(entityManager -> TestDatabase.findAll(entityManager, Task.class, spec)).stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+
+class SpecCompositeTest {
+
+    @Test
+    void combinesTenThousandOrBranchesInOneFlatPredicate() {
+        int branches = 10_000;
+        SpecBuilder<Task> builder = createBuilder(branches);
+        SpecComposite<Task> spec = (SpecComposite<Task>) builder.build(SpecOperator.OR);
+
+        assertEquals(branches, spec.getSpecs().size());
+        assertNotNull(builder.fingerprint(SpecOperator.OR));
+
+        Predicate predicate = TestDatabase.apply(entityManager -> {
+            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+            CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+            Root<Task> root = query.from(Task.class);
+
+            return spec.toPredicate(root, query, criteriaBuilder);
+        });
+
+        assertEquals(branches, predicate.getExpressions().size());
+    }
+
+    /**
+     * Hibernate 5 parses the JPQL of the Criteria queries, and its tree walker recurses once for each operand of
+     * an OR, so the query is run with fewer branches.
+     */
+    @Test
+    void findsTheEntitiesOfAThousandOrBranches() {
+        Specification<Task> spec = createBuilder(1000).build(SpecOperator.OR);
+
+        List<Long> ids = TestDatabase.apply(entityManager -> TestDatabase.findAll(entityManager, Task.class, spec))
+                .stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+
+        assertEquals(LongStream.rangeClosed(1, TestDatabase.TASKS).boxed().collect(Collectors.toList()), ids);
+    }
+
+    /**
+     * Create a builder with the branches {@code id = ? AND description = ?}, that the simplifier can't merge.
+     */
+    private static SpecBuilder<Task> createBuilder(int branches) {
+        SpecBuilder<Task> builder = new SpecBuilder<Task>().distinct(SpecDistinct.NEVER);
+        SpecFactory<Task> factory = new SpecFactory<>();
+
+        for (long id = 1; id <= branches; id++) {
+            builder.add(new SpecComposite<>(SpecOperator.AND, Arrays.asList(
+                    factory.create("id", SpecOperation.EQUAL, id),
+                    factory.create("description", SpecOperation.EQUAL, "Task " + (id - 1)))));
+        }
+
+        return builder;
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.persistence.criteria.JoinType;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.github.fagnerlima.springspecificationtools.domain.Tag;
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+import com.github.fagnerlima.springspecificationtools.filter.SplitTagTaskFilter;
+import com.github.fagnerlima.springspecificationtools.filter.TaskFilter;
+
+class SpecFetchTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Test
+    void loadsTheAssociationsLazilyWithoutAFetchPlan() {
+        SpecBuilder<Task> builder = new SpecBuilder<Task>().add(filter());
+
+        assertTrue(countStatements(builder) > 1 + PAGE_SIZE);
+    }
+
+    @Test
+    void loadsTheFetchPlanInOneStatement() {
+        SpecBuilder<Task> builder = new SpecBuilder<Task>().add(filter()).fetch("category", "tags");
+
+        assertEquals(1, countStatements(builder));
+    }
+
+    @Test
+    void loadsThePagesWithCollectionsByTheIds() {
+        SpecBuilder<Task> builder = new SpecBuilder<Task>().add(filter()).fetch("category", "tags");
+
+        // the ids of the page, the entities of the ids and the count
+        assertEquals(3, countPageStatements(builder));
+    }
+
+    @Test
+    void loadsThePagesWithToOneAssociationsInOneStatement() {
+        SpecBuilder<Task> builder = new SpecBuilder<Task>().add(filter()).fetch("category");
+
+        // the page and the count
+        assertEquals(2, countPageStatements(builder));
+    }
+
+    @Test
+    void filtersByAJoinOfACollectionWithoutReusingItsFetchJoin() {
+        SplitTagTaskFilter filter = new SplitTagTaskFilter();
+        filter.setLeftTagIds(Collections.singletonList(1L));
+
+        Specification<Task> fetchTags = (root, query, criteriaBuilder) -> {
+            SpecUtils.getFetch(root, "tags", JoinType.LEFT);
+            query.distinct(true);
+
+            return null;
+        };
+        Map<Long, Set<Long>> expected = TestDatabase.findTasks().stream()
+                .filter(task -> task.getTags().stream().anyMatch(tag -> tag.getId().equals(1L)))
+                .collect(Collectors.toMap(Task::getId, SpecFetchTest::getTagIds));
+        Map<Long, Set<Long>> tagIds = TestDatabase.apply(entityManager -> TestDatabase.findAll(entityManager,
+                Task.class, fetchTags.and(new SpecBuilder<Task>().add(filter).build())).stream()
+                .collect(Collectors.toMap(Task::getId, SpecFetchTest::getTagIds)));
+
+        assertEquals(expected, tagIds);
+    }
+
+    private static TaskFilter filter() {
+        TaskFilter filter = new TaskFilter();
+        filter.setMinAmount(20L);
+
+        return filter;
+    }
+
+    /**
+     * Find the tasks with the fetch plan of the builder, read their associations, and count the statements.
+     */
+    private static int countStatements(SpecBuilder<Task> builder) {
+        return TestDatabase.apply(entityManager -> {
+            SqlRecorder.clear();
+
+            List<Task> tasks = new SpecFetchExecutor<>(entityManager, Task.class)
+                    .findAll(builder.build(), builder.getFetchPlan());
+
+            assertTrue(tasks.size() > PAGE_SIZE);
+            tasks.forEach(SpecFetchTest::readAssociations);
+
+            return SqlRecorder.getStatements().size();
+        });
+    }
+
+    private static int countPageStatements(SpecBuilder<Task> builder) {
+        return TestDatabase.apply(entityManager -> {
+            SqlRecorder.clear();
+
+            Page<Task> page = new SpecFetchExecutor<>(entityManager, Task.class)
+                    .findAll(builder.build(), builder.getFetchPlan(), PageRequest.of(1, PAGE_SIZE, Sort.by("id")));
+
+            assertEquals(PAGE_SIZE, page.getNumberOfElements());
+            page.forEach(task -> {
+                if (builder.getFetchPlan().getToManyPaths(Task.class).isEmpty()) {
+                    readCategory(task);
+                } else {
+                    readAssociations(task);
+                }
+            });
+
+            return SqlRecorder.getStatements().size();
+        });
+    }
+
+    private static Set<Long> getTagIds(Task task) {
+        return task.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
+    }
+
+    private static void readAssociations(Task task) {
+        readCategory(task);
+        task.getTags().forEach(Tag::getDescription);
+    }
+
+    private static void readCategory(Task task) {
+        if (task.getCategory() != null) {
+            Objects.requireNonNull(task.getCategory().getDescription());
+        }
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.fagnerlima.springspecificationtools.domain.Period;
+import com.github.fagnerlima.springspecificationtools.domain.Tag;
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+import com.github.fagnerlima.springspecificationtools.filter.CategoryOrDescriptionFilter;
+import com.github.fagnerlima.springspecificationtools.filter.GroupTaskFilter;
+import com.github.fagnerlima.springspecificationtools.filter.NumberTaskFilter;
+import com.github.fagnerlima.springspecificationtools.filter.PeriodFilter;
+import com.github.fagnerlima.springspecificationtools.filter.PeriodTaskFilter;
+import com.github.fagnerlima.springspecificationtools.filter.SplitTagTaskFilter;
+import com.github.fagnerlima.springspecificationtools.filter.TaskFilter;
+
+class SpecFilterIndexTest {
+
+    private static final int FILTERS = 500;
+
+    @Test
+    void matchesTheConditionsOfAJoinAndOfAnExistsSubquery() {
+        SplitTagTaskFilter filter = new SplitTagTaskFilter();
+        filter.setMinTagId(5L);
+        filter.setMaxExistsTagId(3L);
+
+        SpecFilterIndex<Integer, Task> index = new SpecFilterIndex<>();
+        index.add(1, filter);
+
+        assertEquals(Collections.singleton(1), index.match(createTask(6L, 2L)));
+        assertSameMatches(Collections.singletonList(filter), createTasks());
+    }
+
+    @Test
+    void matchesTheValuesOfAnInnerAndOfALeftJoin() {
+        SplitTagTaskFilter filter = new SplitTagTaskFilter();
+        filter.setTagIds(Arrays.asList(5L, 6L));
+        filter.setLeftTagIds(Arrays.asList(1L, 2L));
+
+        SpecFilterIndex<Integer, Task> index = new SpecFilterIndex<>();
+        index.add(1, filter);
+
+        assertEquals(Collections.singleton(1), index.match(createTask(6L, 2L)));
+        assertSameMatches(Collections.singletonList(filter), createTasks());
+    }
+
+    @Test
+    void matchesTheFractionalBoundsOfTheRanges() {
+        NumberTaskFilter filter = new NumberTaskFilter();
+        filter.setPriorityToAmount(new BigDecimal("2.5"));
+
+        assertSameMatches(Collections.singletonList(filter), createTasks());
+    }
+
+    @Test
+    void matchesLikeTheFullScanOfThePredicates() {
+        Random random = new Random(FILTERS);
+        List<Object> filters = new ArrayList<>(FILTERS);
+
+        for (int i = 0; i < FILTERS; i++) {
+            filters.add(createFilter(i, random));
+        }
+
+        assertSameMatches(filters, createTasks());
+    }
+
+    /**
+     * Assert that the index matches the same filters of the full scan of their predicates, for all of the tasks.
+     */
+    private static void assertSameMatches(List<Object> filters, List<Task> tasks) {
+        SpecFilterIndex<Integer, Task> index = new SpecFilterIndex<>();
+        List<Predicate<Task>> predicates = new ArrayList<>(filters.size());
+
+        for (int id = 0; id < filters.size(); id++) {
+            index.add(id, filters.get(id));
+            predicates.add(SpecPredicates.compile(filters.get(id)));
+        }
+
+        boolean matched = false;
+
+        for (Task task : tasks) {
+            Set<Integer> scanned = new HashSet<>();
+
+            for (int id = 0; id < predicates.size(); id++) {
+                if (predicates.get(id).test(task)) {
+                    scanned.add(id);
+                }
+            }
+
+            assertEquals(scanned, index.match(task), task.getDescription());
+            matched |= !scanned.isEmpty();
+        }
+
+        assertTrue(matched);
+    }
+
+    private static Object createFilter(int id, Random random) {
+        switch (id % 4) {
+            case 0:
+                TaskFilter flat = new TaskFilter();
+                flat.setMinAmount(random.nextBoolean() ? (long) random.nextInt(100) : null);
+                flat.setMaxAmount(random.nextBoolean() ? (long) random.nextInt(100) : null);
+                flat.setStatus(random.nextBoolean() ? randomStatus(random) : null);
+                flat.setIds(random.nextBoolean() ? randomIds(random, TestDatabase.TASKS) : null);
+
+                return flat;
+            case 1:
+                SplitTagTaskFilter tags = new SplitTagTaskFilter();
+                tags.setMinTagId(random.nextBoolean() ? 1L + random.nextInt(TestDatabase.TAGS) : null);
+                tags.setMaxExistsTagId(random.nextBoolean() ? 1L + random.nextInt(TestDatabase.TAGS) : null);
+                tags.setTagIds(random.nextBoolean() ? randomIds(random, TestDatabase.TAGS) : null);
+                tags.setLeftTagIds(random.nextBoolean() ? randomIds(random, TestDatabase.TAGS) : null);
+
+                return tags;
+            case 2:
+                PeriodFilter period = new PeriodFilter();
+                period.setStartDate(TestDatabase.START_DATE.plusDays(random.nextInt(TestDatabase.TASKS)));
+                period.setEndDate(period.getStartDate().plusDays(random.nextInt(7)));
+
+                PeriodTaskFilter periodTask = new PeriodTaskFilter();
+                periodTask.setPeriod(period);
+
+                return periodTask;
+            default:
+                CategoryOrDescriptionFilter categoryOrDescription = new CategoryOrDescriptionFilter();
+                categoryOrDescription.setCategoryDescription("Tag " + random.nextInt(TestDatabase.TAGS));
+                categoryOrDescription.setDescription("task " + random.nextInt(10));
+
+                GroupTaskFilter group = new GroupTaskFilter();
+                group.setStatus(random.nextBoolean() ? randomStatus(random) : null);
+                group.setCategoryOrDescription(categoryOrDescription);
+
+                return group;
+        }
+    }
+
+    private static Task.Status randomStatus(Random random) {
+        return Task.Status.values()[random.nextInt(Task.Status.values().length)];
+    }
+
+    private static List<Long> randomIds(Random random, int size) {
+        List<Long> ids = new ArrayList<>();
+        int count = 1 + random.nextInt(3);
+
+        for (int i = 0; i < count; i++) {
+            ids.add(1L + random.nextInt(size));
+        }
+
+        return ids;
+    }
+
+    /**
+     * Create the tasks of the database, and detached tasks with tags of both ends of the ids, which the database
+     * doesn't combine.
+     */
+    private static List<Task> createTasks() {
+        List<Task> tasks = new ArrayList<>(TestDatabase.findTasks());
+        tasks.add(createTask(6L, 2L));
+        tasks.add(createTask(5L, 1L));
+        tasks.add(createTask(5L, 3L, 6L));
+
+        return tasks;
+    }
+
+    private static Task createTask(Long... tagIds) {
+        List<Long> ids = Arrays.asList(tagIds);
+        Set<Tag> tags = TestDatabase.findTasks().stream()
+                .flatMap(task -> task.getTags().stream())
+                .filter(tag -> ids.contains(tag.getId()))
+                .collect(Collectors.toCollection(HashSet::new));
+        Task task = new Task(new Period(TestDatabase.START_DATE, TestDatabase.START_DATE), "Task with tags " + ids,
+                Task.Status.OPEN, 0L, tags);
+        task.setPriority(0);
+
+        return task;
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+import com.github.fagnerlima.springspecificationtools.filter.TaskFilter;
+
+class SpecInStrategyTest {
+
+    @AfterEach
+    void resetInStrategy() {
+        SpecFactory.setInStrategy(SpecInStrategy.expand());
+    }
+
+    @Test
+    void expandBindsTheValuesOfTheSameSizeInTheSameSql() {
+        SpecFactory.setInStrategy(SpecInStrategy.expand());
+
+        assertEquals(1, countSqls(3, 3));
+    }
+
+    @Test
+    void paddingSharesTheSqlOfTheSizesUpToTheSamePowerOfTwo() {
+        SpecFactory.setInStrategy(SpecInStrategy.padding());
+
+        assertEquals(1, countSqls(5, 8));
+        assertEquals(2, countSqls(3, 8));
+    }
+
+    @Test
+    void chunkingSplitsAndPadsTheValues() {
+        SpecFactory.setInStrategy(SpecInStrategy.chunking(4));
+
+        assertEquals(1, countSqls(11, 12));
+        assertEquals(3, countSqls(9, 12));
+    }
+
+    @Test
+    void arrayBindsTheValuesOfAllOfTheSizesInTheSameSql() {
+        SpecFactory.setInStrategy(SpecInStrategy.array());
+
+        assertEquals(1, countSqls(1, 20));
+        assertTrue(SqlRecorder.getStatements().stream().allMatch(sql -> sql.contains("array_contains")));
+    }
+
+    @Test
+    void keepsTheFractionalValuesComparedWithIntegralProperties() {
+        List<SpecInStrategy> strategies = Arrays.asList(SpecInStrategy.expand(), SpecInStrategy.padding(),
+                SpecInStrategy.chunking(1), SpecInStrategy.array());
+        List<Long> expected = TestDatabase.findTasks().stream()
+                .filter(task -> task.getPriority() == 3)
+                .map(Task::getId)
+                .collect(Collectors.toList());
+
+        for (SpecInStrategy strategy : strategies) {
+            SpecFactory.setInStrategy(strategy);
+
+            assertEquals(Collections.emptyList(), findIds(Collections.singletonList(new BigDecimal("2.5"))));
+            assertEquals(expected, findIds(Arrays.asList(new BigDecimal("2.5"), 3L, 3.5D)));
+        }
+    }
+
+    /**
+     * Find the tasks by collections of ids of sizes between {@code minSize} and {@code maxSize}, with different
+     * values for each size, and count the distinct statements.
+     */
+    private static int countSqls(int minSize, int maxSize) {
+        Set<String> sqls = new HashSet<>();
+
+        for (int size = minSize; size <= maxSize; size++) {
+            for (long first = 1; first <= 3; first++) {
+                List<Long> ids = new ArrayList<>();
+
+                for (long id = first; id < first + size; id++) {
+                    ids.add(id);
+                }
+
+                TaskFilter filter = new TaskFilter();
+                filter.setIds(ids);
+
+                SqlRecorder.clear();
+
+                List<Long> found = TestDatabase.apply(entityManager -> TestDatabase.findAll(entityManager,
+                        Task.class, new SpecBuilder<Task>().add(filter).build())).stream()
+                        .map(Task::getId)
+                        .collect(Collectors.toList());
+
+                assertEquals(ids, found);
+                sqls.addAll(SqlRecorder.getStatements());
+            }
+        }
+
+        return sqls.size();
+    }
+
+    private static List<Long> findIds(List<Number> priorities) {
+        Specification<Task> spec = new SpecFactory<Task>().create("priority", priorities);
+
+        return TestDatabase.apply(entityManager -> TestDatabase.findAll(entityManager, Task.class, spec)).stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+import com.github.fagnerlima.springspecificationtools.filter.TagTaskFilter;
+
+class SpecJoinTest {
+
+    private static final Pattern TAG_JOIN = Pattern.compile("join tag ", Pattern.CASE_INSENSITIVE);
+
+    @Test
+    void reusesTheJoinOfTheFieldsWithTheSamePath() {
+        TagTaskFilter filter = new TagTaskFilter();
+        filter.setTagId(Arrays.asList(1L, 2L, 3L));
+        filter.setTagDescription("tag 2");
+
+        List<Long> expected = TestDatabase.findTasks().stream()
+                .filter(task -> task.getTags().stream().anyMatch(tag -> tag.getId() <= 3
+                        && tag.getDescription().toLowerCase().contains("tag 2")))
+                .map(Task::getId)
+                .collect(Collectors.toList());
+
+        assertFalse(expected.isEmpty());
+
+        SqlRecorder.clear();
+
+        List<Long> ids = TestDatabase.apply(entityManager -> TestDatabase.findAll(entityManager, Task.class,
+                new SpecBuilder<Task>().add(filter).build())).stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+
+        assertEquals(expected, ids);
+        assertEquals(1, SqlRecorder.getStatements().size());
+        assertEquals(1, count(TAG_JOIN, SqlRecorder.getStatements().get(0)));
+    }
+
+    private static int count(Pattern pattern, String sql) {
+        Matcher matcher = pattern.matcher(sql);
+        int count = 0;
+
+        while (matcher.find()) {
+            count++;
+        }
+
+        return count;
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+import com.github.fagnerlima.springspecificationtools.filter.NumberTaskFilter;
+import com.github.fagnerlima.springspecificationtools.filter.TagTaskFilter;
+import com.github.fagnerlima.springspecificationtools.filter.TaskFilter;
+
+class SpecJpqlExecutorTest {
+
+    private static final List<Sort> SORTS = Arrays.asList(
+            Sort.unsorted(),
+            Sort.by(Sort.Order.desc("amount"), Sort.Order.asc("id")),
+            Sort.by(Sort.Order.asc("description").ignoreCase(), Sort.Order.asc("id")),
+            Sort.by(Sort.Order.asc("category.description"), Sort.Order.desc("id")),
+            Sort.by(Sort.Order.asc("period.startDate"), Sort.Order.asc("id")));
+
+    @Test
+    void convertsTheValuesToTheTypesOfTheProperties() {
+        NumberTaskFilter filter = new NumberTaskFilter();
+        filter.setIds(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20));
+        filter.setMinAmount(20);
+        filter.setPriorityToAmount(BigDecimal.valueOf(2));
+
+        assertNotNull(TestDatabase.apply(entityManager -> new SpecJpqlExecutor<>(entityManager, Task.class)
+                .toJpql(filter)));
+        assertSameResults(filter);
+    }
+
+    @Test
+    void sortsTheDistinctResultsByAnyExpression() {
+        TagTaskFilter filter = new TagTaskFilter();
+        filter.setTagId(Arrays.asList(1L, 2L, 3L));
+
+        assertSameResults(filter);
+    }
+
+    @Test
+    void keepsTheRowsWithoutTheAssociationsOfTheSort() {
+        TaskFilter filter = new TaskFilter();
+        filter.setMinAmount(10L);
+
+        long expected = TestDatabase.findTasks().stream().filter(task -> task.getAmount() >= 10).count();
+        List<Task> tasks = TestDatabase.apply(entityManager -> new SpecJpqlExecutor<>(entityManager, Task.class)
+                .findAll(filter, Sort.by("category.description")));
+
+        assertEquals(expected, tasks.size());
+        assertSameResults(filter);
+    }
+
+    /**
+     * Assert that the JPQL queries return the same pages of the Criteria queries of {@link SpecBuilder}, with all
+     * of the sorts. The sorted Criteria queries select the matched ids, since a DISTINCT Criteria query can't be
+     * sorted by a join.
+     */
+    private static void assertSameResults(Object filter) {
+        TestDatabase.apply(entityManager -> {
+            SpecJpqlExecutor<Task> jpql = new SpecJpqlExecutor<>(entityManager, Task.class);
+            SpecExecutor<Task> criteria = new SpecExecutor<>(new SimpleJpaRepository<>(Task.class, entityManager));
+            TaskFilter matched = new TaskFilter();
+            matched.setIds(ids(criteria.findAll(new SpecBuilder<Task>().add(filter).build())));
+
+            for (Sort sort : SORTS) {
+                List<Long> expected = ids(criteria.findAll(new SpecBuilder<Task>().add(matched).build(), sort));
+
+                assertFalse(expected.isEmpty());
+                assertEquals(expected, ids(jpql.findAll(filter, sort)), sort.toString());
+                assertEquals(expected.size(), jpql.count(filter));
+
+                if (sort.isSorted()) {
+                    assertEquals(expected.subList(0, 5), ids(jpql.findAll(filter, PageRequest.of(0, 5, sort))
+                            .getContent()), sort.toString());
+                }
+            }
+
+            return null;
+        });
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+
+class SpecKeysetTest {
+
+    private static final int PAGE_SIZE = 7;
+
+    @Test
+    void seeksThePagesAfterTheCursors() {
+        List<Long> expected = TestDatabase.findTasks().stream()
+                .sorted(Comparator.comparing(Task::getAmount).reversed().thenComparing(Task::getId))
+                .map(Task::getId)
+                .collect(Collectors.toList());
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            SpecKeyset<Task> keyset = new SpecKeyset<Task>().desc("amount").tieBreaker("id").after(cursor);
+            List<Task> page = findPage(keyset);
+
+            page.forEach(task -> ids.add(task.getId()));
+            cursor = keyset.cursor(page);
+        } while (cursor != null);
+
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    void bindsTheValuesOfTheCursorsInTheSameSql() {
+        SpecKeyset<Task> first = new SpecKeyset<Task>().desc("amount").tieBreaker("id");
+        SpecKeyset<Task> second = new SpecKeyset<Task>().desc("amount").tieBreaker("id")
+                .after(first.cursor(findPage(first)));
+        Set<String> sqls = new HashSet<>();
+
+        SqlRecorder.clear();
+        findPage(second);
+        sqls.addAll(SqlRecorder.getStatements());
+
+        SqlRecorder.clear();
+        findPage(new SpecKeyset<Task>().desc("amount").tieBreaker("id").after(second.cursor(findPage(second))));
+        sqls.addAll(SqlRecorder.getStatements());
+
+        assertEquals(1, sqls.size());
+    }
+
+    @Test
+    void rejectsTheCursorsWithOtherNumberOfValues() {
+        SpecKeyset<Task> keyset = new SpecKeyset<Task>().desc("amount").tieBreaker("id");
+        String signature = "-amount,+id,";
+
+        keyset.after(SpecKeysetCursor.encode(signature, Arrays.asList(10L, 5L)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> keyset.after(SpecKeysetCursor.encode(signature, Collections.singletonList(10L))));
+        assertThrows(IllegalArgumentException.class,
+                () -> keyset.after(SpecKeysetCursor.encode(signature, Arrays.asList(10L, 5L, 1L))));
+    }
+
+    private static List<Task> findPage(SpecKeyset<Task> keyset) {
+        Specification<Task> spec = keyset.build();
+
+        return TestDatabase.apply(entityManager -> {
+            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+            CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+            Root<Task> root = query.from(Task.class);
+
+            if (spec != null) {
+                query.where(spec.toPredicate(root, query, criteriaBuilder));
+            }
+
+            query.orderBy(QueryUtils.toOrders(keyset.getSort(), root, criteriaBuilder));
+
+            return entityManager.createQuery(query).setMaxResults(PAGE_SIZE).getResultList();
+        });
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+import com.github.fagnerlima.springspecificationtools.util.StringUtils;
+
+class SpecOperationTest {
+
+    private static final String DESCRIPTION_INDEX = "IDX_TASK_DESCRIPTION: DESCRIPTION >= 'Task 1'";
+
+    @Test
+    void startsWithUsesTheIndexOfTheProperty() {
+        String plan = explain(SpecOperation.STARTS_WITH, "Task 1", "Task 1%");
+
+        assertTrue(plan.contains(DESCRIPTION_INDEX), plan);
+    }
+
+    @Test
+    void likeScansTheTable() {
+        String plan = explain(SpecOperation.LIKE, "Task 1", "%Task%1%");
+
+        assertFalse(plan.contains(DESCRIPTION_INDEX), plan);
+    }
+
+    @Test
+    void startsWithEscapesTheWildcardsOfTheValue() {
+        Specification<Task> spec = new SpecFactory<Task>().create("description", SpecOperation.STARTS_WITH, "Task _");
+        List<Task> tasks = TestDatabase.apply(entityManager -> TestDatabase.findAll(entityManager, Task.class, spec));
+
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void endsWithFindsTheSuffixes() {
+        Specification<Task> spec = new SpecFactory<Task>().create("description", SpecOperation.ENDS_WITH, "5");
+        List<Long> expected = TestDatabase.findTasks().stream()
+                .filter(task -> task.getDescription().endsWith("5"))
+                .map(Task::getId)
+                .collect(Collectors.toList());
+
+        assertEquals(expected, TestDatabase.apply(entityManager -> TestDatabase.findAll(entityManager, Task.class,
+                spec)).stream()
+                .map(Task::getId)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Run the query of the condition on the description, and EXPLAIN its SQL with the {@code pattern} and the
+     * escape character bound as the parameters.
+     */
+    private static String explain(SpecOperation operation, String value, String pattern) {
+        Specification<Task> spec = new SpecFactory<Task>().create("description", operation, value);
+
+        return TestDatabase.apply(entityManager -> {
+            SqlRecorder.clear();
+            find(entityManager, spec);
+
+            List<String> statements = SqlRecorder.getStatements();
+            String[] plan = new String[1];
+
+            assertEquals(1, statements.size());
+
+            entityManager.unwrap(Session.class).doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement("explain " + statements.get(0))) {
+                    statement.setString(1, pattern);
+
+                    // Hibernate binds the escape character too
+                    if (statement.getParameterMetaData().getParameterCount() > 1) {
+                        statement.setString(2, String.valueOf(StringUtils.LIKE_ESCAPE_CHAR));
+                    }
+
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        plan[0] = resultSet.getString(1);
+                    }
+                }
+            });
+
+            return plan[0];
+        });
+    }
+
+    private static List<Task> find(EntityManager entityManager, Specification<Task> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+
+        return entityManager.createQuery(query.where(spec.toPredicate(root, query, criteriaBuilder))).getResultList();
+    }
+
+}
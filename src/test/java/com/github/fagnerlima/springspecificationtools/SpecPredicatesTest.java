@@ -0,0 +1,118 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+import com.github.fagnerlima.springspecificationtools.filter.CategoryOrDescriptionFilter;
+import com.github.fagnerlima.springspecificationtools.filter.GroupTaskFilter;
+import com.github.fagnerlima.springspecificationtools.filter.NumberTaskFilter;
+import com.github.fagnerlima.springspecificationtools.filter.PeriodFilter;
+import com.github.fagnerlima.springspecificationtools.filter.PeriodTaskFilter;
+import com.github.fagnerlima.springspecificationtools.filter.TagTaskFilter;
+import com.github.fagnerlima.springspecificationtools.filter.TaskFilter;
+
+/**
+ * Conformance of the predicates of {@link SpecPredicates} with the queries of {@link SpecBuilder} on H2.
+ */
+class SpecPredicatesTest {
+
+    @Test
+    void matchesTheConditionsOfTheRoot() {
+        TaskFilter filter = new TaskFilter();
+        filter.setDescription("task 1");
+        filter.setStatus(Task.Status.OPEN);
+        filter.setMinAmount(10L);
+        filter.setMaxAmount(90L);
+
+        assertSameMatches(filter);
+    }
+
+    @Test
+    void matchesTheConditionsOfTheJoins() {
+        TagTaskFilter filter = new TagTaskFilter();
+        filter.setTagId(Arrays.asList(1L, 2L, 3L));
+        filter.setTagDescription("tag");
+
+        assertSameMatches(filter);
+    }
+
+    @Test
+    void matchesTheNumbersOfOtherTypes() {
+        NumberTaskFilter filter = new NumberTaskFilter();
+        filter.setIds(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20));
+        filter.setMinAmount(20);
+        filter.setPriorityToAmount(BigDecimal.valueOf(2));
+
+        assertSameMatches(filter);
+    }
+
+    @Test
+    void matchesTheFractionalBoundsOfTheRanges() {
+        NumberTaskFilter filter = new NumberTaskFilter();
+        filter.setPriorityToAmount(new BigDecimal("2.5"));
+
+        assertSameMatches(filter);
+    }
+
+    @Test
+    void matchesThePeriods() {
+        PeriodFilter period = new PeriodFilter();
+        period.setStartDate(TestDatabase.START_DATE.plusDays(10));
+        period.setEndDate(TestDatabase.START_DATE.plusDays(20));
+
+        PeriodTaskFilter filter = new PeriodTaskFilter();
+        filter.setPeriod(period);
+
+        assertSameMatches(filter);
+    }
+
+    @Test
+    void rejectsThePathsThroughANullAssociationInAnOrGroup() {
+        CategoryOrDescriptionFilter categoryOrDescription = new CategoryOrDescriptionFilter();
+        categoryOrDescription.setCategoryDescription("Tag 1");
+        categoryOrDescription.setDescription("task 3");
+
+        GroupTaskFilter filter = new GroupTaskFilter();
+        filter.setCategoryOrDescription(categoryOrDescription);
+
+        List<Long> matched = assertSameMatches(filter);
+        List<Long> withoutCategory = TestDatabase.findTasks().stream()
+                .filter(task -> task.getCategory() == null && task.getDescription().startsWith("Task 3"))
+                .map(Task::getId)
+                .collect(Collectors.toList());
+
+        assertFalse(withoutCategory.isEmpty());
+        withoutCategory.forEach(id -> assertFalse(matched.contains(id)));
+    }
+
+    /**
+     * Assert that the predicate of {@code filter} matches the tasks of its query, and return their ids.
+     */
+    private static List<Long> assertSameMatches(Object filter) {
+        Predicate<Task> predicate = SpecPredicates.compile(filter);
+        List<Long> expected = TestDatabase.apply(entityManager -> TestDatabase.findAll(entityManager, Task.class,
+                new SpecBuilder<Task>().add(filter).build())).stream()
+                .map(Task::getId)
+                .distinct()
+                .collect(Collectors.toList());
+        List<Long> matched = TestDatabase.findTasks().stream()
+                .filter(predicate)
+                .map(Task::getId)
+                .collect(Collectors.toList());
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, matched);
+
+        return matched;
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+import com.github.fagnerlima.springspecificationtools.filter.TagTaskFilter;
+
+class SpecProjectionExecutorTest {
+
+    private static final int PAGE_SIZE = 5;
+
+    @Test
+    void keepsTheRowsWithANullAssociation() {
+        List<TaskSummary> summaries = TestDatabase.apply(entityManager -> new SpecProjectionExecutor<>(entityManager,
+                Task.class).findAll(null, TaskSummary.class, Sort.by("id"), "id", "category.description"));
+
+        assertEquals(TestDatabase.TASKS, summaries.size());
+        assertEquals(TestDatabase.findTasks().stream()
+                .map(task -> task.getCategory() != null ? task.getCategory().getDescription() : null)
+                .collect(Collectors.toList()),
+                summaries.stream().map(TaskSummary::getDescription).collect(Collectors.toList()));
+    }
+
+    @Test
+    void sortsADistinctQueryByAPropertyThatIsNotSelected() {
+        TagTaskFilter filter = new TagTaskFilter();
+        filter.setTagId(Collections.singletonList(1L));
+
+        List<Long> expected = TestDatabase.findTasks().stream()
+                .filter(task -> task.getTags().stream().anyMatch(tag -> tag.getId().equals(1L)))
+                .sorted(Comparator.comparing(Task::getAmount))
+                .map(Task::getId)
+                .collect(Collectors.toList());
+
+        List<TaskSummary> summaries = TestDatabase.apply(entityManager -> new SpecProjectionExecutor<>(entityManager,
+                Task.class).findAll(new SpecBuilder<Task>().add(filter).build(), TaskSummary.class,
+                        Sort.by("amount"), "id", "description"));
+        Page<TaskSummary> page = TestDatabase.apply(entityManager -> new SpecProjectionExecutor<>(entityManager,
+                Task.class).findAll(new SpecBuilder<Task>().add(filter).build(), TaskSummary.class,
+                        PageRequest.of(1, PAGE_SIZE, Sort.by("amount")), "id", "description"));
+
+        assertEquals(expected, summaries.stream().map(TaskSummary::getId).collect(Collectors.toList()));
+        assertEquals(expected.subList(PAGE_SIZE, 2 * PAGE_SIZE),
+                page.map(TaskSummary::getId).getContent());
+        assertEquals(expected.size(), page.getTotalElements());
+    }
+
+    /**
+     * DTO of the id of the task and of a description.
+     */
+    public static class TaskSummary {
+
+        private final Long id;
+        private final String description;
+
+        public TaskSummary(Long id, String description) {
+            this.id = id;
+            this.description = description;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+    }
+
+}
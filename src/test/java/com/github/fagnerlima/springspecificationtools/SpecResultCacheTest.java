@@ -0,0 +1,71 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.fagnerlima.springspecificationtools.domain.Tag;
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+import com.github.fagnerlima.springspecificationtools.filter.TagTaskFilter;
+import com.github.fagnerlima.springspecificationtools.filter.TaskFilter;
+
+class SpecResultCacheTest {
+
+    @Test
+    void invalidatesTheResultsThatJoinTheChangedClass() {
+        TagTaskFilter tagFilter = new TagTaskFilter();
+        tagFilter.setTagId(Arrays.asList(1L, 2L));
+
+        TaskFilter taskFilter = new TaskFilter();
+        taskFilter.setMinAmount(50L);
+
+        SpecResultCache cache = new SpecResultCache(10, Duration.ofMinutes(1));
+
+        findAll(cache, new SpecBuilder<Task>().add(tagFilter).build());
+        findAll(cache, new SpecBuilder<Task>().add(taskFilter).build());
+        assertEquals(2, cache.getStats().getSize());
+
+        cache.invalidate(Tag.class);
+        assertEquals(1, cache.getStats().getSize());
+
+        cache.invalidate(Task.class);
+        assertEquals(0, cache.getStats().getSize());
+    }
+
+    @Test
+    void invalidatesAfterTheCompletionOfTheTransaction() {
+        TagTaskFilter filter = new TagTaskFilter();
+        filter.setTagId(Arrays.asList(1L, 2L));
+
+        SpecResultCache cache = new SpecResultCache(10, null);
+        findAll(cache, new SpecBuilder<Task>().add(filter).build());
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            new SpecResultCacheListener().invalidate(new Tag());
+            assertEquals(1, cache.getStats().getSize());
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+
+            assertEquals(0, cache.getStats().getSize());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void findAll(SpecResultCache cache, Specification<Task> spec) {
+        TestDatabase.apply(entityManager -> new SpecExecutor<>(new SimpleJpaRepository<>(Task.class, entityManager),
+                Task.class, cache).findAll(spec));
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.fagnerlima.springspecificationtools.filter.TaskFilter;
+import com.github.fagnerlima.springspecificationtools.invalid.MisnamedTaskFilter;
+
+class SpecWarmupTest {
+
+    @Test
+    void primesTheShapesOfEachField() {
+        SpecWarmup.Report report = new SpecWarmup(TestDatabase.getEntityManagerFactory(),
+                TaskFilter.class.getPackage().getName()).primeQueries(true).run();
+
+        assertEquals(6, report.getFilterClasses());
+        // one shape for each field and one with all of the fields of the filters with more than one field
+        assertEquals(6 + 3 + 4 + 1 + 3 + 5, report.getShapes());
+    }
+
+    @Test
+    void failsOnAMisnamedProperty() {
+        SpecWarmup warmup = new SpecWarmup(TestDatabase.getEntityManagerFactory(),
+                MisnamedTaskFilter.class.getPackage().getName());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, warmup::run);
+
+        assertTrue(exception.getMessage().contains(MisnamedTaskFilter.class.getName() + ".description"),
+                exception.getMessage());
+        assertTrue(exception.getMessage().contains("descripton"), exception.getMessage());
+    }
+
+}
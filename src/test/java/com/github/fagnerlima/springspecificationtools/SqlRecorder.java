@@ -0,0 +1,50 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL statements run by Hibernate in the tests.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public class SqlRecorder implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (STATEMENTS) {
+            STATEMENTS.add(sql);
+        }
+
+        return sql;
+    }
+
+    /**
+     * Discard the recorded statements, after the creation of the database, so its statements are not recorded.
+     */
+    public static void clear() {
+        TestDatabase.getEntityManagerFactory();
+
+        synchronized (STATEMENTS) {
+            STATEMENTS.clear();
+        }
+    }
+
+    /**
+     * Get the statements recorded since the last {@link #clear()}.
+     *
+     * @return the statements
+     */
+    public static List<String> getStatements() {
+        synchronized (STATEMENTS) {
+            return new ArrayList<>(STATEMENTS);
+        }
+    }
+
+}
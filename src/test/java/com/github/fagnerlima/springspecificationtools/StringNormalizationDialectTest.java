@@ -0,0 +1,37 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+
+class StringNormalizationDialectTest {
+
+    @Test
+    void inlinesTheLiteralsOfTheTemplates() {
+        StringNormalizationDialect dialect = StringNormalizationDialect.of("lower({x})",
+                "translate(lower({x}), 'áé''', 'ae ')", null);
+        Specification<Task> spec = new SpecFactory<Task>().dialect(dialect)
+                .create("description", SpecOperation.EQUAL_IGNORE_CASE_UNACCENT, "TÁSK 1");
+
+        SqlRecorder.clear();
+
+        List<String> descriptions = TestDatabase.apply(entityManager -> TestDatabase.findAll(entityManager,
+                Task.class, spec)).stream()
+                .map(Task::getDescription)
+                .collect(Collectors.toList());
+        String sql = SqlRecorder.getStatements().get(0);
+
+        assertTrue(sql.contains("translate(lower(task0_.description), 'áé''', 'ae ')"), sql);
+        assertEquals(1, sql.chars().filter(c -> c == '?').count(), sql);
+        assertEquals(1, descriptions.size());
+        assertEquals("Task 1", descriptions.get(0));
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.github.fagnerlima.springspecificationtools;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.github.fagnerlima.springspecificationtools.domain.Period;
+import com.github.fagnerlima.springspecificationtools.domain.Tag;
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+
+/**
+ * The in-memory H2 database of the tests, created and populated once per JVM. One in ten tasks has no tags and
+ * one in four has no category.
+ * @author Fagner Lima
+ * @since 0.4.0
+ */
+public final class TestDatabase {
+
+    public static final int TASKS = 60;
+    public static final int TAGS = 6;
+    public static final LocalDate START_DATE = LocalDate.of(2020, 1, 1);
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    private TestDatabase() {
+    }
+
+    /**
+     * Get the EntityManagerFactory of the database, creating and populating it on the first call. The default
+     * dialect of the operations that ignore case is defined as {@link StringNormalizationDialect#h2()}.
+     *
+     * @return the EntityManagerFactory
+     */
+    public static synchronized EntityManagerFactory getEntityManagerFactory() {
+        if (entityManagerFactory == null) {
+            SpecFactory.setDefaultDialect(StringNormalizationDialect.h2());
+            entityManagerFactory = Persistence.createEntityManagerFactory("test");
+            populate(entityManagerFactory);
+        }
+
+        return entityManagerFactory;
+    }
+
+    /**
+     * Apply the function to a new EntityManager, closed after the call.
+     *
+     * @param function the function
+     * @return the result of the function
+     */
+    public static <R> R apply(Function<EntityManager, R> function) {
+        EntityManager entityManager = getEntityManagerFactory().createEntityManager();
+
+        try {
+            return function.apply(entityManager);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * Find the entities that satisfy the Specification with a Criteria query, ordered by the ids.
+     *
+     * @param entityManager the EntityManager
+     * @param entityClass the entity class
+     * @param spec the Specification, or {@code null}
+     * @return the entities
+     */
+    public static <T> List<T> findAll(EntityManager entityManager, Class<T> entityClass, Specification<T> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, criteriaBuilder) : null;
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query.orderBy(criteriaBuilder.asc(root.get("id")))).getResultList();
+    }
+
+    /**
+     * Find all of the tasks, with the tags and the category loaded, ordered by the ids.
+     *
+     * @return the tasks
+     */
+    public static List<Task> findTasks() {
+        return apply(entityManager -> {
+            SpecBuilder<Task> builder = new SpecBuilder<Task>().fetch("tags", "category");
+            List<Task> tasks = new SpecFetchExecutor<>(entityManager, Task.class)
+                    .findAll(builder.build(), builder.getFetchPlan());
+            tasks.sort(Comparator.comparing(Task::getId));
+
+            return tasks;
+        });
+    }
+
+    private static void populate(EntityManagerFactory entityManagerFactory) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+
+        try {
+            entityManager.getTransaction().begin();
+
+            List<Tag> tags = new ArrayList<>(TAGS);
+
+            for (int i = 0; i < TAGS; i++) {
+                Tag tag = new Tag("Tag " + i);
+                entityManager.persist(tag);
+                tags.add(tag);
+            }
+
+            for (int i = 0; i < TASKS; i++) {
+                LocalDate startDate = START_DATE.plusDays(i);
+
+                Task task = new Task(new Period(startDate, startDate.plusDays(i % 10)), "Task " + i,
+                        Task.Status.values()[i % Task.Status.values().length], (long) (i * 7 % 100),
+                        i % 10 == 9 ? new HashSet<>()
+                                : new HashSet<>(Arrays.asList(tags.get(i % TAGS), tags.get((i * 5 + 2) % TAGS))));
+                task.setPriority(i % 5);
+                task.setCategory(i % 4 == 3 ? null : tags.get(i % TAGS));
+                entityManager.persist(task);
+            }
+
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+}
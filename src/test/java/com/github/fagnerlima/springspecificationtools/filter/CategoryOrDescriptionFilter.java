@@ -0,0 +1,37 @@
+package com.github.fagnerlima.springspecificationtools.filter;
+
+import java.io.Serializable;
+
+import com.github.fagnerlima.springspecificationtools.SpecOperation;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecField;
+
+/**
+ * Group with a path through the nullable category, an implicit inner join of the whole query.
+ */
+public class CategoryOrDescriptionFilter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @SpecField("category.description")
+    private String categoryDescription;
+
+    @SpecField(operation = SpecOperation.LIKE_IGNORE_CASE)
+    private String description;
+
+    public String getCategoryDescription() {
+        return categoryDescription;
+    }
+
+    public void setCategoryDescription(String categoryDescription) {
+        this.categoryDescription = categoryDescription;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.github.fagnerlima.springspecificationtools.filter;
+
+import java.io.Serializable;
+
+import com.github.fagnerlima.springspecificationtools.SpecOperator;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecGroup;
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+
+/**
+ * Filter with a nested group of conditions, combined with OR.
+ */
+@SpecEntity(Task.class)
+public class GroupTaskFilter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Task.Status status;
+
+    @SpecGroup(operator = SpecOperator.OR)
+    private CategoryOrDescriptionFilter categoryOrDescription;
+
+    public Task.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Task.Status status) {
+        this.status = status;
+    }
+
+    public CategoryOrDescriptionFilter getCategoryOrDescription() {
+        return categoryOrDescription;
+    }
+
+    public void setCategoryOrDescription(CategoryOrDescriptionFilter categoryOrDescription) {
+        this.categoryOrDescription = categoryOrDescription;
+    }
+
+}
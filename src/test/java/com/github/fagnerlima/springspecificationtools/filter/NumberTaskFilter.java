@@ -0,0 +1,55 @@
+package com.github.fagnerlima.springspecificationtools.filter;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.github.fagnerlima.springspecificationtools.SpecOperation;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecBetween;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecField;
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+
+/**
+ * Filter with numeric values of other types than the properties: Integer for the Long ones, and BigDecimal for the
+ * range of the Integer priority and the Long amount.
+ */
+@SpecEntity(Task.class)
+public class NumberTaskFilter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @SpecField("id")
+    private List<Integer> ids;
+
+    @SpecField(value = "amount", operation = SpecOperation.GREATER_THAN_OR_EQUAL)
+    private Integer minAmount;
+
+    @SpecBetween(left = "priority", right = "amount")
+    private BigDecimal priorityToAmount;
+
+    public List<Integer> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Integer> ids) {
+        this.ids = ids;
+    }
+
+    public Integer getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(Integer minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public BigDecimal getPriorityToAmount() {
+        return priorityToAmount;
+    }
+
+    public void setPriorityToAmount(BigDecimal priorityToAmount) {
+        this.priorityToAmount = priorityToAmount;
+    }
+
+}
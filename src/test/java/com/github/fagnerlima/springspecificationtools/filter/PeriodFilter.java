@@ -0,0 +1,35 @@
+package com.github.fagnerlima.springspecificationtools.filter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import com.github.fagnerlima.springspecificationtools.annotation.SpecPeriodEndDate;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecPeriodStartDate;
+
+public class PeriodFilter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @SpecPeriodStartDate
+    private LocalDate startDate;
+
+    @SpecPeriodEndDate
+    private LocalDate endDate;
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.github.fagnerlima.springspecificationtools.filter;
+
+import java.io.Serializable;
+
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecPeriod;
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+
+/**
+ * Filter with the period of the task.
+ */
+@SpecEntity(Task.class)
+public class PeriodTaskFilter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @SpecPeriod(start = "period.startDate", end = "period.endDate")
+    private PeriodFilter period;
+
+    public PeriodFilter getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(PeriodFilter period) {
+        this.period = period;
+    }
+
+}
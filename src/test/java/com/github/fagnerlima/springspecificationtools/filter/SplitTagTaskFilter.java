@@ -0,0 +1,72 @@
+package com.github.fagnerlima.springspecificationtools.filter;
+
+import java.io.Serializable;
+import java.util.List;
+
+import javax.persistence.criteria.JoinType;
+
+import com.github.fagnerlima.springspecificationtools.SpecJoinStrategy;
+import com.github.fagnerlima.springspecificationtools.SpecOperation;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecField;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecJoin;
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+
+/**
+ * Filter with conditions on the tags bound to different elements: an INNER join, a LEFT join and an EXISTS
+ * subquery.
+ */
+@SpecEntity(Task.class)
+public class SplitTagTaskFilter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @SpecJoin
+    @SpecField(value = "tags.id", operation = SpecOperation.GREATER_THAN_OR_EQUAL)
+    private Long minTagId;
+
+    @SpecJoin(strategy = SpecJoinStrategy.EXISTS)
+    @SpecField(value = "tags.id", operation = SpecOperation.LESS_THAN_OR_EQUAL)
+    private Long maxExistsTagId;
+
+    @SpecJoin
+    @SpecField("tags.id")
+    private List<Long> tagIds;
+
+    @SpecJoin(type = JoinType.LEFT)
+    @SpecField("tags.id")
+    private List<Long> leftTagIds;
+
+    public Long getMinTagId() {
+        return minTagId;
+    }
+
+    public void setMinTagId(Long minTagId) {
+        this.minTagId = minTagId;
+    }
+
+    public Long getMaxExistsTagId() {
+        return maxExistsTagId;
+    }
+
+    public void setMaxExistsTagId(Long maxExistsTagId) {
+        this.maxExistsTagId = maxExistsTagId;
+    }
+
+    public List<Long> getTagIds() {
+        return tagIds;
+    }
+
+    public void setTagIds(List<Long> tagIds) {
+        this.tagIds = tagIds;
+    }
+
+    public List<Long> getLeftTagIds() {
+        return leftTagIds;
+    }
+
+    public void setLeftTagIds(List<Long> leftTagIds) {
+        this.leftTagIds = leftTagIds;
+    }
+
+}
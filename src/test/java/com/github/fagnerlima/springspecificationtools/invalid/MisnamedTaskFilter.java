@@ -0,0 +1,28 @@
+package com.github.fagnerlima.springspecificationtools.invalid;
+
+import java.io.Serializable;
+
+import com.github.fagnerlima.springspecificationtools.annotation.SpecEntity;
+import com.github.fagnerlima.springspecificationtools.annotation.SpecField;
+import com.github.fagnerlima.springspecificationtools.domain.Task;
+
+/**
+ * Filter with a misnamed property, rejected by the SpecWarmup.
+ */
+@SpecEntity(Task.class)
+public class MisnamedTaskFilter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @SpecField("descripton")
+    private String description;
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+}